@@ -19,6 +19,7 @@ package org.springframework.graphql.docs.client.websocketgraphqlclient;
 import java.time.Duration;
 
 import org.springframework.graphql.client.WebSocketGraphQlClient;
+import org.springframework.graphql.client.WebSocketReconnectPolicy;
 import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
 import org.springframework.web.reactive.socket.client.WebSocketClient;
 
@@ -64,4 +65,19 @@ public class WebSocketClientUsage {
 		// end::keepAlive[]
 	}
 
+	void reconnect() {
+		// tag::reconnect[]
+		String url = "wss://spring.io/graphql";
+		WebSocketClient client = new ReactorNettyWebSocketClient();
+
+		WebSocketReconnectPolicy policy = WebSocketReconnectPolicy.backoff(Duration.ofMillis(500), Duration.ofSeconds(30))
+				.resubscribeRate(50)
+				.resumeCursor("resumeFrom", (response) -> response.field("orderEvents.id").getValue());
+
+		WebSocketGraphQlClient graphQlClient = WebSocketGraphQlClient.builder(url, client)
+				.reconnectPolicy(policy)
+				.build();
+		// end::reconnect[]
+	}
+
 }
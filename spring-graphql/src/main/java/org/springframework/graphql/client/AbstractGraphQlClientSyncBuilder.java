@@ -192,7 +192,10 @@ public abstract class AbstractGraphQlClientSyncBuilder<B extends AbstractGraphQl
 				.orElse(chain);
 	}
 
-	private HttpMessageConverter<Object> getJsonConverter() {
+	/**
+	 * Access to the configured JSON converter.
+	 */
+	protected HttpMessageConverter<Object> getJsonConverter() {
 		Assert.notNull(this.jsonConverter, "jsonConverter has not been set");
 		return this.jsonConverter;
 	}
@@ -17,6 +17,7 @@
 package org.springframework.graphql.client;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
@@ -32,6 +33,7 @@ import org.springframework.http.codec.CodecConfigurer;
 import org.springframework.http.codec.DecoderHttpMessageReader;
 import org.springframework.http.codec.EncoderHttpMessageWriter;
 import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
@@ -39,12 +41,23 @@ import org.springframework.web.reactive.socket.WebSocketSession;
 /**
  * Helper class for encoding and decoding GraphQL messages.
  *
+ * <p>Messages are encoded as JSON in text frames by default. If a binary
+ * {@link MimeType} such as CBOR or Smile is configured, the client also
+ * requests a binary variant of the "graphql-transport-ws" subprotocol, and if
+ * the server selects it, messages are encoded in binary frames.
+ *
  * @author Rossen Stoyanchev
  */
 final class CodecDelegate {
 
 	private static final ResolvableType MESSAGE_TYPE = ResolvableType.forClass(GraphQlWebSocketMessage.class);
 
+	private static final String SUB_PROTOCOL = "graphql-transport-ws";
+
+	private static final Map<MimeType, String> BINARY_SUB_PROTOCOLS = Map.of(
+			MediaType.APPLICATION_CBOR, SUB_PROTOCOL + "+cbor",
+			new MediaType("application", "x-jackson-smile"), SUB_PROTOCOL + "+smile");
+
 
 	private final CodecConfigurer codecConfigurer;
 
@@ -52,12 +65,40 @@ final class CodecDelegate {
 
 	private final Encoder<?> encoder;
 
+	private final @Nullable BinaryCodec binaryCodec;
+
 
 	CodecDelegate(CodecConfigurer configurer) {
+		this(configurer, null);
+	}
+
+	CodecDelegate(CodecConfigurer configurer, @Nullable MimeType binaryMimeType) {
 		Assert.notNull(configurer, "CodecConfigurer is required");
 		this.codecConfigurer = configurer;
 		this.decoder = findJsonDecoder(configurer);
 		this.encoder = findJsonEncoder(configurer);
+		this.binaryCodec = (binaryMimeType != null) ? initBinaryCodec(configurer, binaryMimeType) : null;
+	}
+
+	private static BinaryCodec initBinaryCodec(CodecConfigurer configurer, MimeType mimeType) {
+		String subProtocol = BINARY_SUB_PROTOCOLS.get(mimeType);
+		if (subProtocol == null) {
+			throw new IllegalArgumentException(
+					"Unsupported binary MimeType " + mimeType + ", expected one of " + BINARY_SUB_PROTOCOLS.keySet());
+		}
+		Encoder<?> encoder = configurer.getWriters().stream()
+				.filter((writer) -> writer instanceof EncoderHttpMessageWriter)
+				.map((writer) -> ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+				.filter((candidate) -> candidate.canEncode(MESSAGE_TYPE, mimeType))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("No Encoder for " + mimeType));
+		Decoder<?> decoder = configurer.getReaders().stream()
+				.filter((reader) -> reader instanceof DecoderHttpMessageReader)
+				.map((reader) -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+				.filter((candidate) -> candidate.canDecode(MESSAGE_TYPE, mimeType))
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("No Decoder for " + mimeType));
+		return new BinaryCodec(subProtocol, mimeType, encoder, decoder);
 	}
 
 	static Encoder<?> findJsonEncoder(CodecConfigurer configurer) {
@@ -99,9 +140,28 @@ final class CodecDelegate {
 		return this.codecConfigurer;
 	}
 
+	@Nullable MimeType getBinaryMimeType() {
+		return (this.binaryCodec != null) ? this.binaryCodec.mimeType() : null;
+	}
+
+	/**
+	 * Return the subprotocols to request, in order of preference.
+	 */
+	List<String> getSubProtocols() {
+		return (this.binaryCodec != null) ?
+				List.of(this.binaryCodec.subProtocol(), SUB_PROTOCOL) : List.of(SUB_PROTOCOL);
+	}
+
 
 	@SuppressWarnings("unchecked")
 	<T> WebSocketMessage encode(WebSocketSession session, GraphQlWebSocketMessage message) {
+		BinaryCodec codec = this.binaryCodec;
+		if (codec != null && codec.subProtocol().equals(session.getHandshakeInfo().getSubProtocol())) {
+			DataBuffer buffer = ((Encoder<T>) codec.encoder()).encodeValue(
+					(T) message, session.bufferFactory(), MESSAGE_TYPE, codec.mimeType(), null);
+
+			return new WebSocketMessage(WebSocketMessage.Type.BINARY, buffer);
+		}
 
 		DataBuffer buffer = ((Encoder<T>) this.encoder).encodeValue(
 				(T) message, session.bufferFactory(), MESSAGE_TYPE, MimeTypeUtils.APPLICATION_JSON, null);
@@ -112,7 +172,18 @@ final class CodecDelegate {
 	@SuppressWarnings("ConstantConditions")
 	@Nullable GraphQlWebSocketMessage decode(WebSocketMessage webSocketMessage) {
 		DataBuffer buffer = DataBufferUtils.retain(webSocketMessage.getPayload());
+		BinaryCodec codec = this.binaryCodec;
+		if (codec != null && webSocketMessage.getType() == WebSocketMessage.Type.BINARY) {
+			return (GraphQlWebSocketMessage) codec.decoder().decode(buffer, MESSAGE_TYPE, codec.mimeType(), null);
+		}
 		return (GraphQlWebSocketMessage) this.decoder.decode(buffer, MESSAGE_TYPE, null, null);
 	}
 
+
+	/**
+	 * Encoder and Decoder for a binary subprotocol.
+	 */
+	private record BinaryCodec(String subProtocol, MimeType mimeType, Encoder<?> encoder, Decoder<?> decoder) {
+	}
+
 }
@@ -40,6 +40,8 @@ final class DefaultHttpGraphQlClientBuilder
 
 	private final WebClient.Builder webClientBuilder;
 
+	private HttpGetMode httpGetMode = HttpGetMode.NONE;
+
 
 	/**
 	 * Constructor to start without a WebClient instance.
@@ -100,6 +102,13 @@ final class DefaultHttpGraphQlClientBuilder
 		return this;
 	}
 
+	@Override
+	public DefaultHttpGraphQlClientBuilder httpGetMode(HttpGetMode httpGetMode) {
+		Assert.notNull(httpGetMode, "HttpGetMode is required");
+		this.httpGetMode = httpGetMode;
+		return this;
+	}
+
 	@Override
 	public HttpGraphQlClient build() {
 
@@ -111,8 +120,11 @@ final class DefaultHttpGraphQlClientBuilder
 
 		WebClient webClient = this.webClientBuilder.build();
 
-		GraphQlClient graphQlClient = super.buildGraphQlClient(new HttpGraphQlTransport(webClient));
-		return new DefaultHttpGraphQlClient(graphQlClient, webClient, getBuilderInitializer());
+		HttpGetSupport getSupport = (this.httpGetMode != HttpGetMode.NONE) ?
+				new HttpGetSupport(this.httpGetMode, getJsonEncoder()) : null;
+
+		GraphQlClient graphQlClient = super.buildGraphQlClient(new HttpGraphQlTransport(webClient, getSupport));
+		return new DefaultHttpGraphQlClient(graphQlClient, webClient, this.httpGetMode, getBuilderInitializer());
 	}
 
 
@@ -123,10 +135,12 @@ final class DefaultHttpGraphQlClientBuilder
 
 		private final WebClient webClient;
 
+		private final HttpGetMode httpGetMode;
+
 		private final Consumer<AbstractGraphQlClientBuilder<?>> builderInitializer;
 
 		DefaultHttpGraphQlClient(
-				GraphQlClient delegate, WebClient webClient,
+				GraphQlClient delegate, WebClient webClient, HttpGetMode httpGetMode,
 				Consumer<AbstractGraphQlClientBuilder<?>> builderInitializer) {
 
 			super(delegate);
@@ -135,12 +149,14 @@ final class DefaultHttpGraphQlClientBuilder
 			Assert.notNull(builderInitializer, "`builderInitializer` is required");
 
 			this.webClient = webClient;
+			this.httpGetMode = httpGetMode;
 			this.builderInitializer = builderInitializer;
 		}
 
 		@Override
 		public DefaultHttpGraphQlClientBuilder mutate() {
 			DefaultHttpGraphQlClientBuilder builder = new DefaultHttpGraphQlClientBuilder(this.webClient);
+			builder.httpGetMode(this.httpGetMode);
 			this.builderInitializer.accept(builder);
 			return builder;
 		}
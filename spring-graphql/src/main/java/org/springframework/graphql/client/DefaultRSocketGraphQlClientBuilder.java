@@ -29,9 +29,12 @@ import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
+import org.springframework.http.codec.cbor.JacksonCborDecoder;
+import org.springframework.http.codec.cbor.JacksonCborEncoder;
 import org.springframework.messaging.rsocket.RSocketRequester;
 import org.springframework.messaging.rsocket.RSocketStrategies;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
@@ -46,6 +49,9 @@ final class DefaultRSocketGraphQlClientBuilder
 		extends AbstractGraphQlClientBuilder<DefaultRSocketGraphQlClientBuilder>
 		implements RSocketGraphQlClient.Builder<DefaultRSocketGraphQlClientBuilder> {
 
+	private static final boolean jacksonCborPresent = ClassUtils.isPresent(
+			"tools.jackson.dataformat.cbor.CBORMapper", DefaultRSocketGraphQlClientBuilder.class.getClassLoader());
+
 	private final RSocketRequester.Builder requesterBuilder;
 
 	private @Nullable Publisher<List<LoadbalanceTarget>> targetPublisher;
@@ -70,11 +76,14 @@ final class DefaultRSocketGraphQlClientBuilder
 	private static RSocketRequester.Builder initRSocketRequestBuilder() {
 		RSocketRequester.Builder requesterBuilder = RSocketRequester.builder().dataMimeType(MimeTypeUtils.APPLICATION_JSON);
 		if (jacksonPresent) {
-			requesterBuilder.rsocketStrategies(
-					RSocketStrategies.builder()
-							.encoder(DefaultJacksonCodecs.encoder())
-							.decoder(DefaultJacksonCodecs.decoder())
-							.build());
+			RSocketStrategies.Builder strategiesBuilder = RSocketStrategies.builder()
+					.encoder(DefaultJacksonCodecs.encoder())
+					.decoder(DefaultJacksonCodecs.decoder());
+			if (jacksonCborPresent) {
+				// For use with dataMimeType(MediaType.APPLICATION_CBOR)
+				strategiesBuilder.encoder(new JacksonCborEncoder()).decoder(new JacksonCborDecoder());
+			}
+			requesterBuilder.rsocketStrategies(strategiesBuilder.build());
 		}
 		else if (jackson2Present) {
 			requesterBuilder.rsocketStrategies(
@@ -42,6 +42,8 @@ final class DefaultSyncHttpGraphQlClientBuilder
 
 	private final RestClient.Builder restClientBuilder;
 
+	private HttpGetMode httpGetMode = HttpGetMode.NONE;
+
 
 	/**
 	 * Constructor to start without a RestClient instance.
@@ -90,6 +92,13 @@ final class DefaultSyncHttpGraphQlClientBuilder
 		return this;
 	}
 
+	@Override
+	public DefaultSyncHttpGraphQlClientBuilder httpGetMode(HttpGetMode httpGetMode) {
+		Assert.notNull(httpGetMode, "HttpGetMode is required");
+		this.httpGetMode = httpGetMode;
+		return this;
+	}
+
 	@Override
 	@SuppressWarnings("removal")
 	public DefaultSyncHttpGraphQlClientBuilder messageConverters(Consumer<List<HttpMessageConverter<?>>> configurer) {
@@ -120,10 +129,14 @@ final class DefaultSyncHttpGraphQlClientBuilder
 			});
 		});
 		RestClient restClient = this.restClientBuilder.build();
-		HttpSyncGraphQlTransport transport = new HttpSyncGraphQlTransport(restClient);
+
+		HttpGetSupport getSupport = (this.httpGetMode != HttpGetMode.NONE) ?
+				new HttpGetSupport(this.httpGetMode, HttpMessageConverterDelegate.asEncoder(getJsonConverter())) : null;
+
+		HttpSyncGraphQlTransport transport = new HttpSyncGraphQlTransport(restClient, getSupport);
 
 		GraphQlClient graphQlClient = super.buildGraphQlClient(transport);
-		return new DefaultHttpSyncGraphQlClient(graphQlClient, restClient, getBuilderInitializer());
+		return new DefaultHttpSyncGraphQlClient(graphQlClient, restClient, this.httpGetMode, getBuilderInitializer());
 	}
 
 
@@ -135,10 +148,12 @@ final class DefaultSyncHttpGraphQlClientBuilder
 
 		private final RestClient restClient;
 
+		private final HttpGetMode httpGetMode;
+
 		private final Consumer<AbstractGraphQlClientSyncBuilder<?>> builderInitializer;
 
 		DefaultHttpSyncGraphQlClient(
-				GraphQlClient delegate, RestClient restClient,
+				GraphQlClient delegate, RestClient restClient, HttpGetMode httpGetMode,
 				Consumer<AbstractGraphQlClientSyncBuilder<?>> builderInitializer) {
 
 			super(delegate);
@@ -147,12 +162,14 @@ final class DefaultSyncHttpGraphQlClientBuilder
 			Assert.notNull(builderInitializer, "`builderInitializer` is required");
 
 			this.restClient = restClient;
+			this.httpGetMode = httpGetMode;
 			this.builderInitializer = builderInitializer;
 		}
 
 		@Override
 		public DefaultSyncHttpGraphQlClientBuilder mutate() {
 			DefaultSyncHttpGraphQlClientBuilder builder = new DefaultSyncHttpGraphQlClientBuilder(this.restClient);
+			builder.httpGetMode(this.httpGetMode);
 			this.builderInitializer.accept(builder);
 			return builder;
 		}
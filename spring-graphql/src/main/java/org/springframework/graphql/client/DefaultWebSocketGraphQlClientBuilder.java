@@ -29,6 +29,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.ClientCodecConfigurer;
 import org.springframework.http.codec.CodecConfigurer;
 import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
 import org.springframework.web.reactive.socket.client.WebSocketClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
@@ -53,6 +54,10 @@ final class DefaultWebSocketGraphQlClientBuilder
 
 	private @Nullable Duration keepAlive;
 
+	private @Nullable WebSocketReconnectPolicy reconnectPolicy;
+
+	private @Nullable MimeType dataMimeType;
+
 	/**
 	 * Constructor to start via {@link WebSocketGraphQlClient#builder(String, WebSocketClient)}.
 	 */
@@ -79,6 +84,8 @@ final class DefaultWebSocketGraphQlClientBuilder
 		this.webSocketClient = transport.getWebSocketClient();
 		this.codecConfigurer = transport.getCodecConfigurer();
 		this.keepAlive = transport.getKeepAlive();
+		this.reconnectPolicy = transport.getReconnectPolicy();
+		this.dataMimeType = transport.getDataMimeType();
 	}
 
 
@@ -121,6 +128,20 @@ final class DefaultWebSocketGraphQlClientBuilder
 		return this;
 	}
 
+	@Override
+	public WebSocketGraphQlClient.Builder<DefaultWebSocketGraphQlClientBuilder> reconnectPolicy(
+			WebSocketReconnectPolicy reconnectPolicy) {
+
+		this.reconnectPolicy = reconnectPolicy;
+		return this;
+	}
+
+	@Override
+	public WebSocketGraphQlClient.Builder<DefaultWebSocketGraphQlClientBuilder> dataMimeType(MimeType dataMimeType) {
+		this.dataMimeType = dataMimeType;
+		return this;
+	}
+
 	@Override
 	public WebSocketGraphQlClient build() {
 
@@ -129,7 +150,8 @@ final class DefaultWebSocketGraphQlClientBuilder
 				CodecDelegate.findJsonDecoder(this.codecConfigurer));
 
 		WebSocketGraphQlTransport transport = new WebSocketGraphQlTransport(
-				this.url, this.headers, this.webSocketClient, this.codecConfigurer, getInterceptor(), this.keepAlive);
+				this.url, this.headers, this.webSocketClient, this.codecConfigurer, getInterceptor(),
+				this.keepAlive, this.reconnectPolicy, this.dataMimeType);
 
 		GraphQlClient graphQlClient = super.buildGraphQlClient(transport);
 		return new DefaultWebSocketGraphQlClient(graphQlClient, transport, getBuilderInitializer());
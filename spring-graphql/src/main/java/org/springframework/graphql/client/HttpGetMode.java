@@ -0,0 +1,55 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.client;
+
+/**
+ * Options for {@link HttpGraphQlClient} and {@link HttpSyncGraphQlClient} to
+ * send query operations over HTTP GET, with the request encoded as URL query
+ * parameters, which allows HTTP caches to serve repeated queries.
+ * Mutations are always sent over HTTP POST.
+ *
+ * <p>Responses to GET requests are cached by the client according to the
+ * {@code Cache-Control} response header, and revalidated with a conditional
+ * request when the response has an {@code ETag}. The cache is shared by all
+ * callers of the client, and therefore responses with a {@code private} or
+ * {@code no-store} directive, and responses to requests with an
+ * {@code Authorization} or {@code Cookie} header are not cached.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public enum HttpGetMode {
+
+	/**
+	 * Send all requests over HTTP POST; this is the default.
+	 */
+	NONE,
+
+	/**
+	 * Send query operations over HTTP GET.
+	 */
+	QUERIES,
+
+	/**
+	 * Send query operations over HTTP GET only if sent as persisted queries,
+	 * i.e. with a document hash instead of the full document, which keeps the
+	 * URL short.
+	 * @see PersistedQueryClientInterceptor
+	 */
+	PERSISTED_QUERIES
+
+}
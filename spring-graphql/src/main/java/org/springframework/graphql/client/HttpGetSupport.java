@@ -0,0 +1,264 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.graphql.GraphQlRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriBuilder;
+
+/**
+ * Support for sending query operations over HTTP GET in HTTP transports,
+ * and for caching GET responses based on {@code Cache-Control} and
+ * {@code ETag} response headers.
+ *
+ * @author Rossen Stoyanchev
+ * @see HttpGetMode
+ */
+final class HttpGetSupport {
+
+	private static final ResolvableType MAP_TYPE = ResolvableType.forClass(Map.class);
+
+	private static final int CACHE_LIMIT = 1024;
+
+
+	private final HttpGetMode mode;
+
+	private final Encoder<?> jsonEncoder;
+
+	private final Map<String, Map<String, OperationDefinition.Operation>> operationTypeCache = new ConcurrentHashMap<>();
+
+	private final Map<Map<String, String>, CachedResponse> responseCache =
+			Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Map<String, String>, CachedResponse> eldest) {
+					return (size() > CACHE_LIMIT);
+				}
+			});
+
+
+	HttpGetSupport(HttpGetMode mode, Encoder<?> jsonEncoder) {
+		Assert.isTrue(mode != HttpGetMode.NONE, "HttpGetMode.NONE does not require HttpGetSupport");
+		Assert.notNull(jsonEncoder, "JSON Encoder is required");
+		this.mode = mode;
+		this.jsonEncoder = jsonEncoder;
+	}
+
+
+	HttpGetMode getMode() {
+		return this.mode;
+	}
+
+
+	/**
+	 * Return the URL query parameters for the request, if it can be sent over
+	 * HTTP GET, or {@code null} if it must be sent over HTTP POST.
+	 */
+	@Nullable Map<String, String> initQueryParams(GraphQlRequest request) {
+		Map<String, Object> map = request.toMap();
+		if (this.mode == HttpGetMode.PERSISTED_QUERIES && map.containsKey("query")) {
+			return null;
+		}
+		if (!isQueryOperation(request.getDocument(), request.getOperationName())) {
+			return null;
+		}
+		Map<String, String> params = new LinkedHashMap<>(map.size());
+		map.forEach((name, value) -> params.put(name, (value instanceof String text) ? text : encode(value)));
+		return params;
+	}
+
+	private boolean isQueryOperation(String document, @Nullable String operationName) {
+		Map<String, OperationDefinition.Operation> operations = this.operationTypeCache.get(document);
+		if (operations == null) {
+			operations = parseOperations(document);
+			if (this.operationTypeCache.size() < CACHE_LIMIT) {
+				this.operationTypeCache.put(document, operations);
+			}
+		}
+		if (operationName != null) {
+			return (operations.get(operationName) == OperationDefinition.Operation.QUERY);
+		}
+		return (operations.size() == 1 && operations.containsValue(OperationDefinition.Operation.QUERY));
+	}
+
+	private static Map<String, OperationDefinition.Operation> parseOperations(String document) {
+		try {
+			Document parsed = Parser.parse(document);
+			Map<String, OperationDefinition.Operation> result = new LinkedHashMap<>();
+			for (OperationDefinition definition : parsed.getDefinitionsOfType(OperationDefinition.class)) {
+				String name = (definition.getName() != null) ? definition.getName() : "";
+				result.put(name, definition.getOperation());
+			}
+			return result;
+		}
+		catch (InvalidSyntaxException ex) {
+			// Send over POST, and let the server report the error
+			return Map.of();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private String encode(Object value) {
+		DataBuffer buffer = ((Encoder<Object>) this.jsonEncoder).encodeValue(
+				value, DefaultDataBufferFactory.sharedInstance, MAP_TYPE, MediaType.APPLICATION_JSON, null);
+		try {
+			return buffer.toString(StandardCharsets.UTF_8);
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	/**
+	 * Add the given query parameters to the URI, encoding the values.
+	 */
+	static UriBuilder addQueryParams(UriBuilder builder, Map<String, String> params) {
+		params.keySet().forEach((name) -> builder.queryParam(name, "{" + name + "}"));
+		return builder;
+	}
+
+
+	// Response caching
+
+	/**
+	 * Return the cached response for the given request parameters, if present,
+	 * and if it is either fresh, or can be revalidated with its ETag.
+	 */
+	@Nullable CachedResponse getCachedResponse(Map<String, String> params) {
+		CachedResponse cached = this.responseCache.get(params);
+		if (cached != null && cached.etag() == null && !cached.isFresh()) {
+			this.responseCache.remove(params, cached);
+			return null;
+		}
+		return cached;
+	}
+
+	/**
+	 * Add the {@code If-None-Match} header if there is a cached response with an ETag.
+	 */
+	static void addConditionalHeaders(HttpHeaders headers, @Nullable CachedResponse cached) {
+		String etag = (cached != null) ? cached.etag() : null;
+		if (etag != null) {
+			headers.setIfNoneMatch(etag);
+		}
+	}
+
+	/**
+	 * Cache the response, if allowed by its {@code Cache-Control} header, and
+	 * if the request did not have credentials. The cache is shared by all
+	 * callers of the client, and is keyed by query parameters only, so
+	 * responses with a {@code private} or {@code no-store} directive, and
+	 * responses to requests with an {@code Authorization} or {@code Cookie}
+	 * header are not cached. Once the cache is full, the least recently used
+	 * response is evicted.
+	 */
+	void cacheResponse(
+			Map<String, String> params, HttpHeaders requestHeaders, HttpHeaders headers, Map<String, Object> body) {
+
+		String cacheControl = headers.getCacheControl();
+		String etag = headers.getETag();
+		long maxAge = parseMaxAge(cacheControl);
+		if (hasCredentials(requestHeaders) || hasDirective(cacheControl, "no-store") ||
+				hasDirective(cacheControl, "private") || (maxAge <= 0 && etag == null)) {
+			this.responseCache.remove(params);
+			return;
+		}
+		this.responseCache.put(params, new CachedResponse(body, etag, expiresAt(maxAge)));
+	}
+
+	private static boolean hasCredentials(HttpHeaders requestHeaders) {
+		return (requestHeaders.containsHeader(HttpHeaders.AUTHORIZATION) ||
+				requestHeaders.containsHeader(HttpHeaders.COOKIE));
+	}
+
+	/**
+	 * Refresh a cached response after a {@code 304 Not Modified} response,
+	 * and return its body.
+	 */
+	Map<String, Object> refreshResponse(Map<String, String> params, HttpHeaders headers, CachedResponse cached) {
+		long maxAge = parseMaxAge(headers.getCacheControl());
+		this.responseCache.put(params, new CachedResponse(cached.body(), cached.etag(), expiresAt(maxAge)));
+		return cached.body();
+	}
+
+	private static long expiresAt(long maxAgeSeconds) {
+		return System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(maxAgeSeconds, 0));
+	}
+
+	private static long parseMaxAge(@Nullable String cacheControl) {
+		if (!StringUtils.hasText(cacheControl) || hasDirective(cacheControl, "no-cache")) {
+			return 0;
+		}
+		for (String directive : StringUtils.tokenizeToStringArray(cacheControl, ",")) {
+			if (directive.startsWith("max-age=")) {
+				try {
+					return Long.parseLong(directive.substring(8).trim());
+				}
+				catch (NumberFormatException ex) {
+					return 0;
+				}
+			}
+		}
+		return 0;
+	}
+
+	private static boolean hasDirective(@Nullable String cacheControl, String directive) {
+		if (!StringUtils.hasText(cacheControl)) {
+			return false;
+		}
+		List<String> directives = List.of(StringUtils.tokenizeToStringArray(cacheControl, ","));
+		return directives.contains(directive);
+	}
+
+
+	/**
+	 * A cached GET response.
+	 * @param body the response body
+	 * @param etag the ETag of the response, if any
+	 * @param expiresAtNanos the {@link System#nanoTime()} at which the response
+	 * needs to be revalidated
+	 */
+	record CachedResponse(Map<String, Object> body, @Nullable String etag, long expiresAtNanos) {
+
+		boolean isFresh() {
+			return (System.nanoTime() - this.expiresAtNanos < 0);
+		}
+
+	}
+
+}
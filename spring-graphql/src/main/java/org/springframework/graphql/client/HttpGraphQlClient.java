@@ -85,6 +85,15 @@ public interface HttpGraphQlClient extends WebGraphQlClient {
 		 */
 		B webClient(Consumer<WebClient.Builder> webClient);
 
+		/**
+		 * Configure whether to send query operations over HTTP GET.
+		 * <p>By default, this is {@link HttpGetMode#NONE}, and all requests
+		 * are sent over HTTP POST.
+		 * @param httpGetMode the mode to use
+		 * @since 2.1.0
+		 */
+		B httpGetMode(HttpGetMode httpGetMode);
+
 		/**
 		 * Build the {@code HttpGraphQlClient} instance.
 		 */
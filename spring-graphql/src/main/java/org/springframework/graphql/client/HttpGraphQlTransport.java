@@ -19,6 +19,7 @@ package org.springframework.graphql.client;
 import java.util.Collections;
 import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -38,8 +39,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 /**
  * Transport to execute GraphQL requests over HTTP via {@link WebClient}.
  *
- * <p>Supports only single-response requests over HTTP POST. For subscriptions,
- * see {@link WebSocketGraphQlTransport} and {@link RSocketGraphQlTransport}.
+ * <p>Supports single-response requests over HTTP POST, or optionally over HTTP
+ * GET for queries, see {@link HttpGetMode}. Subscriptions are supported with
+ * Server-Sent Events. See also {@link WebSocketGraphQlTransport} and
+ * {@link RSocketGraphQlTransport}.
  *
  * @author Rossen Stoyanchev
  * @author Brian Clozel
@@ -60,11 +63,18 @@ final class HttpGraphQlTransport implements GraphQlTransport {
 
 	private final MediaType contentType;
 
+	private final @Nullable HttpGetSupport getSupport;
+
 
 	HttpGraphQlTransport(WebClient webClient) {
+		this(webClient, null);
+	}
+
+	HttpGraphQlTransport(WebClient webClient, @Nullable HttpGetSupport getSupport) {
 		Assert.notNull(webClient, "WebClient is required");
 		this.webClient = webClient;
 		this.contentType = initContentType(webClient);
+		this.getSupport = getSupport;
 	}
 
 	private static MediaType initContentType(WebClient webClient) {
@@ -75,8 +85,19 @@ final class HttpGraphQlTransport implements GraphQlTransport {
 	}
 
 
+	HttpGetMode getHttpGetMode() {
+		return (this.getSupport != null) ? this.getSupport.getMode() : HttpGetMode.NONE;
+	}
+
+
 	@Override
 	public Mono<GraphQlResponse> execute(GraphQlRequest request) {
+		if (this.getSupport != null) {
+			Map<String, String> params = this.getSupport.initQueryParams(request);
+			if (params != null) {
+				return executeGet(request, params, this.getSupport);
+			}
+		}
 		return this.webClient.post()
 				.contentType(this.contentType)
 				.accept(MediaType.APPLICATION_JSON, MediaTypes.APPLICATION_GRAPHQL_RESPONSE, APPLICATION_GRAPHQL)
@@ -100,6 +121,42 @@ final class HttpGraphQlTransport implements GraphQlTransport {
 				.map(ResponseMapGraphQlResponse::new);
 	}
 
+	private Mono<GraphQlResponse> executeGet(
+			GraphQlRequest request, Map<String, String> params, HttpGetSupport getSupport) {
+
+		HttpGetSupport.CachedResponse cached = getSupport.getCachedResponse(params);
+		if (cached != null && cached.isFresh()) {
+			return Mono.just(new ResponseMapGraphQlResponse(cached.body()));
+		}
+		return this.webClient.get()
+				.uri((builder) -> HttpGetSupport.addQueryParams(builder, params).build(params))
+				.accept(MediaType.APPLICATION_JSON, MediaTypes.APPLICATION_GRAPHQL_RESPONSE, APPLICATION_GRAPHQL)
+				.headers((headers) -> HttpGetSupport.addConditionalHeaders(headers, cached))
+				.attributes((attributes) -> {
+					if (request instanceof ClientGraphQlRequest clientRequest) {
+						attributes.putAll(clientRequest.getAttributes());
+					}
+				})
+				.exchangeToMono((response) -> {
+					HttpHeaders headers = response.headers().asHttpHeaders();
+					if (response.statusCode().equals(HttpStatus.NOT_MODIFIED) && cached != null) {
+						return Mono.just(getSupport.refreshResponse(params, headers, cached));
+					}
+					else if (response.statusCode().equals(HttpStatus.OK)) {
+						return response.bodyToMono(MAP_TYPE)
+								.doOnNext((body) -> getSupport.cacheResponse(
+										params, response.request().getHeaders(), headers, body));
+					}
+					else if (response.statusCode().is4xxClientError() && isGraphQlResponse(response)) {
+						return response.bodyToMono(MAP_TYPE);
+					}
+					else {
+						return response.createError();
+					}
+				})
+				.map(ResponseMapGraphQlResponse::new);
+	}
+
 	private static boolean isGraphQlResponse(ClientResponse clientResponse) {
 		return MediaTypes.APPLICATION_GRAPHQL_RESPONSE
 				.isCompatibleWith(clientResponse.headers().contentType().orElse(null));
@@ -107,6 +107,15 @@ public interface HttpSyncGraphQlClient extends GraphQlClient {
 		 */
 		B headers(Consumer<HttpHeaders> headersConsumer);
 
+		/**
+		 * Configure whether to send query operations over HTTP GET.
+		 * <p>By default, this is {@link HttpGetMode#NONE}, and all requests
+		 * are sent over HTTP POST.
+		 * @param httpGetMode the mode to use
+		 * @since 2.1.0
+		 */
+		B httpGetMode(HttpGetMode httpGetMode);
+
 		/**
 		 * Configure message converters for JSON for use in the
 		 * {@link org.springframework.graphql.GraphQlResponse} to convert response
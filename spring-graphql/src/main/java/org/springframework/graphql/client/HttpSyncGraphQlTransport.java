@@ -38,6 +38,7 @@ import org.springframework.util.FileCopyUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse;
 
 
 /**
@@ -54,11 +55,18 @@ final class HttpSyncGraphQlTransport implements SyncGraphQlTransport {
 
 	private final MediaType contentType;
 
+	private final @Nullable HttpGetSupport getSupport;
+
 
 	HttpSyncGraphQlTransport(RestClient restClient) {
+		this(restClient, null);
+	}
+
+	HttpSyncGraphQlTransport(RestClient restClient, @Nullable HttpGetSupport getSupport) {
 		Assert.notNull(restClient, "RestClient is required");
 		this.restClient = restClient;
 		this.contentType = initContentType(restClient);
+		this.getSupport = getSupport;
 	}
 
 	private static MediaType initContentType(RestClient webClient) {
@@ -69,35 +77,77 @@ final class HttpSyncGraphQlTransport implements SyncGraphQlTransport {
 	}
 
 
+	HttpGetMode getHttpGetMode() {
+		return (this.getSupport != null) ? this.getSupport.getMode() : HttpGetMode.NONE;
+	}
+
+
 	@Override
 	@SuppressWarnings("NullAway")
 	public GraphQlResponse execute(GraphQlRequest request) {
+		if (this.getSupport != null) {
+			Map<String, String> params = this.getSupport.initQueryParams(request);
+			if (params != null) {
+				return executeGet(request, params, this.getSupport);
+			}
+		}
 
 		Map<String, Object> body = this.restClient.post()
 				.contentType(this.contentType)
 				.accept(MediaType.APPLICATION_JSON, MediaTypes.APPLICATION_GRAPHQL_RESPONSE)
 				.body(request.toMap())
-				.exchange((httpRequest, httpResponse) -> {
-					if (httpResponse.getStatusCode().equals(HttpStatus.OK)) {
-						return httpResponse.bodyTo(MAP_TYPE);
-					}
-					else if (httpResponse.getStatusCode().is4xxClientError() && isGraphQlResponse(httpResponse)) {
-						return httpResponse.bodyTo(MAP_TYPE);
+				.exchange((httpRequest, httpResponse) -> readBody(httpResponse));
+		return new ResponseMapGraphQlResponse((body != null) ? body : Collections.emptyMap());
+	}
+
+	@SuppressWarnings("NullAway")
+	private GraphQlResponse executeGet(GraphQlRequest request, Map<String, String> params, HttpGetSupport getSupport) {
+		HttpGetSupport.CachedResponse cached = getSupport.getCachedResponse(params);
+		if (cached != null && cached.isFresh()) {
+			return new ResponseMapGraphQlResponse(cached.body());
+		}
+
+		Map<String, Object> body = this.restClient.get()
+				.uri((builder) -> HttpGetSupport.addQueryParams(builder, params).build(params))
+				.accept(MediaType.APPLICATION_JSON, MediaTypes.APPLICATION_GRAPHQL_RESPONSE)
+				.headers((headers) -> HttpGetSupport.addConditionalHeaders(headers, cached))
+				.attributes((attributes) -> {
+					if (request instanceof ClientGraphQlRequest clientRequest) {
+						attributes.putAll(clientRequest.getAttributes());
 					}
-					else if (httpResponse.getStatusCode().is4xxClientError()) {
-						throw HttpClientErrorException.create(httpResponse.getStatusText(), httpResponse.getStatusCode(),
-								httpResponse.getStatusText(), httpResponse.getHeaders(),
-								getBody(httpResponse), getCharset(httpResponse));
+				})
+				.exchange((httpRequest, httpResponse) -> {
+					if (httpResponse.getStatusCode().equals(HttpStatus.NOT_MODIFIED) && cached != null) {
+						return getSupport.refreshResponse(params, httpResponse.getHeaders(), cached);
 					}
-					else {
-						throw HttpServerErrorException.create(httpResponse.getStatusText(), httpResponse.getStatusCode(),
-								httpResponse.getStatusText(), httpResponse.getHeaders(),
-								getBody(httpResponse), getCharset(httpResponse));
+					Map<String, Object> result = readBody(httpResponse);
+					if (result != null && httpResponse.getStatusCode().equals(HttpStatus.OK)) {
+						getSupport.cacheResponse(params, httpRequest.getHeaders(), httpResponse.getHeaders(), result);
 					}
+					return result;
 				});
 		return new ResponseMapGraphQlResponse((body != null) ? body : Collections.emptyMap());
 	}
 
+	private static @Nullable Map<String, Object> readBody(ConvertibleClientHttpResponse httpResponse) throws IOException {
+		if (httpResponse.getStatusCode().equals(HttpStatus.OK)) {
+			return httpResponse.bodyTo(MAP_TYPE);
+		}
+		else if (httpResponse.getStatusCode().is4xxClientError() && isGraphQlResponse(httpResponse)) {
+			return httpResponse.bodyTo(MAP_TYPE);
+		}
+		else if (httpResponse.getStatusCode().is4xxClientError()) {
+			throw HttpClientErrorException.create(httpResponse.getStatusText(), httpResponse.getStatusCode(),
+					httpResponse.getStatusText(), httpResponse.getHeaders(),
+					getBody(httpResponse), getCharset(httpResponse));
+		}
+		else {
+			throw HttpServerErrorException.create(httpResponse.getStatusText(), httpResponse.getStatusCode(),
+					httpResponse.getStatusText(), httpResponse.getHeaders(),
+					getBody(httpResponse), getCharset(httpResponse));
+		}
+	}
+
 	private static boolean isGraphQlResponse(ClientHttpResponse clientResponse) {
 		return MediaTypes.APPLICATION_GRAPHQL_RESPONSE
 				.isCompatibleWith(clientResponse.getHeaders().getContentType());
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import graphql.language.Document;
+import graphql.language.FragmentDefinition;
+import graphql.language.OperationDefinition;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.Encoder;
+import org.springframework.util.Assert;
+
+/**
+ * Interceptor that caches query results in a normalized, in-memory store,
+ * and answers queries from the store when all selected fields are present,
+ * without a call to the server.
+ *
+ * <p>Response data is normalized by entity, i.e. objects that have both a
+ * {@code "__typename"} and an {@code "id"} field are stored once, and shared
+ * across the queries that returned them, so that a query can be answered with
+ * data fetched by other queries. Clients should select {@code "__typename"}
+ * and {@code "id"} for objects that should be normalized.
+ *
+ * <p>Entities returned in the response to a mutation are evicted from the
+ * store, so that subsequent queries for them are sent to the server.
+ * Subscriptions are passed through.
+ *
+ * <p>Queries with {@code @skip} or {@code @include} directives, and with
+ * fragments on abstract types are always sent to the server, since they
+ * cannot be answered correctly without the schema.
+ *
+ * <p>This interceptor works with any transport, and can be registered on both
+ * non-blocking and blocking {@link GraphQlClient.Builder builders}.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public class NormalizedCacheClientInterceptor implements GraphQlClientInterceptor, SyncGraphQlClientInterceptor {
+
+	private static final int DOCUMENT_CACHE_LIMIT = 1024;
+
+
+	private final NormalizedResponseStore store;
+
+	private final Map<String, ParsedDocument> documentCache = new ConcurrentHashMap<>();
+
+	private volatile @Nullable Codecs codecs;
+
+
+	/**
+	 * Create an instance with a limit of 10,000 cached entities, and a time to
+	 * live of 5 minutes.
+	 */
+	public NormalizedCacheClientInterceptor() {
+		this(10_000, Duration.ofMinutes(5));
+	}
+
+	/**
+	 * Create an instance with the given limits.
+	 * @param maxEntities the maximum number of cached entities; once reached,
+	 * the least recently used entities are evicted
+	 * @param timeToLive how long a field is cached after it was last written
+	 */
+	public NormalizedCacheClientInterceptor(int maxEntities, Duration timeToLive) {
+		Assert.isTrue(maxEntities > 0, "maxEntities must be greater than 0");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		this.store = new NormalizedResponseStore(maxEntities, timeToLive);
+	}
+
+
+	/**
+	 * Remove all cached data.
+	 */
+	public void clear() {
+		this.store.clear();
+	}
+
+
+	@Override
+	public Mono<ClientGraphQlResponse> intercept(ClientGraphQlRequest request, GraphQlClientInterceptor.Chain chain) {
+		ParsedDocument document = getDocument(request.getDocument());
+		OperationDefinition operation = (document != null) ? document.getOperation(request.getOperationName()) : null;
+		if (document == null || operation == null) {
+			return chain.next(request);
+		}
+		ClientGraphQlResponse cached = readFromCache(request, document, operation);
+		if (cached != null) {
+			return Mono.just(cached);
+		}
+		return chain.next(request).doOnNext((response) -> handleResponse(request, response, document, operation));
+	}
+
+	@Override
+	public Flux<ClientGraphQlResponse> interceptSubscription(ClientGraphQlRequest request, SubscriptionChain chain) {
+		return chain.next(request);
+	}
+
+	@Override
+	public ClientGraphQlResponse intercept(ClientGraphQlRequest request, SyncGraphQlClientInterceptor.Chain chain) {
+		ParsedDocument document = getDocument(request.getDocument());
+		OperationDefinition operation = (document != null) ? document.getOperation(request.getOperationName()) : null;
+		if (document == null || operation == null) {
+			return chain.next(request);
+		}
+		ClientGraphQlResponse cached = readFromCache(request, document, operation);
+		if (cached != null) {
+			return cached;
+		}
+		ClientGraphQlResponse response = chain.next(request);
+		handleResponse(request, response, document, operation);
+		return response;
+	}
+
+	private @Nullable ParsedDocument getDocument(String document) {
+		ParsedDocument parsed = this.documentCache.get(document);
+		if (parsed == null) {
+			try {
+				parsed = new ParsedDocument(Parser.parse(document));
+			}
+			catch (InvalidSyntaxException ex) {
+				// Let the server report the error
+				return null;
+			}
+			if (this.documentCache.size() < DOCUMENT_CACHE_LIMIT) {
+				this.documentCache.put(document, parsed);
+			}
+		}
+		return parsed;
+	}
+
+	private @Nullable ClientGraphQlResponse readFromCache(
+			ClientGraphQlRequest request, ParsedDocument document, OperationDefinition operation) {
+
+		Codecs codecs = this.codecs;
+		if (codecs == null || operation.getOperation() != OperationDefinition.Operation.QUERY) {
+			return null;
+		}
+		Map<String, Object> data = this.store.read(
+				operation.getSelectionSet(), document.fragments(), request.getVariables());
+		if (data == null) {
+			return null;
+		}
+		Map<String, Object> responseMap = new LinkedHashMap<>(1);
+		responseMap.put("data", data);
+		return new DefaultClientGraphQlResponse(
+				request, new ResponseMapGraphQlResponse(responseMap), codecs.encoder(), codecs.decoder());
+	}
+
+	private void handleResponse(ClientGraphQlRequest request, ClientGraphQlResponse response,
+			ParsedDocument document, OperationDefinition operation) {
+
+		if (!response.isValid() || !response.getErrors().isEmpty()) {
+			return;
+		}
+		Map<String, Object> data = response.getData();
+		if (data == null) {
+			return;
+		}
+		switch (operation.getOperation()) {
+			case QUERY -> {
+				if (response instanceof DefaultClientGraphQlResponse defaultResponse) {
+					this.codecs = new Codecs(defaultResponse.getEncoder(), defaultResponse.getDecoder());
+				}
+				this.store.write(operation.getSelectionSet(), data, document.fragments(), request.getVariables());
+			}
+			case MUTATION -> this.store.evict(data);
+			default -> { }
+		}
+	}
+
+
+	/**
+	 * Parsed document with fragment definitions by name.
+	 */
+	private record ParsedDocument(Document document, Map<String, FragmentDefinition> fragments) {
+
+		ParsedDocument(Document document) {
+			this(document, initFragments(document));
+		}
+
+		private static Map<String, FragmentDefinition> initFragments(Document document) {
+			Map<String, FragmentDefinition> fragments = new LinkedHashMap<>();
+			document.getDefinitionsOfType(FragmentDefinition.class)
+					.forEach((definition) -> fragments.put(definition.getName(), definition));
+			return fragments;
+		}
+
+		@Nullable OperationDefinition getOperation(@Nullable String operationName) {
+			OperationDefinition result = null;
+			for (OperationDefinition definition : this.document.getDefinitionsOfType(OperationDefinition.class)) {
+				if (operationName == null) {
+					if (result != null) {
+						return null;
+					}
+					result = definition;
+				}
+				else if (operationName.equals(definition.getName())) {
+					return definition;
+				}
+			}
+			return result;
+		}
+
+	}
+
+
+	/**
+	 * Codecs captured from a server response, to create responses from cached data.
+	 */
+	private record Codecs(Encoder<?> encoder, Decoder<?> decoder) {
+	}
+
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.client;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import graphql.language.Argument;
+import graphql.language.ArrayValue;
+import graphql.language.BooleanValue;
+import graphql.language.EnumValue;
+import graphql.language.Field;
+import graphql.language.FloatValue;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.IntValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.language.StringValue;
+import graphql.language.TypeName;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * In-memory store for {@link NormalizedCacheClientInterceptor} that keeps
+ * response data normalized by entity, i.e. objects with {@code "__typename"}
+ * and {@code "id"} fields are stored once under a key made of both, and are
+ * referenced from the fields that returned them.
+ *
+ * <p>The number of entities is bounded, with the least recently used entities
+ * evicted first. Each field expires after a time to live since it was last
+ * written, and each entity expires once all its fields have expired.
+ *
+ * @author Rossen Stoyanchev
+ */
+final class NormalizedResponseStore {
+
+	private static final String ROOT_KEY = "ROOT_QUERY";
+
+	private static final String TYPENAME_FIELD = "__typename";
+
+	private static final String ID_FIELD = "id";
+
+	private static final Object MISS = new Object();
+
+
+	private final long timeToLiveNanos;
+
+	private final Map<String, Entity> entities;
+
+
+	NormalizedResponseStore(int maxEntities, Duration timeToLive) {
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.entities = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entity> eldest) {
+				return (size() > maxEntities);
+			}
+		};
+	}
+
+
+	/**
+	 * Write the data of a query response to the store.
+	 * @param selectionSet the selection set of the query operation
+	 * @param data the response data
+	 * @param fragments fragment definitions by name
+	 * @param variables the request variables
+	 */
+	synchronized void write(
+			SelectionSet selectionSet, Map<String, Object> data,
+			Map<String, FragmentDefinition> fragments, Map<String, @Nullable Object> variables) {
+
+		Context context = new Context(fragments, variables, System.nanoTime());
+		Map<String, Object> rootFields = getEntityFields(ROOT_KEY);
+		writeSelections(selectionSet, data, rootFields, context);
+		putEntity(ROOT_KEY, rootFields, context);
+	}
+
+	/**
+	 * Read data for a query from the store.
+	 * @return the data, or {@code null} if any selected field is not present
+	 */
+	synchronized @Nullable Map<String, Object> read(
+			SelectionSet selectionSet, Map<String, FragmentDefinition> fragments,
+			Map<String, @Nullable Object> variables) {
+
+		Entity root = getEntity(ROOT_KEY);
+		if (root == null) {
+			return null;
+		}
+		Object result = readSelections(selectionSet, root.fields(), new Context(fragments, variables, System.nanoTime()));
+		return (result != MISS) ? asMap(result) : null;
+	}
+
+	/**
+	 * Remove all entities found in the given response data.
+	 */
+	synchronized void evict(@Nullable Object data) {
+		if (data instanceof Map<?, ?> map) {
+			String key = initEntityKey(map);
+			if (key != null) {
+				this.entities.remove(key);
+			}
+			map.values().forEach(this::evict);
+		}
+		else if (data instanceof List<?> list) {
+			list.forEach(this::evict);
+		}
+	}
+
+	/**
+	 * Remove all entities.
+	 */
+	synchronized void clear() {
+		this.entities.clear();
+	}
+
+
+	// Write
+
+	private void writeSelections(
+			SelectionSet selectionSet, Map<?, ?> data, Map<String, Object> target, Context context) {
+
+		for (Selection<?> selection : selectionSet.getSelections()) {
+			if (selection instanceof Field field) {
+				String responseKey = (field.getAlias() != null) ? field.getAlias() : field.getName();
+				if (data.containsKey(responseKey)) {
+					Object value = normalize(field.getSelectionSet(), data.get(responseKey), context);
+					long expiresAtNanos = context.nanoTime() + this.timeToLiveNanos;
+					target.put(initStoreKey(field, context), new StoredField(value, expiresAtNanos));
+				}
+			}
+			else if (selection instanceof InlineFragment fragment) {
+				writeSelections(fragment.getSelectionSet(), data, target, context);
+			}
+			else if (selection instanceof FragmentSpread spread) {
+				FragmentDefinition definition = context.fragments().get(spread.getName());
+				if (definition != null) {
+					writeSelections(definition.getSelectionSet(), data, target, context);
+				}
+			}
+		}
+	}
+
+	private @Nullable Object normalize(@Nullable SelectionSet selectionSet, @Nullable Object value, Context context) {
+		if (selectionSet == null || value == null) {
+			return value;
+		}
+		if (value instanceof List<?> list) {
+			List<@Nullable Object> result = new ArrayList<>(list.size());
+			list.forEach((element) -> result.add(normalize(selectionSet, element, context)));
+			return result;
+		}
+		if (value instanceof Map<?, ?> map) {
+			String key = initEntityKey(map);
+			Map<String, Object> fields = (key != null) ? getEntityFields(key) : new LinkedHashMap<>();
+			writeSelections(selectionSet, map, fields, context);
+			if (key != null) {
+				putEntity(key, fields, context);
+				return new Reference(key);
+			}
+			return fields;
+		}
+		return value;
+	}
+
+	private Map<String, Object> getEntityFields(String key) {
+		Entity entity = getEntity(key);
+		return (entity != null) ? new LinkedHashMap<>(entity.fields()) : new LinkedHashMap<>();
+	}
+
+	private void putEntity(String key, Map<String, Object> fields, Context context) {
+		this.entities.put(key, new Entity(fields, context.nanoTime() + this.timeToLiveNanos));
+	}
+
+
+	// Read
+
+	private Object readSelections(SelectionSet selectionSet, Map<String, Object> fields, Context context) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		for (Selection<?> selection : selectionSet.getSelections()) {
+			Object value;
+			if (selection instanceof Field field) {
+				if (!field.getDirectives().isEmpty()) {
+					return MISS;
+				}
+				Object stored = fields.get(initStoreKey(field, context));
+				if (!(stored instanceof StoredField storedField) || storedField.isExpired(context.nanoTime())) {
+					return MISS;
+				}
+				value = denormalize(field.getSelectionSet(), storedField.value(), context);
+				if (value != MISS) {
+					String responseKey = (field.getAlias() != null) ? field.getAlias() : field.getName();
+					result.put(responseKey, value);
+					continue;
+				}
+			}
+			else if (selection instanceof InlineFragment fragment) {
+				// Directives such as @skip and @include are not evaluated
+				value = (fragment.getDirectives().isEmpty()) ?
+						readFragment(fragment.getTypeCondition(), fragment.getSelectionSet(), fields, context) :
+						MISS;
+			}
+			else if (selection instanceof FragmentSpread spread) {
+				FragmentDefinition definition = context.fragments().get(spread.getName());
+				value = (definition != null && spread.getDirectives().isEmpty() && definition.getDirectives().isEmpty()) ?
+						readFragment(definition.getTypeCondition(), definition.getSelectionSet(), fields, context) :
+						MISS;
+			}
+			else {
+				value = MISS;
+			}
+			if (value == MISS) {
+				return MISS;
+			}
+			if (value instanceof Map<?, ?> map) {
+				result.putAll(asMap(map));
+			}
+		}
+		return result;
+	}
+
+	private Object readFragment(
+			@Nullable TypeName typeCondition, SelectionSet selectionSet, Map<String, Object> fields, Context context) {
+
+		// Without the schema, a type condition can only be matched exactly
+		if (typeCondition != null) {
+			Object typeName = (fields.get(TYPENAME_FIELD) instanceof StoredField storedField) ? storedField.value() : null;
+			if (!typeCondition.getName().equals(typeName)) {
+				return MISS;
+			}
+		}
+		return readSelections(selectionSet, fields, context);
+	}
+
+	@SuppressWarnings("unchecked")
+	private @Nullable Object denormalize(@Nullable SelectionSet selectionSet, @Nullable Object value, Context context) {
+		if (selectionSet == null || value == null) {
+			return value;
+		}
+		if (value instanceof Reference reference) {
+			Entity entity = getEntity(reference.key());
+			return (entity != null) ? readSelections(selectionSet, entity.fields(), context) : MISS;
+		}
+		if (value instanceof List<?> list) {
+			List<@Nullable Object> result = new ArrayList<>(list.size());
+			for (Object element : list) {
+				Object elementValue = denormalize(selectionSet, element, context);
+				if (elementValue == MISS) {
+					return MISS;
+				}
+				result.add(elementValue);
+			}
+			return result;
+		}
+		if (value instanceof Map<?, ?> map) {
+			return readSelections(selectionSet, (Map<String, Object>) map, context);
+		}
+		return value;
+	}
+
+	private @Nullable Entity getEntity(String key) {
+		Entity entity = this.entities.get(key);
+		if (entity != null && System.nanoTime() - entity.expiresAtNanos() >= 0) {
+			this.entities.remove(key);
+			return null;
+		}
+		return entity;
+	}
+
+
+	// Keys
+
+	private static @Nullable String initEntityKey(Map<?, ?> map) {
+		Object typeName = map.get(TYPENAME_FIELD);
+		Object id = map.get(ID_FIELD);
+		return (typeName != null && id != null) ? typeName + ":" + id : null;
+	}
+
+	private static String initStoreKey(Field field, Context context) {
+		if (field.getArguments().isEmpty()) {
+			return field.getName();
+		}
+		Map<String, @Nullable Object> arguments = new TreeMap<>();
+		for (Argument argument : field.getArguments()) {
+			arguments.put(argument.getName(), resolveValue(argument.getValue(), context.variables()));
+		}
+		return field.getName() + arguments;
+	}
+
+	private static @Nullable Object resolveValue(Value<?> value, Map<String, @Nullable Object> variables) {
+		if (value instanceof VariableReference reference) {
+			return variables.get(reference.getName());
+		}
+		else if (value instanceof StringValue stringValue) {
+			return stringValue.getValue();
+		}
+		else if (value instanceof IntValue intValue) {
+			return intValue.getValue();
+		}
+		else if (value instanceof FloatValue floatValue) {
+			BigDecimal decimal = floatValue.getValue();
+			return decimal.stripTrailingZeros();
+		}
+		else if (value instanceof BooleanValue booleanValue) {
+			return booleanValue.isValue();
+		}
+		else if (value instanceof EnumValue enumValue) {
+			return enumValue.getName();
+		}
+		else if (value instanceof ArrayValue arrayValue) {
+			List<@Nullable Object> result = new ArrayList<>();
+			arrayValue.getValues().forEach((element) -> result.add(resolveValue(element, variables)));
+			return result;
+		}
+		else if (value instanceof ObjectValue objectValue) {
+			Map<String, @Nullable Object> result = new TreeMap<>();
+			for (ObjectField objectField : objectValue.getObjectFields()) {
+				result.put(objectField.getName(), resolveValue(objectField.getValue(), variables));
+			}
+			return result;
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> asMap(Object value) {
+		return (Map<String, Object>) value;
+	}
+
+
+	/**
+	 * Stored entity with its fields, and the time at which it expires.
+	 */
+	private record Entity(Map<String, Object> fields, long expiresAtNanos) {
+	}
+
+
+	/**
+	 * Stored field value, and the time at which it expires.
+	 */
+	private record StoredField(@Nullable Object value, long expiresAtNanos) {
+
+		boolean isExpired(long nanoTime) {
+			return (nanoTime - this.expiresAtNanos >= 0);
+		}
+	}
+
+
+	/**
+	 * Field value that refers to an entity stored under the given key.
+	 */
+	private record Reference(String key) {
+	}
+
+
+	/**
+	 * Fragments and variables for the operation that is read or written, and
+	 * the time of the read or write.
+	 */
+	private record Context(
+			Map<String, FragmentDefinition> fragments, Map<String, @Nullable Object> variables, long nanoTime) {
+	}
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.support.DefaultGraphQlRequest;
+import org.springframework.util.Assert;
+
+/**
+ * Interceptor that sends requests as
+ * <a href="https://www.apollographql.com/docs/apollo-server/performance/apq">Automatic
+ * Persisted Queries</a>, i.e. with only the SHA-256 hash of the document in the
+ * {@code "persistedQuery"} extension, and without the document text.
+ *
+ * <p>If the server responds with a {@code "PersistedQueryNotFound"} error, the
+ * request is sent again with both the document text and the hash, which allows
+ * the server to register the document for subsequent requests. If the server
+ * responds with {@code "PersistedQueryNotSupported"}, the interceptor falls
+ * back on sending the full document for all further requests.
+ *
+ * <p>Hashes are computed once per document, and cached. Documents loaded by
+ * name through a {@link org.springframework.graphql.support.CachingDocumentSource}
+ * are the same {@code String} instance on every request, which keeps the cache
+ * lookup cheap.
+ *
+ * <p>This interceptor works with any transport, and can be registered on both
+ * non-blocking and blocking {@link GraphQlClient.Builder builders}.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public class PersistedQueryClientInterceptor implements GraphQlClientInterceptor, SyncGraphQlClientInterceptor {
+
+	private static final Log logger = LogFactory.getLog(PersistedQueryClientInterceptor.class);
+
+	private static final String EXTENSION_NAME = "persistedQuery";
+
+	private static final String NOT_FOUND_MESSAGE = "PersistedQueryNotFound";
+
+	private static final String NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
+
+	private static final String NOT_SUPPORTED_MESSAGE = "PersistedQueryNotSupported";
+
+	private static final String NOT_SUPPORTED_CODE = "PERSISTED_QUERY_NOT_SUPPORTED";
+
+
+	private final Map<String, String> hashCache = new ConcurrentHashMap<>();
+
+	private int cacheLimit = 1024;
+
+	private volatile boolean supported = true;
+
+
+	/**
+	 * Configure the maximum number of document hashes to cache. Once the limit
+	 * is reached, hashes for additional documents are computed on each request.
+	 * <p>By default, this is set to 1024.
+	 * @param cacheLimit the maximum number of cached hashes
+	 */
+	public void setCacheLimit(int cacheLimit) {
+		Assert.isTrue(cacheLimit >= 0, "cacheLimit must not be negative");
+		this.cacheLimit = cacheLimit;
+	}
+
+	/**
+	 * Return the configured {@link #setCacheLimit(int) cache limit}.
+	 */
+	public int getCacheLimit() {
+		return this.cacheLimit;
+	}
+
+
+	@Override
+	public Mono<ClientGraphQlResponse> intercept(ClientGraphQlRequest request, GraphQlClientInterceptor.Chain chain) {
+		if (!this.supported) {
+			return chain.next(request);
+		}
+		String hash = getHash(request.getDocument());
+		return chain.next(new PersistedQueryRequest(request, hash, false))
+				.flatMap((response) -> {
+					if (handleErrors(response.getErrors())) {
+						return chain.next(new PersistedQueryRequest(request, hash, true));
+					}
+					return Mono.just(response);
+				});
+	}
+
+	@Override
+	public Flux<ClientGraphQlResponse> interceptSubscription(ClientGraphQlRequest request, SubscriptionChain chain) {
+		if (!this.supported) {
+			return chain.next(request);
+		}
+		String hash = getHash(request.getDocument());
+		return chain.next(new PersistedQueryRequest(request, hash, false))
+				.onErrorResume(
+						(ex) -> ex instanceof SubscriptionErrorException subEx && handleErrors(subEx.getErrors()),
+						(ex) -> chain.next(new PersistedQueryRequest(request, hash, true)));
+	}
+
+	@Override
+	public ClientGraphQlResponse intercept(ClientGraphQlRequest request, SyncGraphQlClientInterceptor.Chain chain) {
+		if (!this.supported) {
+			return chain.next(request);
+		}
+		String hash = getHash(request.getDocument());
+		ClientGraphQlResponse response = chain.next(new PersistedQueryRequest(request, hash, false));
+		if (handleErrors(response.getErrors())) {
+			response = chain.next(new PersistedQueryRequest(request, hash, true));
+		}
+		return response;
+	}
+
+	private String getHash(String document) {
+		String hash = this.hashCache.get(document);
+		if (hash == null) {
+			hash = computeHash(document);
+			if (this.hashCache.size() < this.cacheLimit) {
+				this.hashCache.put(document, hash);
+			}
+		}
+		return hash;
+	}
+
+	private static String computeHash(String document) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(document.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not available", ex);
+		}
+	}
+
+	/**
+	 * Check for persisted query errors, and return {@code true} if the request
+	 * needs to be sent again with the full document.
+	 */
+	private boolean handleErrors(List<ResponseError> errors) {
+		for (ResponseError error : errors) {
+			if (isError(error, NOT_FOUND_MESSAGE, NOT_FOUND_CODE)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Persisted query not found, sending full document");
+				}
+				return true;
+			}
+			if (isError(error, NOT_SUPPORTED_MESSAGE, NOT_SUPPORTED_CODE)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Persisted queries not supported, sending full documents from now on");
+				}
+				this.supported = false;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isError(ResponseError error, String message, String code) {
+		return (message.equals(error.getMessage()) || code.equals(error.getExtensions().get("code")));
+	}
+
+
+	/**
+	 * Request that sends the hash of the document in the "persistedQuery"
+	 * extension, and only optionally the document text.
+	 */
+	private static final class PersistedQueryRequest extends DefaultGraphQlRequest implements ClientGraphQlRequest {
+
+		private final ClientGraphQlRequest delegate;
+
+		private final boolean sendDocument;
+
+		PersistedQueryRequest(ClientGraphQlRequest delegate, String hash, boolean sendDocument) {
+			super(delegate.getDocument(), delegate.getOperationName(), delegate.getVariables(),
+					initExtensions(delegate.getExtensions(), hash));
+			this.delegate = delegate;
+			this.sendDocument = sendDocument;
+		}
+
+		private static Map<String, Object> initExtensions(Map<String, Object> extensions, String hash) {
+			Map<String, Object> persistedQuery = new LinkedHashMap<>(2);
+			persistedQuery.put("version", 1);
+			persistedQuery.put("sha256Hash", hash);
+			Map<String, Object> result = new LinkedHashMap<>(extensions);
+			result.put(EXTENSION_NAME, persistedQuery);
+			return result;
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return this.delegate.getAttributes();
+		}
+
+		@Override
+		public Map<String, Object> toMap() {
+			Map<String, Object> map = super.toMap();
+			if (!this.sendDocument) {
+				map.remove(QUERY_KEY);
+			}
+			return map;
+		}
+
+	}
+
+}
@@ -130,6 +130,10 @@ public interface RSocketGraphQlClient extends GraphQlClient {
 		 * Customize the format of data payloads for the connection.
 		 * <p>By default, this is set to {@code "application/graphql+json"} but
 		 * it can be changed to {@code "application/json"} if necessary.
+		 * <p>For a more compact, binary format, set this to
+		 * {@code "application/cbor"}. CBOR codecs are registered by default if
+		 * {@code jackson-dataformat-cbor} is present. Other formats such as Smile
+		 * require registering codecs through {@link #rsocketRequester(Consumer)}.
 		 * @param dataMimeType the mime type to use
 		 * @return the same builder instance
 		 */
@@ -21,6 +21,7 @@ import java.time.Duration;
 
 import reactor.core.publisher.Mono;
 
+import org.springframework.util.MimeType;
 import org.springframework.web.reactive.socket.client.WebSocketClient;
 
 
@@ -98,6 +99,30 @@ public interface WebSocketGraphQlClient extends WebGraphQlClient {
 		 */
 		Builder<B> keepAlive(Duration keepAlive);
 
+		/**
+		 * Configure a policy to reconnect after the WebSocket session is
+		 * disconnected, and to resume active subscriptions on the new session.
+		 * <p>By default, this is not set, and subscriptions are terminated with
+		 * {@link WebSocketDisconnectedException} when the session is closed.
+		 * @param reconnectPolicy the policy to use
+		 * @since 2.1.0
+		 */
+		Builder<B> reconnectPolicy(WebSocketReconnectPolicy reconnectPolicy);
+
+		/**
+		 * Encode GraphQL messages with the given binary format, in binary
+		 * WebSocket frames, if the server supports it. The client requests a
+		 * "graphql-transport-ws+cbor" or "graphql-transport-ws+smile"
+		 * subprotocol, with "graphql-transport-ws" as a fallback, and uses JSON
+		 * in text frames if the server selects the fallback.
+		 * <p>An {@code Encoder} and {@code Decoder} for the format must be
+		 * {@link #codecConfigurer(java.util.function.Consumer) configured}.
+		 * @param dataMimeType either {@code "application/cbor"} or
+		 * {@code "application/x-jackson-smile"}
+		 * @since 2.1.0
+		 */
+		Builder<B> dataMimeType(MimeType dataMimeType);
+
 		/**
 		 * Build the {@code WebSocketGraphQlClient}.
 		 */
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -43,6 +44,7 @@ import org.springframework.graphql.server.support.GraphQlWebSocketMessageType;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.CodecConfigurer;
 import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
 import org.springframework.web.reactive.socket.CloseStatus;
 import org.springframework.web.reactive.socket.WebSocketHandler;
 import org.springframework.web.reactive.socket.WebSocketSession;
@@ -70,11 +72,31 @@ final class WebSocketGraphQlTransport implements GraphQlTransport {
 
 	private final @Nullable Duration keepAlive;
 
+	private final @Nullable WebSocketReconnectPolicy reconnectPolicy;
+
+	private final ResubscribeRateLimiter resubscribeRateLimiter;
+
 
 	WebSocketGraphQlTransport(
 			URI url, @Nullable HttpHeaders headers, WebSocketClient client, CodecConfigurer codecConfigurer,
 			WebSocketGraphQlClientInterceptor interceptor, @Nullable Duration keepAlive) {
 
+		this(url, headers, client, codecConfigurer, interceptor, keepAlive, null);
+	}
+
+	WebSocketGraphQlTransport(
+			URI url, @Nullable HttpHeaders headers, WebSocketClient client, CodecConfigurer codecConfigurer,
+			WebSocketGraphQlClientInterceptor interceptor, @Nullable Duration keepAlive,
+			@Nullable WebSocketReconnectPolicy reconnectPolicy) {
+
+		this(url, headers, client, codecConfigurer, interceptor, keepAlive, reconnectPolicy, null);
+	}
+
+	WebSocketGraphQlTransport(
+			URI url, @Nullable HttpHeaders headers, WebSocketClient client, CodecConfigurer codecConfigurer,
+			WebSocketGraphQlClientInterceptor interceptor, @Nullable Duration keepAlive,
+			@Nullable WebSocketReconnectPolicy reconnectPolicy, @Nullable MimeType dataMimeType) {
+
 		Assert.notNull(url, "URI is required");
 		Assert.notNull(client, "WebSocketClient is required");
 		Assert.notNull(codecConfigurer, "CodecConfigurer is required");
@@ -84,8 +106,11 @@ final class WebSocketGraphQlTransport implements GraphQlTransport {
 		this.headers.putAll((headers != null) ? headers : HttpHeaders.EMPTY);
 		this.webSocketClient = client;
 		this.keepAlive = keepAlive;
+		this.reconnectPolicy = reconnectPolicy;
+		this.resubscribeRateLimiter = new ResubscribeRateLimiter(
+				(reconnectPolicy != null) ? reconnectPolicy.getResubscribeRate() : 0);
 
-		this.graphQlSessionHandler = new GraphQlSessionHandler(codecConfigurer, interceptor, keepAlive);
+		this.graphQlSessionHandler = new GraphQlSessionHandler(codecConfigurer, dataMimeType, interceptor, keepAlive);
 
 		this.graphQlSessionMono = initGraphQlSession(this.url, this.headers, client, this.graphQlSessionHandler)
 				.cacheInvalidateWhen(GraphQlSession::notifyWhenClosed);
@@ -163,13 +188,69 @@ final class WebSocketGraphQlTransport implements GraphQlTransport {
 
 	@Override
 	public Flux<GraphQlResponse> executeSubscription(GraphQlRequest request) {
+		if (this.reconnectPolicy != null) {
+			return executeResumableSubscription(request, this.reconnectPolicy);
+		}
 		return this.graphQlSessionMono.flatMapMany((session) -> session.executeSubscription(request));
 	}
 
+	/**
+	 * Execute a subscription that is re-sent on a new session, after a
+	 * reconnect, if the current session is disconnected.
+	 */
+	private Flux<GraphQlResponse> executeResumableSubscription(
+			GraphQlRequest request, WebSocketReconnectPolicy policy) {
+
+		return Flux.defer(() -> {
+			AtomicBoolean disconnected = new AtomicBoolean();
+			AtomicReference<@Nullable Object> cursor = new AtomicReference<>();
+
+			return Flux.defer(() -> {
+						if (!disconnected.get()) {
+							return this.graphQlSessionMono.flatMapMany((session) -> session.executeSubscription(request));
+						}
+						GraphQlRequest resumeRequest = policy.initResumeRequest(request, cursor.get());
+						return this.resubscribeRateLimiter.acquire()
+								.then(this.graphQlSessionMono)
+								.flatMapMany((session) -> {
+									if (logger.isDebugEnabled()) {
+										logger.debug("Resubscribing on " + session + ": " + resumeRequest);
+									}
+									disconnected.set(false);
+									return session.executeSubscription(resumeRequest);
+								});
+					})
+					.doOnNext((response) -> {
+						Object value = policy.extractCursor(response);
+						if (value != null) {
+							cursor.set(value);
+						}
+					})
+					.retryWhen(policy.createRetry((ex) -> {
+						if (this.graphQlSessionHandler.isStopped()) {
+							return false;
+						}
+						if (ex instanceof WebSocketDisconnectedException) {
+							disconnected.set(true);
+						}
+						// Connection failures while reconnecting are retried too
+						return disconnected.get();
+					}));
+		});
+	}
+
 	@Nullable Duration getKeepAlive() {
 		return this.keepAlive;
 	}
 
+	@Nullable WebSocketReconnectPolicy getReconnectPolicy() {
+		return this.reconnectPolicy;
+	}
+
+	@Nullable MimeType getDataMimeType() {
+		return this.graphQlSessionHandler.getDataMimeType();
+	}
+
 
 	/**
 	 * Client {@code WebSocketHandler} for GraphQL that deals with WebSocket
@@ -195,10 +276,10 @@ final class WebSocketGraphQlTransport implements GraphQlTransport {
 
 
 		GraphQlSessionHandler(
-				CodecConfigurer codecConfigurer, WebSocketGraphQlClientInterceptor interceptor,
-				@Nullable Duration keepAlive) {
+				CodecConfigurer codecConfigurer, @Nullable MimeType dataMimeType,
+				WebSocketGraphQlClientInterceptor interceptor, @Nullable Duration keepAlive) {
 
-			this.codecDelegate = new CodecDelegate(codecConfigurer);
+			this.codecDelegate = new CodecDelegate(codecConfigurer, dataMimeType);
 			this.interceptor = interceptor;
 			this.graphQlSessionSink = Sinks.unsafe().one();
 			this.keepAlive = keepAlive;
@@ -209,10 +290,14 @@ final class WebSocketGraphQlTransport implements GraphQlTransport {
 			return this.codecDelegate.getCodecConfigurer();
 		}
 
+		@Nullable MimeType getDataMimeType() {
+			return this.codecDelegate.getBinaryMimeType();
+		}
+
 
 		@Override
 		public List<String> getSubProtocols() {
-			return Collections.singletonList("graphql-transport-ws");
+			return this.codecDelegate.getSubProtocols();
 		}
 
 		/**
@@ -683,6 +768,37 @@ final class WebSocketGraphQlTransport implements GraphQlTransport {
 	}
 
 
+	/**
+	 * Spaces out subscriptions re-sent after a reconnect to a maximum number
+	 * per second, so they are not all sent to the server at once.
+	 */
+	private static final class ResubscribeRateLimiter {
+
+		private final long intervalNanos;
+
+		private final AtomicLong nextPermitNanos = new AtomicLong(System.nanoTime());
+
+		ResubscribeRateLimiter(int permitsPerSecond) {
+			this.intervalNanos = (permitsPerSecond > 0) ? Duration.ofSeconds(1).toNanos() / permitsPerSecond : 0;
+		}
+
+		/**
+		 * Return a {@code Mono} that completes when the next permit is available.
+		 */
+		Mono<Void> acquire() {
+			if (this.intervalNanos == 0) {
+				return Mono.empty();
+			}
+			long now = System.nanoTime();
+			long permitNanos = Math.max(now, this.nextPermitNanos.getAndAccumulate(now,
+					(next, current) -> Math.max(next, current) + this.intervalNanos));
+			long delayNanos = permitNanos - now;
+			return (delayNanos > 0) ? Mono.delay(Duration.ofNanos(delayNanos)).then() : Mono.empty();
+		}
+
+	}
+
+
 	/**
 	 * Base class, state container for any request type.
 	 */
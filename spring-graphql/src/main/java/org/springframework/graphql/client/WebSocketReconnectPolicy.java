@@ -0,0 +1,181 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import reactor.util.retry.Retry;
+
+import org.springframework.graphql.GraphQlRequest;
+import org.springframework.graphql.GraphQlResponse;
+import org.springframework.graphql.support.DefaultGraphQlRequest;
+import org.springframework.util.Assert;
+
+/**
+ * Policy for {@link WebSocketGraphQlClient} to reconnect after the WebSocket
+ * session is disconnected, and to resume active subscriptions on the new
+ * session instead of failing them with {@link WebSocketDisconnectedException}.
+ *
+ * <p>Reconnect attempts use exponential backoff with jitter. Re-subscriptions
+ * after a reconnect can be spread out with {@link #resubscribeRate(int)} to
+ * avoid a burst of subscription setup on the server. Optionally, a resume
+ * cursor can be extracted from the last received response, and passed in the
+ * request extensions when the subscription is re-sent.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ * @see WebSocketGraphQlClient.Builder#reconnectPolicy(WebSocketReconnectPolicy)
+ */
+public final class WebSocketReconnectPolicy {
+
+	private final Duration minBackoff;
+
+	private final Duration maxBackoff;
+
+	private long maxAttempts = Long.MAX_VALUE;
+
+	private double jitter = 0.5d;
+
+	private int resubscribeRate;
+
+	private @Nullable String resumeCursorExtension;
+
+	private @Nullable Function<GraphQlResponse, @Nullable Object> resumeCursorExtractor;
+
+
+	private WebSocketReconnectPolicy(Duration minBackoff, Duration maxBackoff) {
+		Assert.notNull(minBackoff, "minBackoff is required");
+		Assert.notNull(maxBackoff, "maxBackoff is required");
+		Assert.isTrue(minBackoff.compareTo(maxBackoff) <= 0, "minBackoff must not be greater than maxBackoff");
+		this.minBackoff = minBackoff;
+		this.maxBackoff = maxBackoff;
+	}
+
+
+	/**
+	 * Configure the maximum number of consecutive reconnect attempts before
+	 * subscriptions are failed with the original disconnect error.
+	 * <p>By default, this is unbounded.
+	 * @param maxAttempts the maximum number of attempts
+	 */
+	public WebSocketReconnectPolicy maxAttempts(long maxAttempts) {
+		Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than 0");
+		this.maxAttempts = maxAttempts;
+		return this;
+	}
+
+	/**
+	 * Configure the jitter factor to apply to each backoff delay.
+	 * <p>By default, this is set to 0.5.
+	 * @param jitter a value between 0 (no jitter) and 1
+	 */
+	public WebSocketReconnectPolicy jitter(double jitter) {
+		Assert.isTrue(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1");
+		this.jitter = jitter;
+		return this;
+	}
+
+	/**
+	 * Configure the maximum number of subscriptions to re-send per second
+	 * after a reconnect. Subscriptions beyond that are delayed, so that a
+	 * reconnect does not re-run all subscription setup at once.
+	 * <p>By default, this is 0, which means re-subscriptions are not limited.
+	 * @param permitsPerSecond the maximum number of re-subscriptions per second
+	 */
+	public WebSocketReconnectPolicy resubscribeRate(int permitsPerSecond) {
+		Assert.isTrue(permitsPerSecond >= 0, "permitsPerSecond must not be negative");
+		this.resubscribeRate = permitsPerSecond;
+		return this;
+	}
+
+	/**
+	 * Configure a function to extract a resume cursor from each received
+	 * subscription response. When the subscription is re-sent after a
+	 * reconnect, the last extracted cursor is passed in the request
+	 * extensions under the given name.
+	 * @param extensionName the name of the extension to pass the cursor in
+	 * @param cursorExtractor function to extract the cursor from a response;
+	 * may return {@code null} to keep the previous cursor
+	 */
+	public WebSocketReconnectPolicy resumeCursor(
+			String extensionName, Function<GraphQlResponse, @Nullable Object> cursorExtractor) {
+
+		Assert.hasText(extensionName, "extensionName is required");
+		Assert.notNull(cursorExtractor, "cursorExtractor is required");
+		this.resumeCursorExtension = extensionName;
+		this.resumeCursorExtractor = cursorExtractor;
+		return this;
+	}
+
+
+	/**
+	 * Return the configured re-subscription rate per second, or 0 if not limited.
+	 */
+	int getResubscribeRate() {
+		return this.resubscribeRate;
+	}
+
+	/**
+	 * Create the {@link Retry} to use for a subscription.
+	 * @param filter to decide which errors may be retried
+	 */
+	Retry createRetry(Predicate<Throwable> filter) {
+		return Retry.backoff(this.maxAttempts, this.minBackoff)
+				.maxBackoff(this.maxBackoff)
+				.jitter(this.jitter)
+				.transientErrors(true)
+				.filter(filter)
+				.onRetryExhaustedThrow((spec, signal) -> signal.failure());
+	}
+
+	/**
+	 * Extract a resume cursor from the given response, if configured.
+	 */
+	@Nullable Object extractCursor(GraphQlResponse response) {
+		return (this.resumeCursorExtractor != null) ? this.resumeCursorExtractor.apply(response) : null;
+	}
+
+	/**
+	 * Return the request to re-send after a reconnect, with the given cursor
+	 * added to the extensions, if present.
+	 */
+	GraphQlRequest initResumeRequest(GraphQlRequest request, @Nullable Object cursor) {
+		if (cursor == null || this.resumeCursorExtension == null) {
+			return request;
+		}
+		Map<String, Object> extensions = new LinkedHashMap<>(request.getExtensions());
+		extensions.put(this.resumeCursorExtension, cursor);
+		return new DefaultGraphQlRequest(
+				request.getDocument(), request.getOperationName(), request.getVariables(), extensions);
+	}
+
+
+	/**
+	 * Create a policy with exponential backoff between reconnect attempts.
+	 * @param minBackoff the delay before the first reconnect attempt
+	 * @param maxBackoff the upper bound for the delay between attempts
+	 */
+	public static WebSocketReconnectPolicy backoff(Duration minBackoff, Duration maxBackoff) {
+		return new WebSocketReconnectPolicy(minBackoff, maxBackoff);
+	}
+
+}
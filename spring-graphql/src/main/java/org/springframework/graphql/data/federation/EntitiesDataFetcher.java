@@ -20,11 +20,9 @@ package org.springframework.graphql.data.federation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletionException;
 
 import com.apollographql.federation.graphqljava._Entity;
@@ -57,14 +55,17 @@ final class EntitiesDataFetcher implements DataFetcher<Mono<DataFetcherResult<Li
 
 	private final HandlerDataFetcherExceptionResolver exceptionResolver;
 
+	private final @Nullable EntityCache entityCache;
+
 
 	EntitiesDataFetcher(
 			Map<String, EntityHandlerMethod> handlerMethods, Map<String, String> objectToInterfaceMap,
-			HandlerDataFetcherExceptionResolver resolver) {
+			HandlerDataFetcherExceptionResolver resolver, @Nullable EntityCache entityCache) {
 
 		this.handlerMethods = new LinkedHashMap<>(handlerMethods);
 		this.objectToInterfaceMap = objectToInterfaceMap;
 		this.exceptionResolver = resolver;
+		this.entityCache = entityCache;
 	}
 
 
@@ -79,41 +80,69 @@ final class EntitiesDataFetcher implements DataFetcher<Mono<DataFetcherResult<Li
 			return Mono.just(DataFetcherResult.<List<Object>>newResult().data(Collections.emptyList()).build());
 		}
 
-		Set<String> batchedTypes = new HashSet<>();
-		List<Mono<?>> monoList = new ArrayList<>();
-		for (int index = 0; index < representations.size(); index++) {
+		List<EntityCache.SelectedFieldKey> selection =
+				(this.entityCache != null) ? EntityCache.getSelection(env) : List.of();
+
+		// Group by type in a single pass, preserving original indexes
+		Map<String, TypeGroup> typeGroups = new LinkedHashMap<>();
+		List<Mono<EntitiesResultContainer>> monoList = new ArrayList<>();
+		for (int i = 0; i < representations.size(); i++) {
+			int index = i;
 			Map<String, Object> map = representations.get(index);
 			if (!(map.get("__typename") instanceof String type)) {
 				Exception ex = new RepresentationException(map, "Missing \"__typename\" argument");
-				monoList.add(resolveException(ex, env, null, index));
+				monoList.add(resolveException(ex, env, null, index)
+						.map((error) -> EntitiesResultContainer.from(error, index)));
 				continue;
 			}
-			EntityHandlerMethod handlerMethod = this.handlerMethods.get(type);
-			if (handlerMethod == null) {
-				String interfaceType = this.objectToInterfaceMap.get(type);
-				handlerMethod = this.handlerMethods.get(interfaceType);
-			}
-			if (handlerMethod == null) {
-				Exception ex = new RepresentationException(map, "No entity fetcher");
-				monoList.add(resolveException(ex, env, null, index));
-				continue;
-			}
-
-			if (!handlerMethod.isBatchHandlerMethod()) {
-				monoList.add(invokeEntityMethod(env, handlerMethod, map, index));
+			EntityCache.Key cacheKey = null;
+			if (this.entityCache != null) {
+				cacheKey = EntityCache.createKey(map, selection);
+				Object entity = this.entityCache.get(cacheKey);
+				if (entity != null) {
+					monoList.add(Mono.just(EntitiesResultContainer.from(entity, index)));
+					continue;
+				}
 			}
-			else {
-				if (!batchedTypes.contains(type)) {
-					monoList.add(invokeEntitiesMethod(env, handlerMethod, representations, type));
-					batchedTypes.add(type);
+			TypeGroup typeGroup = typeGroups.get(type);
+			if (typeGroup == null) {
+				EntityHandlerMethod handlerMethod = this.handlerMethods.get(type);
+				if (handlerMethod == null) {
+					String interfaceType = this.objectToInterfaceMap.get(type);
+					handlerMethod = this.handlerMethods.get(interfaceType);
 				}
-				else {
-					// Already covered, but zip needs a value (to be replaced by batch results)
-					monoList.add(Mono.just(Collections.emptyMap()));
+				if (handlerMethod == null) {
+					Exception ex = new RepresentationException(map, "No entity fetcher");
+					monoList.add(resolveException(ex, env, null, index)
+							.map((error) -> EntitiesResultContainer.from(error, index)));
+					continue;
 				}
+				typeGroup = new TypeGroup(handlerMethod);
+				typeGroups.put(type, typeGroup);
 			}
+			typeGroup.add(map, index, cacheKey);
+		}
+
+		// Zip subscribes to all, so type groups are dispatched in parallel
+		for (TypeGroup typeGroup : typeGroups.values()) {
+			monoList.add((typeGroup.handlerMethod().isBatchHandlerMethod()) ?
+					invokeEntitiesMethod(env, typeGroup) : invokeEntityMethods(env, typeGroup));
+		}
+
+		int size = representations.size();
+		return Mono.zip(monoList, Arrays::asList).map((containers) -> toDataFetcherResult(containers, size));
+	}
+
+	private Mono<EntitiesResultContainer> invokeEntityMethods(DataFetchingEnvironment env, TypeGroup typeGroup) {
+		List<Mono<Object>> monoList = new ArrayList<>(typeGroup.indexes().size());
+		for (int i = 0; i < typeGroup.indexes().size(); i++) {
+			EntityCache.Key cacheKey = typeGroup.cacheKeys().get(i);
+			monoList.add(invokeEntityMethod(
+					env, typeGroup.handlerMethod(), typeGroup.representations().get(i), typeGroup.indexes().get(i))
+					.doOnNext((entity) -> cacheEntity(cacheKey, entity)));
 		}
-		return Mono.zip(monoList, Arrays::asList).map(EntitiesDataFetcher::toDataFetcherResult);
+		return Mono.zip(monoList, Arrays::asList)
+				.map((results) -> new EntitiesResultContainer(results, typeGroup.indexes()));
 	}
 
 	private Mono<Object> invokeEntityMethod(
@@ -127,19 +156,11 @@ final class EntitiesDataFetcher implements DataFetcher<Mono<DataFetcherResult<Li
 
 	@SuppressWarnings("NullAway") // https://github.com/uber/NullAway/issues/1290
 	private Mono<EntitiesResultContainer> invokeEntitiesMethod(
-			DataFetchingEnvironment environment, EntityHandlerMethod handlerMethod,
-			List<Map<String, Object>> representations, String type) {
-
-		List<Map<String, Object>> typeRepresentations = new ArrayList<>();
-		List<Integer> originalIndexes = new ArrayList<>();
+			DataFetchingEnvironment environment, TypeGroup typeGroup) {
 
-		for (int i = 0; i < representations.size(); i++) {
-			Map<String, Object> map = representations.get(i);
-			if (type.equals(map.get("__typename"))) {
-				typeRepresentations.add(map);
-				originalIndexes.add(i);
-			}
-		}
+		EntityHandlerMethod handlerMethod = typeGroup.handlerMethod();
+		List<Map<String, Object>> typeRepresentations = typeGroup.representations();
+		List<Integer> originalIndexes = typeGroup.indexes();
 
 		return handlerMethod.getEntities(environment, typeRepresentations)
 				.mapNotNull((result) -> (((List<?>) result).isEmpty()) ? null : result)
@@ -159,7 +180,19 @@ final class EntitiesDataFetcher implements DataFetcher<Mono<DataFetcherResult<Li
 					}
 					return Mono.zip(list, Arrays::asList);
 				})
-				.map((result) -> new EntitiesResultContainer((List<?>) result, originalIndexes));
+				.map((result) -> {
+					List<?> results = (List<?>) result;
+					for (int i = 0; i < results.size() && i < typeGroup.cacheKeys().size(); i++) {
+						cacheEntity(typeGroup.cacheKeys().get(i), results.get(i));
+					}
+					return new EntitiesResultContainer(results, originalIndexes);
+				});
+	}
+
+	private void cacheEntity(EntityCache.@Nullable Key cacheKey, @Nullable Object entity) {
+		if (this.entityCache != null && cacheKey != null && entity != null && !(entity instanceof ErrorContainer)) {
+			this.entityCache.put(cacheKey, entity);
+		}
 	}
 
 	private Mono<ErrorContainer> resolveException(
@@ -192,14 +225,14 @@ final class EntitiesDataFetcher implements DataFetcher<Mono<DataFetcherResult<Li
 				.build());
 	}
 
-	private static DataFetcherResult<List<Object>> toDataFetcherResult(List<Object> entities) {
+	private static DataFetcherResult<List<Object>> toDataFetcherResult(List<Object> containers, int size) {
+		List<Object> entities = new ArrayList<>(Collections.nCopies(size, null));
+		for (Object container : containers) {
+			((EntitiesResultContainer) container).applyResults(entities);
+		}
 		List<GraphQLError> errors = new ArrayList<>();
 		for (int i = 0; i < entities.size(); i++) {
-			Object entity = entities.get(i);
-			if (entity instanceof EntitiesResultContainer resultHandler) {
-				resultHandler.applyResults(entities, errors);
-			}
-			if (entity instanceof ErrorContainer errorContainer) {
+			if (entities.get(i) instanceof ErrorContainer errorContainer) {
 				errors.addAll(errorContainer.errors());
 				entities.set(i, null);
 			}
@@ -226,19 +259,34 @@ final class EntitiesDataFetcher implements DataFetcher<Mono<DataFetcherResult<Li
 	}
 
 
+	/**
+	 * Representations of the same type, along with their original indexes.
+	 */
+	private record TypeGroup(
+			EntityHandlerMethod handlerMethod, List<Map<String, Object>> representations,
+			List<Integer> indexes, List<EntityCache.@Nullable Key> cacheKeys) {
+
+		TypeGroup(EntityHandlerMethod handlerMethod) {
+			this(handlerMethod, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+		}
+
+		void add(Map<String, Object> representation, int index, EntityCache.@Nullable Key cacheKey) {
+			this.representations.add(representation);
+			this.indexes.add(index);
+			this.cacheKeys.add(cacheKey);
+		}
+	}
+
+
 	private record EntitiesResultContainer(List<?> results, List<Integer> originalIndexes) {
 
-		public void applyResults(List<Object> entities, List<GraphQLError> errors) {
+		static EntitiesResultContainer from(Object result, int index) {
+			return new EntitiesResultContainer(Collections.singletonList(result), Collections.singletonList(index));
+		}
+
+		void applyResults(List<Object> entities) {
 			for (int i = 0; i < this.results.size(); i++) {
-				Object result = this.results.get(i);
-				Integer index = this.originalIndexes.get(i);
-				if (result instanceof ErrorContainer container) {
-					errors.addAll(container.errors());
-					entities.set(index, null);
-				}
-				else {
-				entities.set(index, result);
-				}
+				entities.set(this.originalIndexes.get(i), this.results.get(i));
 			}
 		}
 	}
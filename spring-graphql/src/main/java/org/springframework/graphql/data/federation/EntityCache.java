@@ -0,0 +1,260 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.federation;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache for entities resolved through
+ * {@link EntityMapping @EntityMapping} methods, which allows serving repeated
+ * {@code "_entities"} requests for the same representations without invoking
+ * the handler method again.
+ *
+ * <p>Entities are keyed by the representation, i.e. the {@code "__typename"}
+ * and the key fields, along with the fields selected in the
+ * {@code "_entities"} query and their arguments, so that handlers that fetch
+ * data based on the selection set do not serve partially populated entities.
+ * Entries expire after the configured time-to-live, and once the maximum size
+ * is exceeded, an expired entry or else the least recently used entry among a
+ * sample of entries is evicted, which approximates LRU eviction without a
+ * global lock.
+ *
+ * <p>Hit and miss counts are exposed through getters, and can be registered
+ * as Micrometer meters via {@link #bindTo(MeterRegistry)}.
+ *
+ * <p>Only use this for entities that do not vary by request context, such as
+ * the current user, since that is not part of the key.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ * @see FederationSchemaFactory#setEntityCache(EntityCache)
+ */
+public final class EntityCache {
+
+	private static final int EVICTION_SAMPLE_SIZE = 16;
+
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	private final long timeToLive;
+
+	private final int maxSize;
+
+	private final AtomicLong accessCounter = new AtomicLong();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+
+	/**
+	 * Create an instance.
+	 * @param timeToLive how long to keep entities for
+	 * @param maxSize the maximum number of entities to cache
+	 */
+	public EntityCache(Duration timeToLive, int maxSize) {
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "'timeToLive' must be positive");
+		Assert.isTrue(maxSize > 0, "'maxSize' must be positive");
+		this.timeToLive = timeToLive.toNanos();
+		this.maxSize = maxSize;
+	}
+
+
+	/**
+	 * Return the number of times a cached entity was served.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of times an entity was not in the cache, or had expired.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of entries currently in the cache, including any that
+	 * have expired but have not yet been purged.
+	 */
+	public int getSize() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Remove all entries from the cache.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Register {@code "graphql.federation.entity.cache.hits"} and
+	 * {@code "graphql.federation.entity.cache.misses"} function counters, and a
+	 * {@code "graphql.federation.entity.cache.size"} gauge, for this cache.
+	 * @param meterRegistry the registry to register meters with
+	 */
+	public void bindTo(MeterRegistry meterRegistry) {
+		FunctionCounter.builder("graphql.federation.entity.cache.hits", this, EntityCache::getHitCount)
+				.description("Number of entities served from the cache")
+				.register(meterRegistry);
+		FunctionCounter.builder("graphql.federation.entity.cache.misses", this, EntityCache::getMissCount)
+				.description("Number of entities not found in the cache")
+				.register(meterRegistry);
+		Gauge.builder("graphql.federation.entity.cache.size", this, EntityCache::getSize)
+				.description("Number of entities in the cache")
+				.register(meterRegistry);
+	}
+
+
+	/**
+	 * Return the cached entity for the given key, or {@code null}.
+	 */
+	@Nullable Object get(Key key) {
+		Entry entry = this.entries.get(key);
+		if (entry != null && entry.isExpired(System.nanoTime())) {
+			this.entries.remove(key, entry);
+			entry = null;
+		}
+		if (entry == null) {
+			this.missCount.increment();
+			return null;
+		}
+		entry.setLastAccess(this.accessCounter.incrementAndGet());
+		this.hitCount.increment();
+		return entry.getEntity();
+	}
+
+	/**
+	 * Cache the given entity, evicting an entry if the cache is full.
+	 */
+	void put(Key key, Object entity) {
+		Entry entry = new Entry(entity, System.nanoTime() + this.timeToLive);
+		entry.setLastAccess(this.accessCounter.incrementAndGet());
+		this.entries.put(key, entry);
+		if (this.entries.size() > this.maxSize) {
+			evict();
+		}
+	}
+
+	/**
+	 * Evict entries until the cache is within its maximum size, choosing among
+	 * a sample of entries an expired one or else the least recently used one,
+	 * which avoids a scan of all entries on each put.
+	 */
+	private void evict() {
+		long now = System.nanoTime();
+		while (this.entries.size() > this.maxSize) {
+			Map.Entry<Key, Entry> eldest = null;
+			int sampleCount = 0;
+			for (Map.Entry<Key, Entry> candidate : this.entries.entrySet()) {
+				if (candidate.getValue().isExpired(now)) {
+					eldest = candidate;
+					break;
+				}
+				if (eldest == null || candidate.getValue().getLastAccess() < eldest.getValue().getLastAccess()) {
+					eldest = candidate;
+				}
+				if (++sampleCount == EVICTION_SAMPLE_SIZE) {
+					break;
+				}
+			}
+			if (eldest == null) {
+				return;
+			}
+			this.entries.remove(eldest.getKey(), eldest.getValue());
+		}
+	}
+
+
+	/**
+	 * Return the selection on the {@code "_entities"} field, including field
+	 * arguments, that forms part of the key for each entity in the request.
+	 */
+	static List<SelectedFieldKey> getSelection(DataFetchingEnvironment env) {
+		DataFetchingFieldSelectionSet selectionSet = env.getSelectionSet();
+		if (selectionSet == null) {
+			return List.of();
+		}
+		return selectionSet.getFields().stream()
+				.map((field) -> new SelectedFieldKey(field.getFullyQualifiedName(), field.getArguments()))
+				.toList();
+	}
+
+	/**
+	 * Create a key for the given representation and selection.
+	 */
+	static Key createKey(Map<String, Object> representation, List<SelectedFieldKey> selection) {
+		return new Key(new LinkedHashMap<>(representation), selection);
+	}
+
+
+	record Key(Map<String, Object> representation, List<SelectedFieldKey> selection) {
+	}
+
+
+	record SelectedFieldKey(String qualifiedName, Map<String, Object> arguments) {
+	}
+
+
+	private static final class Entry {
+
+		private final Object entity;
+
+		private final long expiresAt;
+
+		private volatile long lastAccess;
+
+		Entry(Object entity, long expiresAt) {
+			this.entity = entity;
+			this.expiresAt = expiresAt;
+		}
+
+		Object getEntity() {
+			return this.entity;
+		}
+
+		long getLastAccess() {
+			return this.lastAccess;
+		}
+
+		void setLastAccess(long lastAccess) {
+			this.lastAccess = lastAccess;
+		}
+
+		boolean isExpired(long now) {
+			return (now - this.expiresAt >= 0);
+		}
+	}
+
+}
@@ -81,6 +81,8 @@ public final class FederationSchemaFactory
 
 	private @Nullable TypeResolver typeResolver;
 
+	private @Nullable EntityCache entityCache;
+
 	private final Map<String, EntityHandlerMethod> handlerMethods = new LinkedHashMap<>();
 
 
@@ -94,6 +96,18 @@ public final class FederationSchemaFactory
 		this.typeResolver = typeResolver;
 	}
 
+	/**
+	 * Configure a cache for entities resolved through {@code @EntityMapping}
+	 * methods, in order to serve repeated {@code "_entities"} requests for the
+	 * same representations without invoking the handler method.
+	 * <p>By default, this is not set, and entities are not cached.
+	 * @param entityCache the cache to use
+	 * @since 2.1.0
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
 
 	@Override
 	public void afterPropertiesSet() {
@@ -189,7 +203,8 @@ public final class FederationSchemaFactory
 		checkEntityMappings(registry, objectToInterfaceTypeMap);
 
 		EntitiesDataFetcher entitiesDataFetcher =
-				new EntitiesDataFetcher(this.handlerMethods, objectToInterfaceTypeMap, getExceptionResolver());
+				new EntitiesDataFetcher(this.handlerMethods, objectToInterfaceTypeMap,
+						getExceptionResolver(), this.entityCache);
 
 		return Federation.transform(registry, wiring)
 				.fetchEntities(entitiesDataFetcher)
@@ -157,6 +157,10 @@ public abstract class InvocableHandlerMethodSupport extends HandlerMethod {
 		CompletableFuture<Object> future = new CompletableFuture<>();
 		Assert.state(this.executor != null, "No Executor configured for Callable return values");
 		this.executor.execute(() -> {
+			if (future.isDone()) {
+				// cancelled, e.g. after a timeout, before the task started
+				return;
+			}
 			try {
 				ContextSnapshot snapshot = ContextPropagationHelper.captureFrom(graphQLContext);
 				Object value = snapshot.wrap((Callable<?>) result).call();
@@ -104,4 +104,15 @@ public @interface BatchMapping {
 	 */
 	int maxBatchSize() default -1;
 
+	/**
+	 * Set a timeout for a batch load, after which the fields for all keys in
+	 * the batch resolve to {@code null} with an error, while the rest of the
+	 * response is still returned. The value is a duration in ISO-8601 format,
+	 * e.g. "PT5S", or in simple format, e.g. "500ms" or "5s".
+	 * <p>By default, this is empty in which case there is no timeout.
+	 * @since 2.1.0
+	 * @see SchemaMapping#timeout()
+	 */
+	String timeout() default "";
+
 }
@@ -50,4 +50,11 @@ public @interface QueryMapping {
 	@AliasFor(annotation = SchemaMapping.class, attribute = "field")
 	String value() default "";
 
+	/**
+	 * Alias for {@link SchemaMapping#timeout()}.
+	 * @since 2.1.0
+	 */
+	@AliasFor(annotation = SchemaMapping.class, attribute = "timeout")
+	String timeout() default "";
+
 }
@@ -66,4 +66,19 @@ public @interface SchemaMapping {
 	 */
 	String typeName() default "";
 
+	/**
+	 * Set a timeout for the field value, after which the field resolves to
+	 * {@code null} with an error, while the rest of the response is still
+	 * returned. The value is a duration in ISO-8601 format, e.g. "PT5S", or in
+	 * simple format, e.g. "500ms" or "5s".
+	 * <p>A timeout applies to asynchronous return values, such as
+	 * {@code Mono}, {@code CompletableFuture}, or {@code Callable}, and is
+	 * raised as a {@link java.util.concurrent.TimeoutException} to exception
+	 * resolvers. It is not supported on subscription fields.
+	 * <p>By default, this is empty in which case there is no timeout.
+	 * <p>This attribute is supported at the method level only.
+	 * @since 2.1.0
+	 */
+	String timeout() default "";
+
 }
@@ -18,6 +18,7 @@ package org.springframework.graphql.data.method.annotation.support;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -62,6 +63,7 @@ import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.domain.ScrollPosition;
+import org.springframework.format.datetime.standard.DurationFormatterUtils;
 import org.springframework.graphql.data.ArgumentValue;
 import org.springframework.graphql.data.GraphQlArgumentBinder;
 import org.springframework.graphql.data.method.HandlerMethod;
@@ -267,12 +269,14 @@ public class AnnotatedControllerConfigurer
 		String field;
 		boolean batchMapping = false;
 		int batchSize = -1;
+		String timeout;
 		HandlerMethod handlerMethod = createHandlerMethod(method, handler, handlerType);
 
 		Annotation annotation = annotations.iterator().next();
 		if (annotation instanceof SchemaMapping mapping) {
 			typeName = mapping.typeName();
 			field = (StringUtils.hasText(mapping.field()) ? mapping.field() : method.getName());
+			timeout = mapping.timeout();
 		}
 		else {
 			BatchMapping mapping = (BatchMapping) annotation;
@@ -280,6 +284,7 @@ public class AnnotatedControllerConfigurer
 			field = (StringUtils.hasText(mapping.field()) ? mapping.field() : method.getName());
 			batchMapping = true;
 			batchSize = mapping.maxBatchSize();
+			timeout = mapping.timeout();
 		}
 
 		if (!StringUtils.hasText(typeName)) {
@@ -318,7 +323,12 @@ public class AnnotatedControllerConfigurer
 				"No parentType specified, and a source/parent method argument was also not found: " +
 						handlerMethod.getShortLogMessage());
 
-		return new DataFetcherMappingInfo(typeName, field, batchMapping, batchSize, handlerMethod);
+		return new DataFetcherMappingInfo(
+				typeName, field, batchMapping, batchSize, parseTimeout(timeout), handlerMethod);
+	}
+
+	private static @Nullable Duration parseTimeout(String timeout) {
+		return (StringUtils.hasText(timeout) ? DurationFormatterUtils.detectAndParse(timeout) : null);
 	}
 
 	@Override
@@ -368,8 +378,16 @@ public class AnnotatedControllerConfigurer
 
 		ReactiveAdapter adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(clazz);
 
+		Duration timeout = info.getTimeout();
+
 		if (Collection.class.isAssignableFrom(clazz) || (adapter != null && adapter.isMultiValue())) {
-			registration.registerBatchLoader(invocable::invokeForIterable);
+			if (timeout != null) {
+				registration.registerBatchLoader((keys, env) -> invocable.invokeForIterable(keys, env)
+						.collectList().timeout(timeout).flatMapIterable((values) -> values));
+			}
+			else {
+				registration.registerBatchLoader(invocable::invokeForIterable);
+			}
 			ResolvableType valueType = ResolvableType.forMethodParameter(returnType.nested());
 			return new BatchMappingDataFetcher(info, valueType, dataLoaderKey);
 		}
@@ -380,7 +398,15 @@ public class AnnotatedControllerConfigurer
 		}
 
 		if (Map.class.isAssignableFrom(clazz)) {
-			registration.registerMappedBatchLoader(invocable::invokeForMap);
+			if (timeout != null) {
+				registration.registerMappedBatchLoader((keys, env) -> {
+					Mono<Map<Object, Object>> result = invocable.invokeForMap(keys, env);
+					return ((result != null) ? result.timeout(timeout) : Mono.empty());
+				});
+			}
+			else {
+				registration.registerMappedBatchLoader(invocable::invokeForMap);
+			}
 			ResolvableType valueType = ResolvableType.forMethodParameter(returnType.nested(1));
 			return new BatchMappingDataFetcher(info, valueType, dataLoaderKey);
 		}
@@ -520,13 +546,28 @@ public class AnnotatedControllerConfigurer
 
 			try {
 				Object result = handlerMethod.invoke(environment);
-				return applyExceptionHandling(environment, handlerMethod, result);
+				return applyExceptionHandling(environment, handlerMethod, applyTimeout(result));
 			}
 			catch (Throwable ex) {
 				return handleException(ex, environment, handlerMethod);
 			}
 		}
 
+		private @Nullable Object applyTimeout(@Nullable Object result) {
+			Duration timeout = this.mappingInfo.getTimeout();
+			if (timeout == null || this.subscription) {
+				return result;
+			}
+			result = ReactiveAdapterRegistryHelper.toMonoOrFluxIfReactive(result);
+			if (result instanceof Mono<?> mono) {
+				return mono.timeout(timeout);
+			}
+			else if (result instanceof Flux<?> flux) {
+				return flux.collectList().timeout(timeout);
+			}
+			return result;
+		}
+
 		@SuppressWarnings({"unchecked", "ReactiveStreamsUnusedPublisher"})
 		private @Nullable <T> Object applyExceptionHandling(
 				DataFetchingEnvironment env, DataFetcherHandlerMethod handlerMethod, @Nullable Object result) {
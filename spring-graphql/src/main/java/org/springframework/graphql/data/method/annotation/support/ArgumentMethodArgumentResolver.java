@@ -16,6 +16,15 @@
 
 package org.springframework.graphql.data.method.annotation.support;
 
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import graphql.GraphQLContext;
 import graphql.schema.DataFetchingEnvironment;
 import org.jspecify.annotations.Nullable;
 
@@ -26,6 +35,7 @@ import org.springframework.graphql.data.GraphQlArgumentBinder;
 import org.springframework.graphql.data.method.HandlerMethodArgumentResolver;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.BindException;
 
@@ -45,6 +55,11 @@ import org.springframework.validation.BindException;
  * <p>An {@link ArgumentValue} can also be nested within the object structure
  * of an {@link Argument @Argument}-annotated method parameter.
  *
+ * <p>Bound values of immutable types such as scalars, enums, and records
+ * with immutable components are memoized for the duration of a request, so
+ * that the same argument value, e.g. for a field nested under a list, is
+ * bound once rather than once for every item of the list.
+ *
  * @author Rossen Stoyanchev
  * @author Brian Clozel
  * @since 1.0.0
@@ -52,8 +67,13 @@ import org.springframework.validation.BindException;
  */
 public class ArgumentMethodArgumentResolver implements HandlerMethodArgumentResolver {
 
+	private static final String BOUND_VALUES_KEY = ArgumentMethodArgumentResolver.class.getName() + ".BOUND_VALUES";
+
+
 	private final GraphQlArgumentBinder argumentBinder;
 
+	private final Map<Class<?>, Boolean> immutableTypeCache = new ConcurrentHashMap<>();
+
 
 	public ArgumentMethodArgumentResolver(GraphQlArgumentBinder argumentBinder) {
 		Assert.notNull(argumentBinder, "GraphQlArgumentBinder is required");
@@ -92,7 +112,67 @@ public class ArgumentMethodArgumentResolver implements HandlerMethodArgumentReso
 	protected @Nullable Object doBind(
 			DataFetchingEnvironment environment, String name, ResolvableType targetType) throws BindException {
 
-		return this.argumentBinder.bind(environment, name, targetType);
+		Object rawValue = environment.getArgument(name);
+		boolean isOmitted = !environment.getArguments().containsKey(name);
+
+		Map<BoundValueKey, BoundValue> boundValues = getBoundValues(environment, targetType);
+		if (boundValues == null) {
+			return this.argumentBinder.bind(rawValue, isOmitted, targetType);
+		}
+
+		BoundValueKey key = new BoundValueKey(name, targetType, rawValue, isOmitted);
+		BoundValue boundValue = boundValues.get(key);
+		if (boundValue == null) {
+			boundValue = new BoundValue(this.argumentBinder.bind(rawValue, isOmitted, targetType));
+			boundValues.putIfAbsent(key, boundValue);
+		}
+		return boundValue.value();
+	}
+
+	private @Nullable Map<BoundValueKey, BoundValue> getBoundValues(
+			DataFetchingEnvironment environment, ResolvableType targetType) {
+
+		GraphQLContext graphQlContext = environment.getGraphQlContext();
+		if (graphQlContext == null || !isImmutable(targetType)) {
+			return null;
+		}
+		return graphQlContext.computeIfAbsent(BOUND_VALUES_KEY, (key) -> new ConcurrentHashMap<>());
+	}
+
+	private boolean isImmutable(ResolvableType targetType) {
+		Class<?> targetClass = targetType.resolve(Object.class);
+		if (targetClass == ArgumentValue.class || targetClass == Optional.class) {
+			return isImmutable(targetType.getGeneric(0));
+		}
+		return isImmutable(targetClass);
+	}
+
+	private boolean isImmutable(Class<?> type) {
+		Boolean immutable = this.immutableTypeCache.get(type);
+		if (immutable == null) {
+			// Guard against cycles for records that refer to themselves
+			this.immutableTypeCache.put(type, false);
+			immutable = checkImmutable(type);
+			this.immutableTypeCache.put(type, immutable);
+		}
+		return immutable;
+	}
+
+	private boolean checkImmutable(Class<?> type) {
+		if (ClassUtils.isPrimitiveOrWrapper(type) || type.isEnum() ||
+				type == String.class || type == BigDecimal.class || type == BigInteger.class ||
+				type == UUID.class || type.getPackageName().equals("java.time")) {
+			return true;
+		}
+		if (type.isRecord()) {
+			for (RecordComponent component : type.getRecordComponents()) {
+				if (!isImmutable(ResolvableType.forMethodReturnType(component.getAccessor()))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
 	}
 
 	static String getArgumentName(MethodParameter parameter) {
@@ -117,4 +197,12 @@ public class ArgumentMethodArgumentResolver implements HandlerMethodArgumentReso
 						"] not specified, and parameter name information not found in class file either.");
 	}
 
+
+	private record BoundValueKey(String name, ResolvableType targetType, @Nullable Object rawValue, boolean isOmitted) {
+	}
+
+
+	private record BoundValue(@Nullable Object value) {
+	}
+
 }
@@ -47,7 +47,8 @@ import org.springframework.util.StringUtils;
  *
  * <p>The resolver checks both ThreadLocal context via {@link SecurityContextHolder}
  * for Spring MVC applications, and {@link ReactiveSecurityContextHolder} for
- * Spring WebFlux applications.
+ * Spring WebFlux applications, unless the {@link Authentication} is present in
+ * the {@link graphql.GraphQLContext}, see {@link PrincipalMethodArgumentResolver}.
  *
  * @author Rob Winch
  * @since 1.0.0
@@ -97,7 +98,7 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
 	@SuppressWarnings("NullAway") // https://github.com/uber/NullAway/issues/1290
 	@Override
 	public @Nullable Object resolveArgument(MethodParameter parameter, DataFetchingEnvironment environment) throws Exception {
-		return getCurrentAuthentication(parameter)
+		return getCurrentAuthentication(parameter, environment)
 				.mapNotNull((auth) -> resolvePrincipal(parameter, auth.getPrincipal()))
 				.transform((argument) -> isPublisherOrMono(parameter) ? Mono.just(argument) : argument);
 	}
@@ -108,8 +109,8 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
 	}
 
 	@SuppressWarnings("unchecked")
-	private Mono<Authentication> getCurrentAuthentication(MethodParameter parameter) {
-		Object value = PrincipalMethodArgumentResolver.resolveAuthentication(parameter);
+	private Mono<Authentication> getCurrentAuthentication(MethodParameter parameter, DataFetchingEnvironment environment) {
+		Object value = PrincipalMethodArgumentResolver.resolveAuthentication(parameter, environment.getGraphQlContext());
 		return (value instanceof Authentication auth) ? Mono.just(auth) : (Mono<Authentication>) value;
 	}
 
@@ -164,7 +164,8 @@ public class BatchLoaderHandlerMethod extends InvocableHandlerMethodSupport {
 			return null;
 		}
 		else if (springSecurityPresent && Principal.class.isAssignableFrom(parameter.getParameterType())) {
-			return PrincipalMethodArgumentResolver.resolveAuthentication(parameter);
+			GraphQLContext context = environment.getContext();
+			return PrincipalMethodArgumentResolver.resolveAuthentication(parameter, context);
 		}
 		else {
 			throw new IllegalStateException(formatArgumentError(parameter, "Unexpected argument type."));
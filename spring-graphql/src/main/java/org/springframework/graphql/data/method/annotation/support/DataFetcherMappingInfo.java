@@ -16,6 +16,8 @@
 
 package org.springframework.graphql.data.method.annotation.support;
 
+import java.time.Duration;
+
 import graphql.schema.FieldCoordinates;
 import org.jspecify.annotations.Nullable;
 
@@ -39,6 +41,8 @@ public final class DataFetcherMappingInfo {
 
 	private final int maxBatchSize;
 
+	private final @Nullable Duration timeout;
+
 	private final HandlerMethod handlerMethod;
 
 
@@ -46,9 +50,22 @@ public final class DataFetcherMappingInfo {
 			String typeName, String field, boolean batchMapping, int maxBatchSize,
 			HandlerMethod handlerMethod) {
 
+		this(typeName, field, batchMapping, maxBatchSize, null, handlerMethod);
+	}
+
+	/**
+	 * Variant of {@link #DataFetcherMappingInfo(String, String, boolean, int, HandlerMethod)}
+	 * with a timeout for the field value.
+	 * @since 2.1.0
+	 */
+	public DataFetcherMappingInfo(
+			String typeName, String field, boolean batchMapping, int maxBatchSize,
+			@Nullable Duration timeout, HandlerMethod handlerMethod) {
+
 		this.coordinates = FieldCoordinates.coordinates(typeName, field);
 		this.batchMapping = batchMapping;
 		this.maxBatchSize = maxBatchSize;
+		this.timeout = timeout;
 		this.handlerMethod = handlerMethod;
 	}
 
@@ -56,6 +73,7 @@ public final class DataFetcherMappingInfo {
 		this.coordinates = FieldCoordinates.coordinates(typeName, info.getCoordinates().getFieldName());
 		this.batchMapping = info.batchMapping;
 		this.maxBatchSize = info.maxBatchSize;
+		this.timeout = info.timeout;
 		this.handlerMethod = info.handlerMethod;
 	}
 
@@ -99,6 +117,15 @@ public final class DataFetcherMappingInfo {
 		return this.maxBatchSize;
 	}
 
+	/**
+	 * A timeout to apply to the field value, or to the batch load for a batch
+	 * mapping method, or {@code null} if a timeout does not apply.
+	 * @since 2.1.0
+	 */
+	public @Nullable Duration getTimeout() {
+		return this.timeout;
+	}
+
 	/**
 	 * The controller method to use for data fetching.
 	 */
@@ -18,7 +18,9 @@ package org.springframework.graphql.data.method.annotation.support;
 
 import java.security.Principal;
 
+import graphql.GraphQLContext;
 import graphql.schema.DataFetchingEnvironment;
+import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.MethodParameter;
@@ -37,6 +39,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
  * for Spring MVC applications, and {@link ReactiveSecurityContextHolder} for
  * Spring WebFlux applications. It returns .
  *
+ * <p>If the {@link Authentication} is present in the {@link GraphQLContext}
+ * under the key {@code Authentication.class}, e.g. as resolved once for the
+ * request by
+ * {@link org.springframework.graphql.server.support.AuthenticationContextInterceptor},
+ * it is used directly without checking the security context.
+ *
  * @author Rossen Stoyanchev
  * @since 1.0.0
  */
@@ -53,7 +61,12 @@ public class PrincipalMethodArgumentResolver implements HandlerMethodArgumentRes
 
 	@Override
 	public Object resolveArgument(MethodParameter parameter, DataFetchingEnvironment environment) {
-		return resolveAuthentication(parameter);
+		return resolveAuthentication(parameter, environment.getGraphQlContext());
+	}
+
+	static Object resolveAuthentication(MethodParameter parameter, @Nullable GraphQLContext graphQlContext) {
+		Authentication auth = (graphQlContext != null) ? graphQlContext.get(Authentication.class) : null;
+		return (auth != null) ? auth : resolveAuthentication(parameter);
 	}
 
 	@SuppressWarnings("NullAway") // https://github.com/uber/NullAway/issues/1290
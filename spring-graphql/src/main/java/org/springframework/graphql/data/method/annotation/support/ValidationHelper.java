@@ -18,6 +18,7 @@ package org.springframework.graphql.data.method.annotation.support;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -25,7 +26,10 @@ import jakarta.validation.Constraint;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
+import jakarta.validation.metadata.MethodDescriptor;
+import jakarta.validation.metadata.ParameterDescriptor;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.context.ApplicationContext;
@@ -59,7 +63,9 @@ final class ValidationHelper {
 	/**
 	 * Create a validation callback for the given {@link HandlerMethod},
 	 * possibly {@code null} if the method or the method parameters do not have
-	 * {@link Validated}, {@link Valid}, or {@link Constraint} annotations.
+	 * {@link Validated}, {@link Valid}, or {@link Constraint} annotations, or
+	 * if the constraint metadata of the {@link Validator} shows there is
+	 * nothing to validate, e.g. {@link Valid} on a type without constraints.
 	 */
 	@Nullable BiConsumer<Object, @Nullable Object[]> getValidationHelperFor(HandlerMethod handlerMethod) {
 
@@ -85,7 +91,8 @@ final class ValidationHelper {
 				if (merged.isPresent(Valid.class) || merged.isPresent(Constraint.class)) {
 					requiresMethodValidation = true;
 				}
-				else if (annot.annotationType().equals(Validated.class)) {
+				else if (annot.annotationType().equals(Validated.class) &&
+						mayBeConstrained(parameter.getParameterType())) {
 					Class<?>[] groups = ((Validated) annot).value();
 					parameterValidator = (parameterValidator != null) ?
 							parameterValidator.andThen(new MethodParameterValidator(i, groups)) :
@@ -94,7 +101,7 @@ final class ValidationHelper {
 			}
 		}
 
-		BiConsumer<Object, @Nullable Object[]> result = (requiresMethodValidation) ?
+		BiConsumer<Object, @Nullable Object[]> result = (requiresMethodValidation && hasParameterConstraints(handlerMethod)) ?
 				new HandlerMethodValidator(handlerMethod, methodValidationGroups) : null;
 
 		if (parameterValidator != null) {
@@ -104,6 +111,56 @@ final class ValidationHelper {
 		return result;
 	}
 
+	private boolean hasParameterConstraints(HandlerMethod handlerMethod) {
+		Method method = handlerMethod.getMethod();
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		try {
+			MethodDescriptor descriptor = this.validator.getConstraintsForClass(handlerMethod.getBeanType())
+					.getConstraintsForMethod(method.getName(), parameterTypes);
+			if (descriptor == null) {
+				return false;
+			}
+			if (descriptor.getCrossParameterDescriptor().hasConstraints()) {
+				return true;
+			}
+			for (ParameterDescriptor parameterDescriptor : descriptor.getParameterDescriptors()) {
+				if (parameterDescriptor.hasConstraints() ||
+						!parameterDescriptor.getConstrainedContainerElementTypes().isEmpty()) {
+					return true;
+				}
+				if (parameterDescriptor.isCascaded() && mayBeConstrained(parameterTypes[parameterDescriptor.getIndex()])) {
+					return true;
+				}
+			}
+			return false;
+		}
+		catch (ValidationException ex) {
+			// Fall back on validating every invocation
+			return true;
+		}
+	}
+
+	/**
+	 * Whether an argument of the given declared type may have constraints.
+	 * Arrays, interfaces, abstract and generic types, e.g. containers, are
+	 * assumed to be constrained, since the runtime type or the element type can be.
+	 */
+	private boolean mayBeConstrained(Class<?> type) {
+		if (type.isPrimitive()) {
+			return false;
+		}
+		if (type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers()) ||
+				type == Object.class || type.getTypeParameters().length > 0) {
+			return true;
+		}
+		try {
+			return this.validator.getConstraintsForClass(type).isBeanConstrained();
+		}
+		catch (ValidationException ex) {
+			return true;
+		}
+	}
+
 	private @Nullable <A extends Annotation> A findAnnotation(HandlerMethod method, Class<A> annotationType) {
 		A annotation = AnnotationUtils.findAnnotation(method.getMethod(), annotationType);
 		if (annotation == null) {
@@ -26,13 +26,14 @@ import graphql.TrivialDataFetcher;
 import graphql.execution.DataFetcherResult;
 import graphql.language.NonNullType;
 import graphql.relay.Connection;
+import graphql.relay.ConnectionCursor;
 import graphql.relay.DefaultConnection;
-import graphql.relay.DefaultConnectionCursor;
 import graphql.relay.DefaultEdge;
 import graphql.relay.DefaultPageInfo;
 import graphql.relay.Edge;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.GraphQLFieldDefinition;
@@ -208,6 +209,10 @@ public final class ConnectionFieldTypeVisitor extends GraphQLTypeVisitorStub {
 		private static final Connection<?> EMPTY_CONNECTION =
 				new DefaultConnection<>(Collections.emptyList(), new DefaultPageInfo(null, null, false, false));
 
+		private static final String HAS_PREVIOUS_PAGE = "pageInfo/hasPreviousPage";
+
+		private static final String HAS_NEXT_PAGE = "pageInfo/hasNextPage";
+
 
 		ConnectionDataFetcher {
 			Assert.notNull(delegate, "DataFetcher delegate is required");
@@ -220,31 +225,33 @@ public final class ConnectionFieldTypeVisitor extends GraphQLTypeVisitorStub {
 		public Object get(DataFetchingEnvironment environment) throws Exception {
 			Object result = this.delegate.get(environment);
 			if (result instanceof Mono<?> mono) {
-				return mono.map(this::adaptDataFetcherResult);
+				return mono.map((value) -> adaptDataFetcherResult(value, environment));
 			}
 			else if (result instanceof CompletionStage<?> stage) {
-				return stage.thenApply(this::adaptDataFetcherResult);
+				return stage.thenApply((value) -> adaptDataFetcherResult(value, environment));
 			}
 			else {
-				return adaptDataFetcherResult(result);
+				return adaptDataFetcherResult(result, environment);
 			}
 		}
 
-		private Object adaptDataFetcherResult(Object value) {
+		private Object adaptDataFetcherResult(Object value, DataFetchingEnvironment environment) {
 			if (value instanceof DataFetcherResult<?> dataFetcherResult) {
-				Object adapted = adaptDataContainer(dataFetcherResult.getData());
+				Object adapted = adaptDataContainer(dataFetcherResult.getData(), environment);
 				return DataFetcherResult.newResult()
 						.data(adapted)
 						.errors(dataFetcherResult.getErrors())
 						.localContext(dataFetcherResult.getLocalContext()).build();
 			}
 			else {
-				return adaptDataContainer(value);
+				return adaptDataContainer(value, environment);
 			}
 		}
 
-		@Contract("!null -> !null")
-		private <T> @Nullable Object adaptDataContainer(@Nullable Object container) {
+		@Contract("!null, _ -> !null")
+		private <T> @Nullable Object adaptDataContainer(
+				@Nullable Object container, DataFetchingEnvironment environment) {
+
 			if (container == null) {
 				return isConnectionTypeNullable() ? null : EMPTY_CONNECTION;
 			}
@@ -266,20 +273,27 @@ public final class ConnectionFieldTypeVisitor extends GraphQLTypeVisitorStub {
 				return EMPTY_CONNECTION;
 			}
 
+			// Cursors are created lazily, only if selected
 			int index = 0;
 			List<Edge<T>> edges = new ArrayList<>(nodes.size());
 			for (T node : nodes) {
-				String cursor = this.adapter.cursorAt(container, index++);
-				edges.add(new DefaultEdge<>(node, new DefaultConnectionCursor(cursor)));
+				edges.add(new DefaultEdge<>(node, new LazyConnectionCursor(this.adapter, container, index++)));
 			}
 
+			// hasPrevious and hasNext may require extra work, only if selected
 			DefaultPageInfo pageInfo = new DefaultPageInfo(
 					edges.get(0).getCursor(), edges.get(edges.size() - 1).getCursor(),
-					this.adapter.hasPrevious(container), this.adapter.hasNext(container));
+					(isSelected(environment, HAS_PREVIOUS_PAGE) && this.adapter.hasPrevious(container)),
+					(isSelected(environment, HAS_NEXT_PAGE) && this.adapter.hasNext(container)));
 
 			return this.adapter.createConnection(container, edges, pageInfo);
 		}
 
+		private static boolean isSelected(DataFetchingEnvironment environment, String pageInfoField) {
+			DataFetchingFieldSelectionSet selectionSet = environment.getSelectionSet();
+			return (selectionSet == null || selectionSet.contains(pageInfoField));
+		}
+
 		private boolean isConnectionTypeNullable() {
 			if (this.connectionFieldDefinition.getDefinition() != null) {
 				return !(this.connectionFieldDefinition.getDefinition().getType() instanceof NonNullType);
@@ -289,4 +303,53 @@ public final class ConnectionFieldTypeVisitor extends GraphQLTypeVisitorStub {
 
 	}
 
+
+	/**
+	 * {@link ConnectionCursor} that obtains its value from the
+	 * {@link ConnectionAdapter} on first access, which avoids the cost of
+	 * creating cursors for edges when {@code cursor} is not selected.
+	 */
+	private static final class LazyConnectionCursor implements ConnectionCursor {
+
+		private final ConnectionAdapter adapter;
+
+		private final Object container;
+
+		private final int index;
+
+		private volatile @Nullable String value;
+
+		LazyConnectionCursor(ConnectionAdapter adapter, Object container, int index) {
+			this.adapter = adapter;
+			this.container = container;
+			this.index = index;
+		}
+
+		@Override
+		public String getValue() {
+			String value = this.value;
+			if (value == null) {
+				value = this.adapter.cursorAt(this.container, this.index);
+				this.value = value;
+			}
+			return value;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof ConnectionCursor that && getValue().equals(that.getValue())));
+		}
+
+		@Override
+		public int hashCode() {
+			return getValue().hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return getValue();
+		}
+
+	}
+
 }
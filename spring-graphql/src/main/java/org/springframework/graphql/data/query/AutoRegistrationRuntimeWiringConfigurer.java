@@ -18,9 +18,11 @@ package org.springframework.graphql.data.query;
 
 import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
 
 import graphql.language.FieldDefinition;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.ObjectTypeExtensionDefinition;
+import graphql.language.TypeDefinition;
 import graphql.schema.DataFetcher;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLNamedOutputType;
@@ -42,6 +44,12 @@ import org.springframework.util.Assert;
  * with a matching return type and register DataFetcher's for them, unless they
  * already have registrations.
  *
+ * <p>If a factory provides a {@link DataFetcherFactory#nested(String) nested}
+ * {@code DataFetcher}, it is also registered for single-valued fields of
+ * other, non-root types with a matching return type, if the parent type also
+ * declares a field for the identifier, named after the field with an
+ * {@code "Id"} suffix, e.g. {@code "authorId"} for a field {@code "author"}.
+ *
  * @author Rossen Stoyanchev
  */
 class AutoRegistrationRuntimeWiringConfigurer implements RuntimeWiringConfigurer {
@@ -91,6 +99,15 @@ class AutoRegistrationRuntimeWiringConfigurer implements RuntimeWiringConfigurer
 		 */
 		DataFetcher<?> scrollable();
 
+		/**
+		 * Create {@code DataFetcher} for a single item nested under another
+		 * type, or return {@code null} if nested fields are not supported.
+		 * @param fieldName the name of the nested field
+		 */
+		default @Nullable DataFetcher<?> nested(String fieldName) {
+			return null;
+		}
+
 	}
 
 
@@ -98,7 +115,7 @@ class AutoRegistrationRuntimeWiringConfigurer implements RuntimeWiringConfigurer
 
 		private final RuntimeWiring.Builder builder;
 
-		private @Nullable Predicate<String> existingQueryDataFetcherPredicate;
+		private @Nullable RuntimeWiring existingRuntimeWiring;
 
 		AutoRegistrationWiringFactory(RuntimeWiring.Builder builder) {
 			this.builder = builder;
@@ -111,14 +128,14 @@ class AutoRegistrationRuntimeWiringConfigurer implements RuntimeWiringConfigurer
 			}
 
 			if (!environment.getParentType().getName().equals("Query")) {
-				return false;
+				return (!isRootType(environment.getParentType().getName()) && getNestedDataFetcher(environment) != null);
 			}
 
 			String outputTypeName = getOutputTypeName(environment);
 
 			boolean result = (outputTypeName != null &&
 					AutoRegistrationRuntimeWiringConfigurer.this.dataFetcherFactories.containsKey(outputTypeName) &&
-					!hasDataFetcherFor(environment.getFieldDefinition()));
+					!hasDataFetcherFor("Query", environment.getFieldDefinition()));
 
 			if (!result) {
 				// This may be called multiples times on success, so log only rejections from here
@@ -157,13 +174,59 @@ class AutoRegistrationRuntimeWiringConfigurer implements RuntimeWiringConfigurer
 					objectType.getField("edges") != null && objectType.getField("pageInfo") != null);
 		}
 
+		private boolean isRootType(String typeName) {
+			return (typeName.equals("Mutation") || typeName.equals("Subscription"));
+		}
+
+		private @Nullable DataFetcher<?> getNestedDataFetcher(FieldWiringEnvironment environment) {
+			GraphQLType outputType = removeNonNullWrapper(environment.getFieldType());
+			if (!(outputType instanceof GraphQLObjectType objectType)) {
+				return null;
+			}
+			DataFetcherFactory factory =
+					AutoRegistrationRuntimeWiringConfigurer.this.dataFetcherFactories.get(objectType.getName());
+			if (factory == null) {
+				return null;
+			}
+			String fieldName = environment.getFieldDefinition().getName();
+			if (!hasIdField(environment, BatchedEntityFetcher.getIdPropertyName(fieldName)) ||
+					hasDataFetcherFor(environment.getParentType().getName(), environment.getFieldDefinition())) {
+				return null;
+			}
+			return factory.nested(fieldName);
+		}
+
+		private boolean hasIdField(FieldWiringEnvironment environment, String idFieldName) {
+			TypeDefinition<?> parentType = environment.getParentType();
+			if (parentType instanceof ObjectTypeDefinition objectType && hasField(objectType, idFieldName)) {
+				return true;
+			}
+			List<ObjectTypeExtensionDefinition> extensions =
+					environment.getRegistry().objectTypeExtensions().getOrDefault(parentType.getName(), List.of());
+			for (ObjectTypeExtensionDefinition extension : extensions) {
+				if (hasField(extension, idFieldName)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static boolean hasField(ObjectTypeDefinition objectType, String fieldName) {
+			for (FieldDefinition definition : objectType.getFieldDefinitions()) {
+				if (definition.getName().equals(fieldName)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
 		@SuppressWarnings("deprecation")
-		private boolean hasDataFetcherFor(FieldDefinition fieldDefinition) {
-			if (this.existingQueryDataFetcherPredicate == null) {
-				Map<String, ?> map = this.builder.build().getDataFetcherForType("Query");
-				this.existingQueryDataFetcherPredicate = (fieldName) -> map.get(fieldName) != null;
+		private boolean hasDataFetcherFor(String typeName, FieldDefinition fieldDefinition) {
+			if (this.existingRuntimeWiring == null) {
+				this.existingRuntimeWiring = this.builder.build();
 			}
-			return this.existingQueryDataFetcherPredicate.test(fieldDefinition.getName());
+			Map<String, ?> map = this.existingRuntimeWiring.getDataFetcherForType(typeName);
+			return (map.get(fieldDefinition.getName()) != null);
 		}
 
 		private void logTraceMessage(FieldWiringEnvironment environment, @Nullable String typeName, boolean match) {
@@ -178,6 +241,15 @@ class AutoRegistrationRuntimeWiringConfigurer implements RuntimeWiringConfigurer
 		@Override
 		public DataFetcher<?> getDataFetcher(FieldWiringEnvironment environment) {
 
+			if (!environment.getParentType().getName().equals("Query")) {
+				DataFetcher<?> dataFetcher = getNestedDataFetcher(environment);
+				if (dataFetcher == null) {
+					throw new IllegalStateException("Expected nested DataFetcher for " +
+							environment.getParentType().getName() + "." + environment.getFieldDefinition().getName());
+				}
+				return dataFetcher;
+			}
+
 			String outputTypeName = getOutputTypeName(environment);
 			logTraceMessage(environment, outputTypeName, true);
 
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.query;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.PropertyDataFetcher;
+import org.dataloader.DataLoader;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.graphql.execution.SelfDescribingDataFetcher;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@code DataFetcher} for a field nested under another type, whose return
+ * type is the domain type of an auto-registered repository. Entities are
+ * loaded through a {@link DataLoader} that batches the identifiers of all
+ * parents in a request into a single repository call.
+ *
+ * <p>The identifier is read from the parent under a property that is named
+ * after the field with an {@code "Id"} suffix, e.g. {@code "authorId"} for a
+ * field {@code "author"}. This is registered only for fields whose parent type
+ * declares such a field in the schema. If the parent object does not have the
+ * property, the field is resolved from the parent as it would be by default.
+ *
+ * @author Rossen Stoyanchev
+ */
+final class BatchedEntityFetcher implements SelfDescribingDataFetcher<Object> {
+
+	private static final String ID_PROPERTY_SUFFIX = "Id";
+
+	private static final String DEFAULT_ID_PROPERTY = "id";
+
+
+	private final String loaderName;
+
+	private final Class<?> domainType;
+
+	private final String idProperty;
+
+	private final PropertyDataFetcher<?> propertyDataFetcher;
+
+	private final String description;
+
+	private final Map<Class<?>, PropertyReader> idPropertyReaders = new ConcurrentHashMap<>();
+
+
+	BatchedEntityFetcher(String typeName, Class<?> domainType, String fieldName, String description) {
+		this.loaderName = getLoaderName(typeName);
+		this.domainType = domainType;
+		this.idProperty = getIdPropertyName(fieldName);
+		this.propertyDataFetcher = PropertyDataFetcher.fetching(fieldName);
+		this.description = description;
+	}
+
+
+	@Override
+	public String getDescription() {
+		return this.description;
+	}
+
+	@Override
+	public ResolvableType getReturnType() {
+		return ResolvableType.forClassWithGenerics(CompletableFuture.class, this.domainType);
+	}
+
+	@Override
+	public boolean usesDataLoader() {
+		return true;
+	}
+
+	@Override
+	public @Nullable Object get(DataFetchingEnvironment env) throws Exception {
+		Object source = env.getSource();
+		if (source == null) {
+			return this.propertyDataFetcher.get(env);
+		}
+		Object id;
+		if (source instanceof Map<?, ?> map) {
+			if (!map.containsKey(this.idProperty)) {
+				return this.propertyDataFetcher.get(env);
+			}
+			id = map.get(this.idProperty);
+		}
+		else {
+			PropertyReader reader = this.idPropertyReaders.computeIfAbsent(
+					source.getClass(), (type) -> PropertyReader.create(type, this.idProperty));
+			if (!reader.isReadable()) {
+				return this.propertyDataFetcher.get(env);
+			}
+			id = reader.read(source);
+		}
+		if (id == null) {
+			return null;
+		}
+		DataLoader<Object, Object> dataLoader = env.getDataLoader(this.loaderName);
+		if (dataLoader == null) {
+			throw new IllegalStateException("No DataLoader registered under '" + this.loaderName + "'");
+		}
+		return dataLoader.load(id);
+	}
+
+	@Override
+	public String toString() {
+		return getDescription();
+	}
+
+
+	/**
+	 * Return the name under which to register the {@code DataLoader} for the
+	 * given GraphQL type.
+	 */
+	static String getLoaderName(String typeName) {
+		return BatchedEntityFetcher.class.getName() + "." + typeName;
+	}
+
+	/**
+	 * Return the name of the parent property, or field, with the identifier
+	 * for the given nested field.
+	 */
+	static String getIdPropertyName(String fieldName) {
+		return fieldName + ID_PROPERTY_SUFFIX;
+	}
+
+	/**
+	 * Return the name of the identifier property of the given domain type,
+	 * i.e. a field annotated with Spring Data's or JPA's {@code @Id}, or
+	 * otherwise {@code "id"}.
+	 */
+	private static String getIdProperty(Class<?> domainType) {
+		Field[] idField = new Field[1];
+		ReflectionUtils.doWithFields(domainType, (field) -> idField[0] = field, (field) -> {
+			MergedAnnotations annotations = MergedAnnotations.from(field);
+			return (idField[0] == null && (annotations.isPresent("org.springframework.data.annotation.Id") ||
+					annotations.isPresent("jakarta.persistence.Id")));
+		});
+		return (idField[0] != null) ? idField[0].getName() : DEFAULT_ID_PROPERTY;
+	}
+
+	/**
+	 * Return a reader for the identifier property of the given domain type,
+	 * resolved once to be used for every loaded entity.
+	 */
+	static PropertyReader getIdReader(Class<?> domainType) {
+		return PropertyReader.create(domainType, getIdProperty(domainType));
+	}
+
+	/**
+	 * Map the given entities by the value of their identifier property.
+	 */
+	static <T> Map<Object, T> mapById(Iterable<T> entities, PropertyReader idReader) {
+		Map<Object, T> result = new LinkedHashMap<>();
+		for (T entity : entities) {
+			result.put(getId(entity, idReader), entity);
+		}
+		return result;
+	}
+
+	/**
+	 * Return the value of the identifier property of the given entity.
+	 */
+	static Object getId(Object entity, PropertyReader idReader) {
+		Object id = idReader.read(entity);
+		if (id == null) {
+			throw new IllegalStateException("No '" + idReader.getName() + "' value in " + entity);
+		}
+		return id;
+	}
+
+
+	/**
+	 * Reads a property through its getter, or otherwise through its field,
+	 * as resolved once for a given type.
+	 */
+	static final class PropertyReader {
+
+		private final String name;
+
+		private final @Nullable Method readMethod;
+
+		private final @Nullable Field field;
+
+		private PropertyReader(String name, @Nullable Method readMethod, @Nullable Field field) {
+			this.name = name;
+			this.readMethod = readMethod;
+			this.field = field;
+		}
+
+		static PropertyReader create(Class<?> type, String name) {
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, name);
+			Method readMethod = (descriptor != null) ? descriptor.getReadMethod() : null;
+			if (readMethod != null) {
+				ReflectionUtils.makeAccessible(readMethod);
+				return new PropertyReader(name, readMethod, null);
+			}
+			Field field = ReflectionUtils.findField(type, name);
+			if (field != null) {
+				ReflectionUtils.makeAccessible(field);
+			}
+			return new PropertyReader(name, null, field);
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+		boolean isReadable() {
+			return (this.readMethod != null || this.field != null);
+		}
+
+		@Nullable Object read(Object source) {
+			if (this.readMethod != null) {
+				return ReflectionUtils.invokeMethod(this.readMethod, source);
+			}
+			if (this.field != null) {
+				return ReflectionUtils.getField(this.field, source);
+			}
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.query;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.graphql.data.pagination.CursorStrategy;
+
+/**
+ * Strategy to convert a {@link KeysetScrollPosition#getKeys() keyset} to and
+ * from a compact binary representation for use with
+ * {@link ScrollPositionCursorStrategy}, as an alternative to
+ * {@link JsonKeysetCursorStrategy}.
+ *
+ * <p>Keys are written in order, each with its name, a type tag, and the value
+ * in a fixed or variable length binary form, after a leading version byte.
+ * Supported value types are {@link Long}, {@link Integer}, {@link String},
+ * {@link UUID}, {@link Instant}, and {@link BigDecimal}.
+ * The result is encoded as URL-safe Base64 without padding, and is therefore
+ * already opaque to clients, and does not need a further
+ * {@link org.springframework.graphql.data.pagination.CursorEncoder}.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public final class BinaryKeysetCursorStrategy implements CursorStrategy<Map<String, Object>> {
+
+	private static final byte VERSION = 1;
+
+	private static final byte LONG_TYPE = 1;
+
+	private static final byte INTEGER_TYPE = 2;
+
+	private static final byte STRING_TYPE = 3;
+
+	private static final byte UUID_TYPE = 4;
+
+	private static final byte INSTANT_TYPE = 5;
+
+	private static final byte BIG_DECIMAL_TYPE = 6;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+
+	@Override
+	public boolean supports(Class<?> targetType) {
+		return Map.class.isAssignableFrom(targetType);
+	}
+
+	@Override
+	public String toCursor(Map<String, Object> keys) {
+		Output output = new Output();
+		output.writeByte(VERSION);
+		output.writeVarLong(keys.size());
+		keys.forEach((name, value) -> {
+			output.writeString(name);
+			writeValue(output, value);
+		});
+		ByteBuffer encoded = ENCODER.encode(ByteBuffer.wrap(output.buffer, 0, output.position));
+		return new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+	}
+
+	private static void writeValue(Output output, @Nullable Object value) {
+		if (value instanceof Long longValue) {
+			output.writeByte(LONG_TYPE);
+			output.writeZigZag(longValue);
+		}
+		else if (value instanceof Integer intValue) {
+			output.writeByte(INTEGER_TYPE);
+			output.writeZigZag(intValue);
+		}
+		else if (value instanceof String text) {
+			output.writeByte(STRING_TYPE);
+			output.writeString(text);
+		}
+		else if (value instanceof UUID uuid) {
+			output.writeByte(UUID_TYPE);
+			output.writeFixedLong(uuid.getMostSignificantBits());
+			output.writeFixedLong(uuid.getLeastSignificantBits());
+		}
+		else if (value instanceof Instant instant) {
+			output.writeByte(INSTANT_TYPE);
+			output.writeZigZag(instant.getEpochSecond());
+			output.writeVarLong(instant.getNano());
+		}
+		else if (value instanceof BigDecimal decimal) {
+			output.writeByte(BIG_DECIMAL_TYPE);
+			output.writeZigZag(decimal.scale());
+			output.writeBytes(decimal.unscaledValue().toByteArray());
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported keyset value: " + value);
+		}
+	}
+
+	@Override
+	public Map<String, Object> fromCursor(String cursor) {
+		Input input = new Input(DECODER.decode(cursor));
+		byte version = input.readByte();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported cursor version: " + version);
+		}
+		int size = input.readLength();
+		Map<String, Object> keys = new LinkedHashMap<>(size);
+		for (int i = 0; i < size; i++) {
+			String name = input.readString();
+			keys.put(name, readValue(input));
+		}
+		if (input.position != input.buffer.length) {
+			throw new IllegalArgumentException("Unexpected trailing bytes in cursor");
+		}
+		return keys;
+	}
+
+	private static Object readValue(Input input) {
+		byte type = input.readByte();
+		return switch (type) {
+			case LONG_TYPE -> Long.valueOf(input.readZigZag());
+			case INTEGER_TYPE -> Integer.valueOf(Math.toIntExact(input.readZigZag()));
+			case STRING_TYPE -> input.readString();
+			case UUID_TYPE -> new UUID(input.readFixedLong(), input.readFixedLong());
+			case INSTANT_TYPE -> Instant.ofEpochSecond(input.readZigZag(), input.readVarLong());
+			case BIG_DECIMAL_TYPE -> {
+				int scale = Math.toIntExact(input.readZigZag());
+				yield new BigDecimal(new BigInteger(input.readBytes()), scale);
+			}
+			default -> throw new IllegalArgumentException("Unknown keyset value type: " + type);
+		};
+	}
+
+
+	/**
+	 * Growable byte array for writing a cursor.
+	 */
+	private static final class Output {
+
+		private byte[] buffer = new byte[64];
+
+		private int position;
+
+		void writeByte(int value) {
+			ensureCapacity(1);
+			this.buffer[this.position++] = (byte) value;
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity(10);
+			long remaining = value;
+			while ((remaining & ~0x7FL) != 0) {
+				this.buffer[this.position++] = (byte) ((remaining & 0x7F) | 0x80);
+				remaining >>>= 7;
+			}
+			this.buffer[this.position++] = (byte) remaining;
+		}
+
+		void writeZigZag(long value) {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		void writeFixedLong(long value) {
+			ensureCapacity(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				this.buffer[this.position++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeString(String value) {
+			writeBytes(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		void writeBytes(byte[] bytes) {
+			writeVarLong(bytes.length);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+			this.position += bytes.length;
+		}
+
+		private void ensureCapacity(int length) {
+			if (this.position + length > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.position + length));
+			}
+		}
+
+	}
+
+
+	/**
+	 * Reader over the decoded bytes of a cursor.
+	 */
+	private static final class Input {
+
+		private final byte[] buffer;
+
+		private int position;
+
+		Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		byte readByte() {
+			if (this.position >= this.buffer.length) {
+				throw new IllegalArgumentException("Unexpected end of cursor");
+			}
+			return this.buffer[this.position++];
+		}
+
+		long readVarLong() {
+			long result = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = readByte();
+				result |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return result;
+				}
+			}
+			throw new IllegalArgumentException("Malformed variable length number in cursor");
+		}
+
+		long readZigZag() {
+			long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		long readFixedLong() {
+			long result = 0;
+			for (int i = 0; i < 8; i++) {
+				result = (result << 8) | (readByte() & 0xFF);
+			}
+			return result;
+		}
+
+		String readString() {
+			int length = readLength();
+			String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+			this.position += length;
+			return value;
+		}
+
+		byte[] readBytes() {
+			int length = readLength();
+			byte[] bytes = Arrays.copyOfRange(this.buffer, this.position, this.position + length);
+			this.position += length;
+			return bytes;
+		}
+
+		int readLength() {
+			long length = readVarLong();
+			if (length < 0 || length > this.buffer.length - this.position) {
+				throw new IllegalArgumentException("Invalid length in cursor: " + length);
+			}
+			return (int) length;
+		}
+
+	}
+
+}
@@ -20,17 +20,29 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
+import graphql.execution.MergedField;
+import graphql.language.DirectivesContainer;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingFieldSelectionSet;
 import graphql.schema.GraphQLNamedOutputType;
 import graphql.schema.GraphQLNonNull;
 import graphql.schema.GraphQLType;
 import graphql.schema.SelectedField;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.core.PropertyPath;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Utility to compute {@link PropertyPath property paths} from
@@ -141,6 +153,76 @@ final class PropertySelection {
 	}
 
 
+	/**
+	 * Cache of property paths for a given type, keyed by the {@link Field}
+	 * in the document for which they were computed, in order to avoid
+	 * resolving them on every execution of a preparsed document. Fields are
+	 * held with weak references, and are not cached if their selection
+	 * includes directives, such as {@code @skip} and {@code @include}, since
+	 * the selection may then vary with variables.
+	 */
+	static final class Cache {
+
+		private final TypeInformation<?> typeInfo;
+
+		private final Map<Field, List<String>> paths =
+				new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+		Cache(TypeInformation<?> typeInfo) {
+			this.typeInfo = typeInfo;
+		}
+
+		/**
+		 * Return the property paths for the field of the given environment.
+		 * @param env the environment for the field
+		 */
+		List<String> getPropertyPaths(DataFetchingEnvironment env) {
+			MergedField mergedField = env.getMergedField();
+			if (mergedField == null || mergedField.getFields().size() != 1) {
+				return create(this.typeInfo, env.getSelectionSet()).toList();
+			}
+			Field field = mergedField.getSingleField();
+			List<String> result = this.paths.get(field);
+			if (result == null) {
+				result = create(this.typeInfo, env.getSelectionSet()).toList();
+				if (!hasDirectives(field.getSelectionSet(), env.getFragmentsByName())) {
+					this.paths.put(field, result);
+				}
+			}
+			return result;
+		}
+
+		private static boolean hasDirectives(
+				@Nullable SelectionSet selectionSet, Map<String, FragmentDefinition> fragments) {
+
+			if (selectionSet == null) {
+				return false;
+			}
+			for (Selection<?> selection : selectionSet.getSelections()) {
+				if (selection instanceof DirectivesContainer<?> container && !container.getDirectives().isEmpty()) {
+					return true;
+				}
+				if (selection instanceof Field field && hasDirectives(field.getSelectionSet(), fragments)) {
+					return true;
+				}
+				else if (selection instanceof InlineFragment fragment &&
+						hasDirectives(fragment.getSelectionSet(), fragments)) {
+					return true;
+				}
+				else if (selection instanceof FragmentSpread spread) {
+					FragmentDefinition definition = fragments.get(spread.getName());
+					if (definition == null || !definition.getDirectives().isEmpty() ||
+							hasDirectives(definition.getSelectionSet(), fragments)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+	}
+
+
 	/**
 	 * Hierarchical representation of selected fields. Allows traversing the
 	 * object graph with nested fields.
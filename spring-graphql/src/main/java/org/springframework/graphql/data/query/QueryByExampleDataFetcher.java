@@ -41,14 +41,17 @@ import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Window;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.graphql.data.GraphQlArgumentBinder;
 import org.springframework.graphql.data.GraphQlRepository;
 import org.springframework.graphql.data.pagination.CursorEncoder;
 import org.springframework.graphql.data.pagination.CursorStrategy;
 import org.springframework.graphql.data.query.AutoRegistrationRuntimeWiringConfigurer.DataFetcherFactory;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 import org.springframework.graphql.execution.SelfDescribingDataFetcher;
 import org.springframework.util.Assert;
@@ -107,10 +110,13 @@ public abstract class QueryByExampleDataFetcher<T> {
 
 	private final GraphQlArgumentBinder argumentBinder;
 
+	private final PropertySelection.Cache propertySelectionCache;
+
 
 	QueryByExampleDataFetcher(TypeInformation<T> domainType) {
 		this.domainType = domainType;
 		this.argumentBinder = new GraphQlArgumentBinder();
+		this.propertySelectionCache = new PropertySelection.Cache(domainType);
 	}
 
 
@@ -167,6 +173,21 @@ public abstract class QueryByExampleDataFetcher<T> {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Variant of {@link #buildPropertyPaths(DataFetchingFieldSelectionSet, Class)}
+	 * that caches the property paths for the field in the document.
+	 */
+	Collection<String> buildPropertyPaths(DataFetchingEnvironment env, Class<?> resultType) {
+
+		// Compute selection only for non-projections
+		if (this.domainType.getType().equals(resultType) ||
+				this.domainType.getType().isAssignableFrom(resultType) ||
+				this.domainType.isSubTypeOf(resultType)) {
+			return this.propertySelectionCache.getPropertyPaths(env);
+		}
+		return Collections.emptyList();
+	}
+
 	@Override
 	public String toString() {
 		return getDescription();
@@ -233,6 +254,42 @@ public abstract class QueryByExampleDataFetcher<T> {
 			@Nullable CursorStrategy<ScrollPosition> cursorStrategy,
 			@Nullable ScrollSubrange defaultScrollSubrange) {
 
+		return autoRegistrationConfigurer(executors, reactiveExecutors, cursorStrategy, defaultScrollSubrange, null);
+	}
+
+	/**
+	 * Variant of {@link #autoRegistrationConfigurer(List, List, CursorStrategy, ScrollSubrange)}
+	 * that also resolves nested fields through batch loading.
+	 *
+	 * <p>When a {@link BatchLoaderRegistry} is given, a batch loader is
+	 * registered for each repository that is also a {@link CrudRepository} or
+	 * {@link ReactiveCrudRepository}, and finds entities with a single
+	 * {@code findAllById} call for all identifiers in a batch, since an
+	 * {@link Example} cannot match a set of values. Single-valued fields of
+	 * non-root types that return the domain type of such a repository then
+	 * load entities through it, with the identifier taken from the parent
+	 * property named after the field with an {@code "Id"} suffix, e.g.
+	 * {@code "authorId"} for a field {@code "author"}. Parents without such a
+	 * property are resolved as they would be by default. Nested fields return
+	 * domain types, and do not apply projections configured on the builder.
+	 * @param executors repositories to consider for registration
+	 * @param reactiveExecutors reactive repositories to consider for registration
+	 * @param cursorStrategy for decoding cursors in pagination requests;
+	 * if {@code null}, then {@link Builder#cursorStrategy} defaults apply.
+	 * @param defaultScrollSubrange default parameters for scrolling;
+	 * if {@code null}, then {@link Builder#defaultScrollSubrange} defaults apply.
+	 * @param batchLoaderRegistry registry for batch loaders for nested fields;
+	 * if {@code null}, only top-level queries are registered
+	 * @return the created configurer
+	 * @since 2.1.0
+	 */
+	public static RuntimeWiringConfigurer autoRegistrationConfigurer(
+			List<QueryByExampleExecutor<?>> executors,
+			List<ReactiveQueryByExampleExecutor<?>> reactiveExecutors,
+			@Nullable CursorStrategy<ScrollPosition> cursorStrategy,
+			@Nullable ScrollSubrange defaultScrollSubrange,
+			@Nullable BatchLoaderRegistry batchLoaderRegistry) {
+
 		Map<String, DataFetcherFactory> factories = new HashMap<>();
 
 		for (QueryByExampleExecutor<?> executor : executors) {
@@ -242,6 +299,9 @@ public abstract class QueryByExampleDataFetcher<T> {
 						.cursorStrategy(cursorStrategy)
 						.defaultScrollSubrange(defaultScrollSubrange));
 
+				Function<String, DataFetcher<?>> nestedFetchers = (batchLoaderRegistry != null) ?
+						registerBatchLoader(batchLoaderRegistry, typeName, executor) : null;
+
 				factories.put(typeName, new DataFetcherFactory() {
 					@Override
 					public DataFetcher<?> single() {
@@ -257,6 +317,11 @@ public abstract class QueryByExampleDataFetcher<T> {
 					public DataFetcher<?> scrollable() {
 						return builder.scrollable();
 					}
+
+					@Override
+					public @Nullable DataFetcher<?> nested(String fieldName) {
+						return (nestedFetchers != null) ? nestedFetchers.apply(fieldName) : null;
+					}
 				});
 			}
 		}
@@ -268,6 +333,9 @@ public abstract class QueryByExampleDataFetcher<T> {
 						.cursorStrategy(cursorStrategy)
 						.defaultScrollSubrange(defaultScrollSubrange));
 
+				Function<String, DataFetcher<?>> nestedFetchers = (batchLoaderRegistry != null) ?
+						registerBatchLoader(batchLoaderRegistry, typeName, executor) : null;
+
 				factories.put(typeName, new DataFetcherFactory() {
 					@Override
 					public DataFetcher<?> single() {
@@ -283,6 +351,11 @@ public abstract class QueryByExampleDataFetcher<T> {
 					public DataFetcher<?> scrollable() {
 						return builder.scrollable();
 					}
+
+					@Override
+					public @Nullable DataFetcher<?> nested(String fieldName) {
+						return (nestedFetchers != null) ? nestedFetchers.apply(fieldName) : null;
+					}
 				});
 			}
 		}
@@ -294,6 +367,38 @@ public abstract class QueryByExampleDataFetcher<T> {
 		return new AutoRegistrationRuntimeWiringConfigurer(factories);
 	}
 
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static @Nullable Function<String, DataFetcher<?>> registerBatchLoader(
+			BatchLoaderRegistry registry, String typeName, QueryByExampleExecutor<?> executor) {
+
+		if (!(executor instanceof CrudRepository crudRepository)) {
+			return null;
+		}
+		Class<?> domainType = RepositoryUtils.getDomainType(executor);
+		BatchedEntityFetcher.PropertyReader idReader = BatchedEntityFetcher.getIdReader(domainType);
+		registry.<Object, Object>forName(BatchedEntityFetcher.getLoaderName(typeName))
+				.registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() ->
+						BatchedEntityFetcher.mapById(crudRepository.findAllById(ids), idReader)));
+		String description = "QueryByExampleDataFetcher<" + domainType.getName() + ">";
+		return (fieldName) -> new BatchedEntityFetcher(typeName, domainType, fieldName, description);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static @Nullable Function<String, DataFetcher<?>> registerBatchLoader(
+			BatchLoaderRegistry registry, String typeName, ReactiveQueryByExampleExecutor<?> executor) {
+
+		if (!(executor instanceof ReactiveCrudRepository crudRepository)) {
+			return null;
+		}
+		Class<?> domainType = RepositoryUtils.getDomainType(executor);
+		BatchedEntityFetcher.PropertyReader idReader = BatchedEntityFetcher.getIdReader(domainType);
+		registry.<Object, Object>forName(BatchedEntityFetcher.getLoaderName(typeName))
+				.registerMappedBatchLoader((ids, environment) -> ((Flux<Object>) crudRepository.findAllById(ids))
+						.collectMap((entity) -> BatchedEntityFetcher.getId(entity, idReader)));
+		String description = "QueryByExampleDataFetcher<" + domainType.getName() + ">";
+		return (fieldName) -> new BatchedEntityFetcher(typeName, domainType, fieldName, description);
+	}
+
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	private static Builder customize(QueryByExampleExecutor<?> executor, Builder builder) {
 		if (executor instanceof QueryByExampleBuilderCustomizer<?> customizer) {
@@ -335,15 +440,18 @@ public abstract class QueryByExampleDataFetcher<T> {
 
 		private final Sort sort;
 
+		private final boolean scrollAsStream;
+
 		@SuppressWarnings("unchecked")
 		Builder(QueryByExampleExecutor<T> executor, Class<R> domainType) {
-			this(executor, TypeInformation.of((Class<T>) domainType), domainType, null, null, null, Sort.unsorted());
+			this(executor, TypeInformation.of((Class<T>) domainType), domainType,
+					null, null, null, Sort.unsorted(), false);
 		}
 
 		Builder(QueryByExampleExecutor<T> executor, TypeInformation<T> domainType, Class<R> resultType,
 				@Nullable CursorStrategy<ScrollPosition> cursorStrategy,
 				@Nullable Integer defaultScrollCount, @Nullable Function<Boolean, ScrollPosition> defaultScrollPosition,
-				Sort sort) {
+				Sort sort, boolean scrollAsStream) {
 
 			this.executor = executor;
 			this.domainType = domainType;
@@ -352,6 +460,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 			this.defaultScrollCount = defaultScrollCount;
 			this.defaultScrollPosition = defaultScrollPosition;
 			this.sort = sort;
+			this.scrollAsStream = scrollAsStream;
 		}
 
 		/**
@@ -367,7 +476,8 @@ public abstract class QueryByExampleDataFetcher<T> {
 		public <P> Builder<T, P> projectAs(Class<P> projectionType) {
 			Assert.notNull(projectionType, "Projection type must not be null");
 			return new Builder<>(this.executor, this.domainType, projectionType,
-					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, this.sort);
+					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
+					this.sort, this.scrollAsStream);
 		}
 
 		/**
@@ -381,7 +491,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 		 */
 		public Builder<T, R> cursorStrategy(@Nullable CursorStrategy<ScrollPosition> cursorStrategy) {
 			return new Builder<>(this.executor, this.domainType, this.resultType,
-					cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, this.sort);
+					cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, this.sort, this.scrollAsStream);
 		}
 
 		/**
@@ -401,7 +511,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 				int defaultCount, Function<Boolean, ScrollPosition> defaultPosition) {
 
 			return new Builder<>(this.executor, this.domainType,
-					this.resultType, this.cursorStrategy, defaultCount, defaultPosition, this.sort);
+					this.resultType, this.cursorStrategy, defaultCount, defaultPosition, this.sort, this.scrollAsStream);
 		}
 
 		/**
@@ -421,7 +531,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 					this.resultType, this.cursorStrategy,
 					(defaultSubrange != null) ? defaultSubrange.count().getAsInt() : null,
 					(defaultSubrange != null) ? (forward) -> defaultSubrange.position().get() : null,
-					this.sort);
+					this.sort, this.scrollAsStream);
 		}
 
 		/**
@@ -433,7 +543,28 @@ public abstract class QueryByExampleDataFetcher<T> {
 		public Builder<T, R> sortBy(Sort sort) {
 			Assert.notNull(sort, "Sort must not be null");
 			return new Builder<>(this.executor, this.domainType, this.resultType,
-					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, sort);
+					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, sort, this.scrollAsStream);
+		}
+
+		/**
+		 * Configure whether {@link #scrollable()} should stream offset-based
+		 * subranges rather than read them through a single {@code scroll}.
+		 * From the initial position, elements are read from a stream limited
+		 * to one element beyond the requested count, which is used to
+		 * determine if there is a next page. For other offsets, which a stream
+		 * cannot start at, elements are read through consecutive
+		 * {@code scroll} queries of a bounded size. This helps stores that
+		 * materialize the result of {@code scroll}.
+		 * Keyset-based positions are always scrolled once.
+		 * <p>By default, this is {@code false}.
+		 * @param scrollAsStream whether to stream offset-based subranges
+		 * @return a new {@link Builder} instance with all previously configured
+		 * options and {@code scrollAsStream} applied
+		 * @since 2.1.0
+		 */
+		public Builder<T, R> scrollAsStream(boolean scrollAsStream) {
+			return new Builder<>(this.executor, this.domainType, this.resultType,
+					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, this.sort, scrollAsStream);
 		}
 
 		/**
@@ -461,7 +592,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 					(this.cursorStrategy != null) ? this.cursorStrategy : RepositoryUtils.defaultCursorStrategy(),
 					(this.defaultScrollCount != null) ? this.defaultScrollCount : RepositoryUtils.defaultScrollCount(),
 					(this.defaultScrollPosition != null) ? this.defaultScrollPosition : RepositoryUtils.defaultScrollPosition(),
-					this.sort);
+					this.sort, this.scrollAsStream);
 		}
 
 	}
@@ -511,16 +642,19 @@ public abstract class QueryByExampleDataFetcher<T> {
 
 		private final Sort sort;
 
+		private final boolean scrollAsStream;
+
 		@SuppressWarnings("unchecked")
 		ReactiveBuilder(ReactiveQueryByExampleExecutor<T> executor, Class<R> domainType) {
-			this(executor, TypeInformation.of((Class<T>) domainType), domainType, null, null, null, Sort.unsorted());
+			this(executor, TypeInformation.of((Class<T>) domainType), domainType,
+					null, null, null, Sort.unsorted(), false);
 		}
 
 		ReactiveBuilder(
 				ReactiveQueryByExampleExecutor<T> executor, TypeInformation<T> domainType, Class<R> resultType,
 				@Nullable CursorStrategy<ScrollPosition> cursorStrategy,
 				@Nullable Integer defaultScrollCount, @Nullable Function<Boolean, ScrollPosition> defaultScrollPosition,
-				Sort sort) {
+				Sort sort, boolean scrollAsStream) {
 
 			this.executor = executor;
 			this.domainType = domainType;
@@ -529,6 +663,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 			this.defaultScrollCount = defaultScrollCount;
 			this.defaultScrollPosition = defaultScrollPosition;
 			this.sort = sort;
+			this.scrollAsStream = scrollAsStream;
 		}
 
 		/**
@@ -543,8 +678,9 @@ public abstract class QueryByExampleDataFetcher<T> {
 		 */
 		public <P> ReactiveBuilder<T, P> projectAs(Class<P> projectionType) {
 			Assert.notNull(projectionType, "Projection type must not be null");
-			return new ReactiveBuilder<>(this.executor, this.domainType,
-					projectionType, this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, this.sort);
+			return new ReactiveBuilder<>(this.executor, this.domainType, projectionType,
+					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
+					this.sort, this.scrollAsStream);
 		}
 
 		/**
@@ -558,7 +694,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 		 */
 		public ReactiveBuilder<T, R> cursorStrategy(@Nullable CursorStrategy<ScrollPosition> cursorStrategy) {
 			return new ReactiveBuilder<>(this.executor, this.domainType, this.resultType,
-					cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, this.sort);
+					cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, this.sort, this.scrollAsStream);
 		}
 
 		/**
@@ -578,7 +714,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 				int defaultCount, Function<Boolean, ScrollPosition> defaultPosition) {
 
 			return new ReactiveBuilder<>(this.executor, this.domainType,
-					this.resultType, this.cursorStrategy, defaultCount, defaultPosition, this.sort);
+					this.resultType, this.cursorStrategy, defaultCount, defaultPosition, this.sort, this.scrollAsStream);
 		}
 
 		/**
@@ -598,7 +734,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 					this.resultType, this.cursorStrategy,
 					(defaultSubrange != null) ? defaultSubrange.count().getAsInt() : null,
 					(defaultSubrange != null) ? (forward) -> defaultSubrange.position().get() : null,
-					this.sort);
+					this.sort, this.scrollAsStream);
 		}
 
 		/**
@@ -610,7 +746,28 @@ public abstract class QueryByExampleDataFetcher<T> {
 		public ReactiveBuilder<T, R> sortBy(Sort sort) {
 			Assert.notNull(sort, "Sort must not be null");
 			return new ReactiveBuilder<>(this.executor, this.domainType, this.resultType,
-					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, sort);
+					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, sort, this.scrollAsStream);
+		}
+
+		/**
+		 * Configure whether {@link #scrollable()} should stream offset-based
+		 * subranges rather than read them through a single {@code scroll}.
+		 * From the initial position, elements are read from a stream limited
+		 * to one element beyond the requested count, which is used to
+		 * determine if there is a next page. For other offsets, which a stream
+		 * cannot start at, elements are read through consecutive
+		 * {@code scroll} queries of a bounded size. This helps stores that
+		 * materialize the result of {@code scroll}.
+		 * Keyset-based positions are always scrolled once.
+		 * <p>By default, this is {@code false}.
+		 * @param scrollAsStream whether to stream offset-based subranges
+		 * @return a new {@link ReactiveBuilder} instance with all previously configured
+		 * options and {@code scrollAsStream} applied
+		 * @since 2.1.0
+		 */
+		public ReactiveBuilder<T, R> scrollAsStream(boolean scrollAsStream) {
+			return new ReactiveBuilder<>(this.executor, this.domainType, this.resultType,
+					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition, this.sort, scrollAsStream);
 		}
 
 		/**
@@ -638,7 +795,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 					(this.cursorStrategy != null) ? this.cursorStrategy : RepositoryUtils.defaultCursorStrategy(),
 					(this.defaultScrollCount != null) ? this.defaultScrollCount : RepositoryUtils.defaultScrollCount(),
 					(this.defaultScrollPosition != null) ? this.defaultScrollPosition : RepositoryUtils.defaultScrollPosition(),
-					this.sort);
+					this.sort, this.scrollAsStream);
 		}
 
 	}
@@ -701,7 +858,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 					queryToUse = queryToUse.as(resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, resultType));
 				}
 
 				return queryToUse.first();
@@ -749,7 +906,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 					queryToUse = queryToUse.as(this.resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), this.resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, this.resultType));
 				}
 
 				return getResult(queryToUse, env);
@@ -773,12 +930,14 @@ public abstract class QueryByExampleDataFetcher<T> {
 
 		private final ResolvableType scrollableResultType;
 
+		private final boolean scrollAsStream;
+
 		ScrollableEntityFetcher(
 				QueryByExampleExecutor<T> executor, TypeInformation<T> domainType, Class<R> resultType,
 				CursorStrategy<ScrollPosition> cursorStrategy,
 				int defaultCount,
 				Function<Boolean, ScrollPosition> defaultPosition,
-				Sort sort) {
+				Sort sort, boolean scrollAsStream) {
 
 			super(executor, domainType, resultType, sort);
 
@@ -789,6 +948,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 			this.defaultCount = defaultCount;
 			this.defaultPosition = defaultPosition;
 			this.scrollableResultType = ResolvableType.forClassWithGenerics(Window.class, resultType);
+			this.scrollAsStream = scrollAsStream;
 		}
 
 		@Override
@@ -802,6 +962,10 @@ public abstract class QueryByExampleDataFetcher<T> {
 			int count = range.count().orElse(this.defaultCount);
 			ScrollPosition position = (range.position().isPresent() ?
 					range.position().get() : this.defaultPosition.apply(range.forward()));
+			if (this.scrollAsStream && position instanceof OffsetScrollPosition offsetPosition) {
+				return RepositoryUtils.streamWindow(
+						queryToUse, offsetPosition, count, RepositoryUtils.isNextPageRequested(env));
+			}
 			return queryToUse.limit(count).scroll(position);
 		}
 
@@ -846,7 +1010,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 					queryToUse = queryToUse.as(this.resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), this.resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, this.resultType));
 				}
 
 				return queryToUse.first();
@@ -894,7 +1058,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 					queryToUse = queryToUse.as(this.resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), this.resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, this.resultType));
 				}
 
 				return queryToUse.all();
@@ -921,12 +1085,14 @@ public abstract class QueryByExampleDataFetcher<T> {
 
 		private final Sort sort;
 
+		private final boolean scrollAsStream;
+
 		ReactiveScrollableEntityFetcher(
 				ReactiveQueryByExampleExecutor<T> executor, TypeInformation<T> domainType, Class<R> resultType,
 				CursorStrategy<ScrollPosition> cursorStrategy,
 				int defaultCount,
 				Function<Boolean, ScrollPosition> defaultPosition,
-				Sort sort) {
+				Sort sort, boolean scrollAsStream) {
 
 			super(domainType);
 
@@ -940,6 +1106,7 @@ public abstract class QueryByExampleDataFetcher<T> {
 			this.defaultCount = defaultCount;
 			this.defaultPosition = defaultPosition;
 			this.sort = sort;
+			this.scrollAsStream = scrollAsStream;
 		}
 
 		@Override
@@ -961,13 +1128,18 @@ public abstract class QueryByExampleDataFetcher<T> {
 					queryToUse = queryToUse.as(this.resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), this.resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, this.resultType));
 				}
 
 				ScrollSubrange range = RepositoryUtils.getScrollSubrange(env, this.cursorStrategy);
 				int count = range.count().orElse(this.defaultCount);
 				ScrollPosition position = (range.position().isPresent() ?
 						range.position().get() : this.defaultPosition.apply(range.forward()));
+				if (this.scrollAsStream && position instanceof OffsetScrollPosition offsetPosition) {
+					return RepositoryUtils.streamWindow(
+							queryToUse, offsetPosition, count, RepositoryUtils.isNextPageRequested(env))
+							.map(Function.identity());
+				}
 				return queryToUse.limit(count).scroll(position).map(Function.identity());
 			});
 		}
@@ -25,6 +25,7 @@ import java.util.function.Function;
 
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.PathBuilder;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingFieldSelectionSet;
@@ -53,6 +54,7 @@ import org.springframework.graphql.data.GraphQlRepository;
 import org.springframework.graphql.data.pagination.CursorEncoder;
 import org.springframework.graphql.data.pagination.CursorStrategy;
 import org.springframework.graphql.data.query.AutoRegistrationRuntimeWiringConfigurer.DataFetcherFactory;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 import org.springframework.graphql.execution.SelfDescribingDataFetcher;
 import org.springframework.util.Assert;
@@ -120,10 +122,13 @@ public abstract class QuerydslDataFetcher<T> {
 
 	private final QuerydslBinderCustomizer<EntityPath<?>> customizer;
 
+	private final PropertySelection.Cache propertySelectionCache;
+
 
 	QuerydslDataFetcher(TypeInformation<T> domainType, QuerydslBinderCustomizer<EntityPath<?>> customizer) {
 		this.domainType = domainType;
 		this.customizer = customizer;
+		this.propertySelectionCache = new PropertySelection.Cache(domainType);
 	}
 
 
@@ -201,6 +206,21 @@ public abstract class QuerydslDataFetcher<T> {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Variant of {@link #buildPropertyPaths(DataFetchingFieldSelectionSet, Class)}
+	 * that caches the property paths for the field in the document.
+	 */
+	Collection<String> buildPropertyPaths(DataFetchingEnvironment env, Class<?> resultType) {
+
+		// Compute selection only for non-projections
+		if (this.domainType.getType().equals(resultType) ||
+			this.domainType.getType().isAssignableFrom(resultType) ||
+			this.domainType.isSubTypeOf(resultType)) {
+			return this.propertySelectionCache.getPropertyPaths(env);
+		}
+		return Collections.emptyList();
+	}
+
 	@Override
 	public String toString() {
 		return getDescription();
@@ -264,13 +284,49 @@ public abstract class QuerydslDataFetcher<T> {
 	 * @return the created configurer
 	 * @since 1.2.0
 	 */
-	@SuppressWarnings({"unchecked", "rawtypes"})
 	public static RuntimeWiringConfigurer autoRegistrationConfigurer(
 			List<QuerydslPredicateExecutor<?>> executors,
 			List<ReactiveQuerydslPredicateExecutor<?>> reactiveExecutors,
 			@Nullable CursorStrategy<ScrollPosition> cursorStrategy,
 			@Nullable ScrollSubrange defaultScrollSubrange) {
 
+		return autoRegistrationConfigurer(executors, reactiveExecutors, cursorStrategy, defaultScrollSubrange, null);
+	}
+
+	/**
+	 * Variant of {@link #autoRegistrationConfigurer(List, List, CursorStrategy, ScrollSubrange)}
+	 * that also resolves nested fields through batch loading.
+	 *
+	 * <p>When a {@link BatchLoaderRegistry} is given, a batch loader is
+	 * registered for each repository that finds entities with a single
+	 * {@code findAll(Predicate)} call for all identifiers in a batch, with
+	 * the identifiers matched against the {@code @Id} property, or otherwise
+	 * the {@code "id"} property of the domain type. Single-valued fields of
+	 * non-root types that return the domain type of a repository then load
+	 * entities through it, with the identifier taken from the parent property
+	 * named after the field with an {@code "Id"} suffix, e.g. {@code "authorId"}
+	 * for a field {@code "author"}. Parents without such a property are
+	 * resolved as they would be by default. Nested fields return domain
+	 * types, and do not apply projections configured on the builder.
+	 * @param executors repositories to consider for registration
+	 * @param reactiveExecutors reactive repositories to consider for registration
+	 * @param cursorStrategy for decoding cursors in pagination requests;
+	 * if {@code null}, then {@link Builder#cursorStrategy} defaults apply.
+	 * @param defaultScrollSubrange default parameters for scrolling;
+	 * if {@code null}, then {@link Builder#defaultScrollSubrange} defaults apply.
+	 * @param batchLoaderRegistry registry for batch loaders for nested fields;
+	 * if {@code null}, only top-level queries are registered
+	 * @return the created configurer
+	 * @since 2.1.0
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static RuntimeWiringConfigurer autoRegistrationConfigurer(
+			List<QuerydslPredicateExecutor<?>> executors,
+			List<ReactiveQuerydslPredicateExecutor<?>> reactiveExecutors,
+			@Nullable CursorStrategy<ScrollPosition> cursorStrategy,
+			@Nullable ScrollSubrange defaultScrollSubrange,
+			@Nullable BatchLoaderRegistry batchLoaderRegistry) {
+
 		Map<String, DataFetcherFactory> factories = new HashMap<>();
 
 		for (QuerydslPredicateExecutor<?> executor : executors) {
@@ -282,6 +338,9 @@ public abstract class QuerydslDataFetcher<T> {
 								.defaultScrollSubrange(defaultScrollSubrange)
 								.customizer(customizer(executor)));
 
+				Function<String, DataFetcher<?>> nestedFetchers = (batchLoaderRegistry != null) ?
+						registerBatchLoader(batchLoaderRegistry, typeName, executor) : null;
+
 				factories.put(typeName, new DataFetcherFactory() {
 					@Override
 					public DataFetcher<?> single() {
@@ -297,6 +356,11 @@ public abstract class QuerydslDataFetcher<T> {
 					public DataFetcher<?> scrollable() {
 						return builder.scrollable();
 					}
+
+					@Override
+					public @Nullable DataFetcher<?> nested(String fieldName) {
+						return (nestedFetchers != null) ? nestedFetchers.apply(fieldName) : null;
+					}
 				});
 			}
 		}
@@ -310,6 +374,9 @@ public abstract class QuerydslDataFetcher<T> {
 								.defaultScrollSubrange(defaultScrollSubrange)
 								.customizer(customizer(executor)));
 
+				Function<String, DataFetcher<?>> nestedFetchers = (batchLoaderRegistry != null) ?
+						registerBatchLoader(batchLoaderRegistry, typeName, executor) : null;
+
 				factories.put(typeName, new DataFetcherFactory() {
 					@Override
 					public DataFetcher<?> single() {
@@ -325,6 +392,11 @@ public abstract class QuerydslDataFetcher<T> {
 					public DataFetcher<?> scrollable() {
 						return builder.scrollable();
 					}
+
+					@Override
+					public @Nullable DataFetcher<?> nested(String fieldName) {
+						return (nestedFetchers != null) ? nestedFetchers.apply(fieldName) : null;
+					}
 				});
 			}
 		}
@@ -336,6 +408,37 @@ public abstract class QuerydslDataFetcher<T> {
 		return new AutoRegistrationRuntimeWiringConfigurer(factories);
 	}
 
+	private static <T> Function<String, DataFetcher<?>> registerBatchLoader(
+			BatchLoaderRegistry registry, String typeName, QuerydslPredicateExecutor<T> executor) {
+
+		Class<T> domainType = RepositoryUtils.getDomainType(executor);
+		BatchedEntityFetcher.PropertyReader idReader = BatchedEntityFetcher.getIdReader(domainType);
+		PathBuilder<Object> idPath = getIdPath(domainType, idReader.getName());
+		registry.<Object, T>forName(BatchedEntityFetcher.getLoaderName(typeName))
+				.registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() ->
+						BatchedEntityFetcher.mapById(executor.findAll(idPath.in(ids)), idReader)));
+		String description = "QuerydslDataFetcher<" + domainType.getName() + ">";
+		return (fieldName) -> new BatchedEntityFetcher(typeName, domainType, fieldName, description);
+	}
+
+	private static <T> Function<String, DataFetcher<?>> registerBatchLoader(
+			BatchLoaderRegistry registry, String typeName, ReactiveQuerydslPredicateExecutor<T> executor) {
+
+		Class<T> domainType = RepositoryUtils.getDomainType(executor);
+		BatchedEntityFetcher.PropertyReader idReader = BatchedEntityFetcher.getIdReader(domainType);
+		PathBuilder<Object> idPath = getIdPath(domainType, idReader.getName());
+		registry.<Object, T>forName(BatchedEntityFetcher.getLoaderName(typeName))
+				.registerMappedBatchLoader((ids, environment) -> executor.findAll(idPath.in(ids))
+						.collectMap((entity) -> BatchedEntityFetcher.getId(entity, idReader)));
+		String description = "QuerydslDataFetcher<" + domainType.getName() + ">";
+		return (fieldName) -> new BatchedEntityFetcher(typeName, domainType, fieldName, description);
+	}
+
+	private static PathBuilder<Object> getIdPath(Class<?> domainType, String idProperty) {
+		EntityPath<?> path = SimpleEntityPathResolver.INSTANCE.createPath(domainType);
+		return new PathBuilder<>(path.getType(), path.getMetadata()).get(idProperty);
+	}
+
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	private static Builder customize(QuerydslPredicateExecutor<?> executor, Builder builder) {
 		if (executor instanceof QuerydslBuilderCustomizer<?> customizer) {
@@ -383,18 +486,20 @@ public abstract class QuerydslDataFetcher<T> {
 
 		private final Sort sort;
 
+		private final boolean scrollAsStream;
+
 		private final QuerydslBinderCustomizer<? extends EntityPath<T>> customizer;
 
 		@SuppressWarnings("unchecked")
 		Builder(QuerydslPredicateExecutor<T> executor, Class<R> domainType) {
 			this(executor, TypeInformation.of((Class<T>) domainType),
-					domainType, null, null, null, Sort.unsorted(), NO_OP_BINDER_CUSTOMIZER);
+					domainType, null, null, null, Sort.unsorted(), NO_OP_BINDER_CUSTOMIZER, false);
 		}
 
 		Builder(QuerydslPredicateExecutor<T> executor, TypeInformation<T> domainType, Class<R> resultType,
 				@Nullable CursorStrategy<ScrollPosition> cursorStrategy,
 				@Nullable Integer defaultScrollCount, @Nullable Function<Boolean, ScrollPosition> defaultScrollPosition,
-				Sort sort, QuerydslBinderCustomizer<? extends EntityPath<T>> customizer) {
+				Sort sort, QuerydslBinderCustomizer<? extends EntityPath<T>> customizer, boolean scrollAsStream) {
 
 			this.executor = executor;
 			this.domainType = domainType;
@@ -404,6 +509,7 @@ public abstract class QuerydslDataFetcher<T> {
 			this.defaultScrollPosition = defaultScrollPosition;
 			this.sort = sort;
 			this.customizer = customizer;
+			this.scrollAsStream = scrollAsStream;
 		}
 
 		/**
@@ -420,7 +526,7 @@ public abstract class QuerydslDataFetcher<T> {
 			Assert.notNull(projectionType, "Projection type must not be null");
 			return new Builder<>(this.executor, this.domainType, projectionType,
 					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
-					this.sort, this.customizer);
+					this.sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -435,7 +541,7 @@ public abstract class QuerydslDataFetcher<T> {
 		public Builder<T, R> cursorStrategy(@Nullable CursorStrategy<ScrollPosition> cursorStrategy) {
 			return new Builder<>(this.executor, this.domainType, this.resultType,
 					cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
-					this.sort, this.customizer);
+					this.sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -455,7 +561,7 @@ public abstract class QuerydslDataFetcher<T> {
 				int defaultCount, Function<Boolean, ScrollPosition> defaultPosition) {
 
 			return new Builder<>(this.executor, this.domainType, this.resultType,
-					this.cursorStrategy, defaultCount, defaultPosition, this.sort, this.customizer);
+					this.cursorStrategy, defaultCount, defaultPosition, this.sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -473,7 +579,7 @@ public abstract class QuerydslDataFetcher<T> {
 			return new Builder<>(this.executor, this.domainType, this.resultType, this.cursorStrategy,
 					(defaultSubrange != null) ? defaultSubrange.count().getAsInt() : null,
 					(defaultSubrange != null) ? (forward) -> defaultSubrange.position().get() : null,
-					this.sort, this.customizer);
+					this.sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -486,7 +592,7 @@ public abstract class QuerydslDataFetcher<T> {
 			Assert.notNull(sort, "Sort must not be null");
 			return new Builder<>(this.executor, this.domainType, this.resultType,
 					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
-					sort, this.customizer);
+					sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -505,7 +611,29 @@ public abstract class QuerydslDataFetcher<T> {
 			Assert.notNull(customizer, "QuerydslBinderCustomizer must not be null");
 			return new Builder<>(this.executor, this.domainType, this.resultType,
 					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
-					this.sort, customizer);
+					this.sort, customizer, this.scrollAsStream);
+		}
+
+		/**
+		 * Configure whether {@link #scrollable()} should stream offset-based
+		 * subranges rather than read them through a single {@code scroll}.
+		 * From the initial position, elements are read from a stream limited
+		 * to one element beyond the requested count, which is used to
+		 * determine if there is a next page. For other offsets, which a stream
+		 * cannot start at, elements are read through consecutive
+		 * {@code scroll} queries of a bounded size. This helps stores that
+		 * materialize the result of {@code scroll}.
+		 * Keyset-based positions are always scrolled once.
+		 * <p>By default, this is {@code false}.
+		 * @param scrollAsStream whether to stream offset-based subranges
+		 * @return a new {@link Builder} instance with all previously configured
+		 * options and {@code scrollAsStream} applied
+		 * @since 2.1.0
+		 */
+		public Builder<T, R> scrollAsStream(boolean scrollAsStream) {
+			return new Builder<>(this.executor, this.domainType, this.resultType,
+					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
+					this.sort, this.customizer, scrollAsStream);
 		}
 
 		/**
@@ -535,7 +663,7 @@ public abstract class QuerydslDataFetcher<T> {
 					(this.cursorStrategy != null) ? this.cursorStrategy : RepositoryUtils.defaultCursorStrategy(),
 					(this.defaultScrollCount != null) ? this.defaultScrollCount : RepositoryUtils.defaultScrollCount(),
 					(this.defaultScrollPosition != null) ? this.defaultScrollPosition : RepositoryUtils.defaultScrollPosition(),
-					this.sort, this.customizer);
+					this.sort, this.customizer, this.scrollAsStream);
 		}
 
 	}
@@ -585,19 +713,21 @@ public abstract class QuerydslDataFetcher<T> {
 
 		private final Sort sort;
 
+		private final boolean scrollAsStream;
+
 		private final QuerydslBinderCustomizer<? extends EntityPath<T>> customizer;
 
 		@SuppressWarnings("unchecked")
 		ReactiveBuilder(ReactiveQuerydslPredicateExecutor<T> executor, Class<R> domainType) {
 			this(executor, TypeInformation.of((Class<T>) domainType),
-					domainType, null, null, null, Sort.unsorted(), NO_OP_BINDER_CUSTOMIZER);
+					domainType, null, null, null, Sort.unsorted(), NO_OP_BINDER_CUSTOMIZER, false);
 		}
 
 		ReactiveBuilder(
 				ReactiveQuerydslPredicateExecutor<T> executor, TypeInformation<T> domainType, Class<R> resultType,
 				@Nullable CursorStrategy<ScrollPosition> cursorStrategy,
 				@Nullable Integer defaultScrollCount, @Nullable Function<Boolean, ScrollPosition> defaultScrollPosition,
-				Sort sort, QuerydslBinderCustomizer<? extends EntityPath<T>> customizer) {
+				Sort sort, QuerydslBinderCustomizer<? extends EntityPath<T>> customizer, boolean scrollAsStream) {
 
 			this.executor = executor;
 			this.domainType = domainType;
@@ -607,6 +737,7 @@ public abstract class QuerydslDataFetcher<T> {
 			this.defaultScrollPosition = defaultScrollPosition;
 			this.sort = sort;
 			this.customizer = customizer;
+			this.scrollAsStream = scrollAsStream;
 		}
 
 		/**
@@ -623,7 +754,7 @@ public abstract class QuerydslDataFetcher<T> {
 			Assert.notNull(projectionType, "Projection type must not be null");
 			return new ReactiveBuilder<>(this.executor, this.domainType, projectionType,
 					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
-					this.sort, this.customizer);
+					this.sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -638,7 +769,7 @@ public abstract class QuerydslDataFetcher<T> {
 		public ReactiveBuilder<T, R> cursorStrategy(@Nullable CursorStrategy<ScrollPosition> cursorStrategy) {
 			return new ReactiveBuilder<>(this.executor, this.domainType, this.resultType,
 					cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
-					this.sort, this.customizer);
+					this.sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -658,7 +789,7 @@ public abstract class QuerydslDataFetcher<T> {
 				int defaultCount, Function<Boolean, ScrollPosition> defaultPosition) {
 
 			return new ReactiveBuilder<>(this.executor, this.domainType, this.resultType,
-					this.cursorStrategy, defaultCount, defaultPosition, this.sort, this.customizer);
+					this.cursorStrategy, defaultCount, defaultPosition, this.sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -677,7 +808,7 @@ public abstract class QuerydslDataFetcher<T> {
 					this.cursorStrategy,
 					(defaultSubrange != null) ? defaultSubrange.count().getAsInt() : null,
 					(defaultSubrange != null) ? (forward) -> defaultSubrange.position().get() : null,
-					this.sort, this.customizer);
+					this.sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -690,7 +821,7 @@ public abstract class QuerydslDataFetcher<T> {
 			Assert.notNull(sort, "Sort must not be null");
 			return new ReactiveBuilder<>(this.executor, this.domainType, this.resultType,
 					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
-					sort, this.customizer);
+					sort, this.customizer, this.scrollAsStream);
 		}
 
 		/**
@@ -709,7 +840,29 @@ public abstract class QuerydslDataFetcher<T> {
 			Assert.notNull(customizer, "QuerydslBinderCustomizer must not be null");
 			return new ReactiveBuilder<>(this.executor, this.domainType, this.resultType,
 					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
-					this.sort, customizer);
+					this.sort, customizer, this.scrollAsStream);
+		}
+
+		/**
+		 * Configure whether {@link #scrollable()} should stream offset-based
+		 * subranges rather than read them through a single {@code scroll}.
+		 * From the initial position, elements are read from a stream limited
+		 * to one element beyond the requested count, which is used to
+		 * determine if there is a next page. For other offsets, which a stream
+		 * cannot start at, elements are read through consecutive
+		 * {@code scroll} queries of a bounded size. This helps stores that
+		 * materialize the result of {@code scroll}.
+		 * Keyset-based positions are always scrolled once.
+		 * <p>By default, this is {@code false}.
+		 * @param scrollAsStream whether to stream offset-based subranges
+		 * @return a new {@link ReactiveBuilder} instance with all previously configured
+		 * options and {@code scrollAsStream} applied
+		 * @since 2.1.0
+		 */
+		public ReactiveBuilder<T, R> scrollAsStream(boolean scrollAsStream) {
+			return new ReactiveBuilder<>(this.executor, this.domainType, this.resultType,
+					this.cursorStrategy, this.defaultScrollCount, this.defaultScrollPosition,
+					this.sort, this.customizer, scrollAsStream);
 		}
 
 		/**
@@ -739,7 +892,7 @@ public abstract class QuerydslDataFetcher<T> {
 					(this.cursorStrategy != null) ? this.cursorStrategy : RepositoryUtils.defaultCursorStrategy(),
 					(this.defaultScrollCount != null) ? this.defaultScrollCount : RepositoryUtils.defaultScrollCount(),
 					(this.defaultScrollPosition != null) ? this.defaultScrollPosition : RepositoryUtils.defaultScrollPosition(),
-					this.sort, this.customizer);
+					this.sort, this.customizer, this.scrollAsStream);
 		}
 
 	}
@@ -805,7 +958,7 @@ public abstract class QuerydslDataFetcher<T> {
 					queryToUse = queryToUse.as(resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, resultType));
 				}
 
 				return queryToUse.first();
@@ -854,7 +1007,7 @@ public abstract class QuerydslDataFetcher<T> {
 					queryToUse = queryToUse.as(this.resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), this.resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, this.resultType));
 				}
 
 				return getResult(queryToUse, env);
@@ -876,6 +1029,8 @@ public abstract class QuerydslDataFetcher<T> {
 
 		private final Function<Boolean, ScrollPosition> defaultPosition;
 
+		private final boolean scrollAsStream;
+
 		ScrollableEntityFetcher(QuerydslPredicateExecutor<T> executor,
 				TypeInformation<T> domainType,
 				Class<R> resultType,
@@ -883,7 +1038,8 @@ public abstract class QuerydslDataFetcher<T> {
 				int defaultCount,
 				Function<Boolean, ScrollPosition> defaultPosition,
 				Sort sort,
-				QuerydslBinderCustomizer<? extends EntityPath<T>> customizer) {
+				QuerydslBinderCustomizer<? extends EntityPath<T>> customizer,
+				boolean scrollAsStream) {
 
 			super(executor, domainType, resultType, sort, customizer);
 
@@ -893,6 +1049,7 @@ public abstract class QuerydslDataFetcher<T> {
 			this.cursorStrategy = cursorStrategy;
 			this.defaultCount = defaultCount;
 			this.defaultPosition = defaultPosition;
+			this.scrollAsStream = scrollAsStream;
 		}
 
 		@Override
@@ -901,6 +1058,10 @@ public abstract class QuerydslDataFetcher<T> {
 			int count = range.count().orElse(this.defaultCount);
 			ScrollPosition position = (range.position().isPresent() ?
 					range.position().get() : this.defaultPosition.apply(range.forward()));
+			if (this.scrollAsStream && position instanceof OffsetScrollPosition offsetPosition) {
+				return RepositoryUtils.streamWindow(
+						queryToUse, offsetPosition, count, RepositoryUtils.isNextPageRequested(env));
+			}
 			return queryToUse.limit(count).scroll(position);
 		}
 
@@ -947,7 +1108,7 @@ public abstract class QuerydslDataFetcher<T> {
 					queryToUse = queryToUse.as(this.resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), this.resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, this.resultType));
 				}
 
 				return queryToUse.first();
@@ -997,7 +1158,7 @@ public abstract class QuerydslDataFetcher<T> {
 					queryToUse = queryToUse.as(this.resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), this.resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, this.resultType));
 				}
 
 				return queryToUse.all();
@@ -1024,6 +1185,8 @@ public abstract class QuerydslDataFetcher<T> {
 
 		private final Sort sort;
 
+		private final boolean scrollAsStream;
+
 		@SuppressWarnings({"unchecked", "rawtypes"})
 		ReactiveScrollableEntityFetcher(ReactiveQuerydslPredicateExecutor<T> executor,
 				TypeInformation<T> domainType,
@@ -1032,7 +1195,8 @@ public abstract class QuerydslDataFetcher<T> {
 				int defaultCount,
 				Function<Boolean, ScrollPosition> defaultPosition,
 				Sort sort,
-				QuerydslBinderCustomizer<? extends EntityPath<T>> customizer) {
+				QuerydslBinderCustomizer<? extends EntityPath<T>> customizer,
+				boolean scrollAsStream) {
 
 			super(domainType, (QuerydslBinderCustomizer) customizer);
 
@@ -1046,6 +1210,7 @@ public abstract class QuerydslDataFetcher<T> {
 			this.defaultCount = defaultCount;
 			this.defaultPosition = defaultPosition;
 			this.sort = sort;
+			this.scrollAsStream = scrollAsStream;
 		}
 
 		@Override
@@ -1067,13 +1232,18 @@ public abstract class QuerydslDataFetcher<T> {
 					queryToUse = queryToUse.as(this.resultType);
 				}
 				else {
-					queryToUse = queryToUse.project(buildPropertyPaths(env.getSelectionSet(), this.resultType));
+					queryToUse = queryToUse.project(buildPropertyPaths(env, this.resultType));
 				}
 
 				ScrollSubrange range = RepositoryUtils.getScrollSubrange(env, this.cursorStrategy);
 				int count = range.count().orElse(this.defaultCount);
 				ScrollPosition position = (range.position().isPresent() ?
 						range.position().get() : this.defaultPosition.apply(range.forward()));
+				if (this.scrollAsStream && position instanceof OffsetScrollPosition offsetPosition) {
+					return RepositoryUtils.streamWindow(
+							queryToUse, offsetPosition, count, RepositoryUtils.isNextPageRequested(env))
+							.map(Function.identity());
+				}
 				return queryToUse.limit(count).scroll(position).map(Function.identity());
 			});
 		}
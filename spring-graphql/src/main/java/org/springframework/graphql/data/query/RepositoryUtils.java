@@ -17,19 +17,29 @@
 package org.springframework.graphql.data.query;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.data.repository.query.FluentQuery.ReactiveFluentQuery;
 import org.springframework.graphql.data.GraphQlRepository;
 import org.springframework.graphql.data.pagination.CursorEncoder;
 import org.springframework.graphql.data.pagination.CursorStrategy;
@@ -44,6 +54,11 @@ import org.springframework.util.StringUtils;
  */
 final class RepositoryUtils {
 
+	private static final String HAS_NEXT_PAGE = "pageInfo/hasNextPage";
+
+	private static final int SCROLL_PAGE_SIZE = 1000;
+
+
 	private RepositoryUtils() {
 
 	}
@@ -113,4 +128,143 @@ final class RepositoryUtils {
 		return ScrollSubrange.create(pos, count, forward);
 	}
 
+	/**
+	 * Whether {@code pageInfo.hasNextPage} is selected, and therefore it is
+	 * necessary to report if there is a next page. This is {@code false} if
+	 * {@code pageInfo} is not selected, or if the field does not return a
+	 * connection type, and {@code true} if the selection set is not available.
+	 * @param env the environment of the scrollable field
+	 */
+	static boolean isNextPageRequested(DataFetchingEnvironment env) {
+		DataFetchingFieldSelectionSet selectionSet = env.getSelectionSet();
+		return (selectionSet == null || selectionSet.contains(HAS_NEXT_PAGE));
+	}
+
+	/**
+	 * Read an offset-based subrange as a stream, with a one-element lookahead
+	 * to determine if there is a next page.
+	 * <p>From the initial position, elements are read from
+	 * {@link FetchableFluentQuery#stream()}, limited to one element beyond the
+	 * requested count, without a {@code scroll} that materializes the window
+	 * first. A stream cannot start at an offset, and therefore for other
+	 * positions, the offset is passed to the store through consecutive
+	 * {@code scroll} queries of at most {@value #SCROLL_PAGE_SIZE} elements,
+	 * each continuing from the last position of the previous window, which
+	 * bounds the number of elements held in a single window.
+	 * @param query the query to read from
+	 * @param position the position to read after
+	 * @param count the number of elements to read
+	 * @param lookahead whether to report if there is a next page; if not, the
+	 * stream from the initial position is limited to the requested count, and
+	 * the returned {@code Window} reports no next page
+	 */
+	static <R> Window<R> streamWindow(
+			FetchableFluentQuery<R> query, OffsetScrollPosition position, int count, boolean lookahead) {
+
+		long start = getStartOffset(position);
+		if (start == 0) {
+			List<R> content = new ArrayList<>();
+			boolean hasNext = false;
+			try (Stream<R> stream = query.limit((lookahead ? count + 1 : count)).stream()) {
+				Iterator<R> iterator = stream.iterator();
+				while (iterator.hasNext()) {
+					R element = iterator.next();
+					if (content.size() == count) {
+						hasNext = true;
+						break;
+					}
+					content.add(element);
+				}
+			}
+			return Window.from(content, ScrollPosition::offset, (lookahead && hasNext));
+		}
+		PagedContent<R> pagedContent = new PagedContent<>(count);
+		ScrollPosition pagePosition = position;
+		while (pagedContent.remaining() > 0) {
+			Window<R> window = query.limit(Math.min(pagedContent.remaining(), SCROLL_PAGE_SIZE)).scroll(pagePosition);
+			if (!pagedContent.add(window)) {
+				break;
+			}
+			pagePosition = window.positionAt(window.size() - 1);
+		}
+		return pagedContent.toWindow(start, lookahead);
+	}
+
+	/**
+	 * Reactive variant of
+	 * {@link #streamWindow(FetchableFluentQuery, OffsetScrollPosition, int, boolean)}
+	 * that reads from {@link ReactiveFluentQuery#all()} for the initial
+	 * position.
+	 */
+	static <R> Mono<Window<R>> streamWindow(
+			ReactiveFluentQuery<R> query, OffsetScrollPosition position, int count, boolean lookahead) {
+
+		long start = getStartOffset(position);
+		if (start == 0) {
+			return query.limit((lookahead ? count + 1 : count)).all()
+					.collectList()
+					.map((elements) -> {
+						boolean hasNext = (elements.size() > count);
+						List<R> content = (hasNext ? elements.subList(0, count) : elements);
+						return Window.from(content, ScrollPosition::offset, (lookahead && hasNext));
+					});
+		}
+		return Mono.defer(() -> {
+			PagedContent<R> pagedContent = new PagedContent<>(count);
+			return scrollPage(query, position, pagedContent)
+					.expand((window) -> (pagedContent.add(window) && pagedContent.remaining() > 0) ?
+							scrollPage(query, window.positionAt(window.size() - 1), pagedContent) : Mono.empty())
+					.then(Mono.fromSupplier(() -> pagedContent.toWindow(start, lookahead)));
+		});
+	}
+
+	private static long getStartOffset(OffsetScrollPosition position) {
+		return (position.isInitial() ? 0 : position.getOffset() + 1);
+	}
+
+	private static <R> Mono<Window<R>> scrollPage(
+			ReactiveFluentQuery<R> query, ScrollPosition position, PagedContent<R> pagedContent) {
+
+		return query.limit(Math.min(pagedContent.remaining(), SCROLL_PAGE_SIZE)).scroll(position);
+	}
+
+
+	/**
+	 * Collects the content of consecutive windows of an offset-based scroll,
+	 * without holding on to the windows.
+	 * @param <R> the type of element
+	 */
+	private static final class PagedContent<R> {
+
+		private final int count;
+
+		private final List<R> content;
+
+		private boolean hasNext;
+
+		PagedContent(int count) {
+			this.count = count;
+			this.content = new ArrayList<>(Math.min(count, SCROLL_PAGE_SIZE));
+		}
+
+		int remaining() {
+			return (this.count - this.content.size());
+		}
+
+		/**
+		 * Add the content of the next window, and return whether there may be
+		 * more to read after it.
+		 */
+		boolean add(Window<R> window) {
+			this.content.addAll(window.getContent());
+			this.hasNext = window.hasNext();
+			return (this.hasNext && !window.isEmpty());
+		}
+
+		Window<R> toWindow(long start, boolean lookahead) {
+			return Window.from(this.content, (index) -> ScrollPosition.offset(start + index), (lookahead && this.hasNext));
+		}
+
+	}
+
 }
@@ -56,6 +56,8 @@ public abstract class AbstractGraphQlSourceBuilder<B extends GraphQlSource.Build
 
 	private final List<Instrumentation> instrumentations = new ArrayList<>();
 
+	private boolean reuseContextSnapshot;
+
 	private @Nullable Consumer<GraphQL.Builder> graphQlConfigurer;
 
 	private GraphQlSource.Factory graphQlSourceFactory = FixedGraphQlSource::new;
@@ -85,6 +87,12 @@ public abstract class AbstractGraphQlSourceBuilder<B extends GraphQlSource.Build
 		return self();
 	}
 
+	@Override
+	public B reuseContextSnapshot(boolean reuse) {
+		this.reuseContextSnapshot = reuse;
+		return self();
+	}
+
 	@Override
 	public B instrumentation(List<Instrumentation> instrumentations) {
 		this.instrumentations.addAll(instrumentations);
@@ -154,7 +162,8 @@ public abstract class AbstractGraphQlSourceBuilder<B extends GraphQlSource.Build
 		vars.put(TypeVisitorHelper.class, TypeVisitorHelper.create(schema));
 
 		List<GraphQLTypeVisitor> visitorsToUse = new ArrayList<>(this.typeVisitors);
-		visitorsToUse.add(ContextDataFetcherDecorator.createVisitor(this.subscriptionExceptionResolvers));
+		visitorsToUse.add(ContextDataFetcherDecorator.createVisitor(
+				this.subscriptionExceptionResolvers, this.reuseContextSnapshot));
 
 		new SchemaTraverser().depthFirstFullSchema(visitorsToUse, schema, vars);
 		return schema.transformWithoutTypes((builder) -> builder.codeRegistry(outputCodeRegistry));
@@ -0,0 +1,576 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import graphql.GraphqlErrorBuilder;
+import graphql.TrivialDataFetcher;
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLSchemaElement;
+import graphql.schema.GraphQLTypeVisitorStub;
+import graphql.util.TraversalControl;
+import graphql.util.TraverserContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link graphql.schema.GraphQLTypeVisitor} that decorates the
+ * {@link DataFetcher} of fields with a circuit breaker per
+ * {@link FieldCoordinates}. This applies to fields of any type other than the
+ * subscription type, including nested fields such as "Book.reviews", unless
+ * restricted through {@link Builder#fieldFilter(Predicate)}. When the rate of failed or slow invocations of a
+ * field within a sliding time window exceeds a threshold, the circuit opens and
+ * further invocations are short-circuited, returning a fallback value or a
+ * {@link ErrorType#INTERNAL_ERROR} error for the field, until a trial
+ * invocation after the configured open duration succeeds.
+ *
+ * <p>Use {@link #builder()} to create an instance, and then register it via
+ * {@link GraphQlSource.Builder#typeVisitors(java.util.List)}. The state of
+ * each circuit breaker is available through {@link #getStates()}, and can be
+ * registered as a Micrometer gauge through {@link Builder#meterRegistry}.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public final class CircuitBreakerFieldTypeVisitor extends GraphQLTypeVisitorStub {
+
+	private static final int WINDOW_BUCKET_COUNT = 10;
+
+	private static final String STATE_METER = "graphql.field.circuitbreaker.state";
+
+
+	private final Predicate<FieldCoordinates> fieldFilter;
+
+	private final double failureRateThreshold;
+
+	private final long slowCallDurationThreshold;
+
+	private final double slowCallRateThreshold;
+
+	private final int minimumNumberOfCalls;
+
+	private final long slidingWindowSize;
+
+	private final long openStateDuration;
+
+	private final @Nullable DataFetcher<?> fallback;
+
+	private final @Nullable MeterRegistry meterRegistry;
+
+	private final Map<FieldCoordinates, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+
+	private CircuitBreakerFieldTypeVisitor(Builder builder) {
+		this.fieldFilter = builder.fieldFilter;
+		this.failureRateThreshold = builder.failureRateThreshold;
+		this.slowCallDurationThreshold = builder.slowCallDurationThreshold.toNanos();
+		this.slowCallRateThreshold = builder.slowCallRateThreshold;
+		this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+		this.slidingWindowSize = builder.slidingWindowSize.toNanos();
+		this.openStateDuration = builder.openStateDuration.toNanos();
+		this.fallback = builder.fallback;
+		this.meterRegistry = builder.meterRegistry;
+	}
+
+
+	/**
+	 * Return the current state of the circuit breaker for each decorated field.
+	 */
+	public Map<FieldCoordinates, State> getStates() {
+		Map<FieldCoordinates, State> states = new LinkedHashMap<>(this.circuitBreakers.size());
+		this.circuitBreakers.forEach((coordinates, circuitBreaker) -> states.put(coordinates, circuitBreaker.getState()));
+		return Collections.unmodifiableMap(states);
+	}
+
+	@Override
+	public TraversalControl visitGraphQLFieldDefinition(
+			GraphQLFieldDefinition fieldDefinition, TraverserContext<GraphQLSchemaElement> context) {
+
+		TypeVisitorHelper visitorHelper = context.getVarFromParents(TypeVisitorHelper.class);
+		GraphQLCodeRegistry.Builder codeRegistry = context.getVarFromParents(GraphQLCodeRegistry.Builder.class);
+
+		GraphQLFieldsContainer parent = (GraphQLFieldsContainer) context.getParentNode();
+		if (visitorHelper != null && visitorHelper.isSubscriptionType(parent)) {
+			return TraversalControl.CONTINUE;
+		}
+
+		FieldCoordinates fieldCoordinates = FieldCoordinates.coordinates(parent, fieldDefinition);
+		DataFetcher<?> dataFetcher = codeRegistry.getDataFetcher(fieldCoordinates, fieldDefinition);
+
+		if (!(dataFetcher instanceof TrivialDataFetcher<?>) && this.fieldFilter.test(fieldCoordinates)) {
+			CircuitBreaker circuitBreaker = new CircuitBreaker(fieldCoordinates);
+			this.circuitBreakers.put(fieldCoordinates, circuitBreaker);
+			if (this.meterRegistry != null) {
+				registerGauge(this.meterRegistry, circuitBreaker);
+			}
+			codeRegistry.dataFetcher(fieldCoordinates, createDataFetcher(dataFetcher, circuitBreaker));
+		}
+
+		return TraversalControl.CONTINUE;
+	}
+
+	private static void registerGauge(MeterRegistry meterRegistry, CircuitBreaker circuitBreaker) {
+		Gauge.builder(STATE_METER, circuitBreaker, (breaker) -> breaker.getState().ordinal())
+				.description("State of the circuit breaker per field coordinate: 0 closed, 1 open, 2 half-open")
+				.tag("graphql.field.coordinate", circuitBreaker.getCoordinates().toString())
+				.register(meterRegistry);
+	}
+
+	private CircuitBreakerDataFetcher createDataFetcher(DataFetcher<?> delegate, CircuitBreaker circuitBreaker) {
+		// Keep the marker, unless the fallback invoked in place of the delegate needs the context
+		boolean contextFree = (delegate instanceof ContextFreeDataFetcher<?> &&
+				(this.fallback == null || this.fallback instanceof ContextFreeDataFetcher<?>));
+		return (contextFree ?
+				new ContextFreeCircuitBreakerDataFetcher(delegate, circuitBreaker) :
+				new CircuitBreakerDataFetcher(delegate, circuitBreaker));
+	}
+
+
+	/**
+	 * Create a builder for a {@link CircuitBreakerFieldTypeVisitor}.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+
+	/**
+	 * The state of a circuit breaker.
+	 */
+	public enum State {
+
+		/**
+		 * Invocations are permitted, and their outcome is recorded.
+		 */
+		CLOSED,
+
+		/**
+		 * Invocations are short-circuited.
+		 */
+		OPEN,
+
+		/**
+		 * A single trial invocation is in progress that decides whether to
+		 * close the circuit, or open it again. Other invocations are
+		 * short-circuited.
+		 */
+		HALF_OPEN
+
+	}
+
+
+	/**
+	 * Builder for a {@link CircuitBreakerFieldTypeVisitor}.
+	 */
+	public static final class Builder {
+
+		private Predicate<FieldCoordinates> fieldFilter = (coordinates) -> true;
+
+		private double failureRateThreshold = 0.5;
+
+		private Duration slowCallDurationThreshold = Duration.ofSeconds(10);
+
+		private double slowCallRateThreshold = 1.0;
+
+		private int minimumNumberOfCalls = 20;
+
+		private Duration slidingWindowSize = Duration.ofSeconds(10);
+
+		private Duration openStateDuration = Duration.ofSeconds(30);
+
+		private @Nullable DataFetcher<?> fallback;
+
+		private @Nullable MeterRegistry meterRegistry;
+
+		private Builder() {
+		}
+
+		/**
+		 * Select the fields to decorate with a circuit breaker.
+		 * <p>By default, all fields other than subscription fields, except for
+		 * those with a {@link TrivialDataFetcher}, are decorated.
+		 * @param fieldFilter predicate to select fields by coordinates
+		 * @return this builder
+		 */
+		public Builder fieldFilter(Predicate<FieldCoordinates> fieldFilter) {
+			Assert.notNull(fieldFilter, "'fieldFilter' is required");
+			this.fieldFilter = fieldFilter;
+			return this;
+		}
+
+		/**
+		 * Set the rate of failed invocations, between 0 and 1, at or above
+		 * which to open the circuit.
+		 * <p>By default, this is set to 0.5.
+		 * @param failureRateThreshold the failure rate threshold
+		 * @return this builder
+		 */
+		public Builder failureRateThreshold(double failureRateThreshold) {
+			Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 1,
+					"'failureRateThreshold' must be greater than 0, and at most 1");
+			this.failureRateThreshold = failureRateThreshold;
+			return this;
+		}
+
+		/**
+		 * Set the duration at or above which an invocation is considered slow.
+		 * <p>By default, this is set to 10 seconds.
+		 * @param slowCallDurationThreshold the slow call duration threshold
+		 * @return this builder
+		 */
+		public Builder slowCallDurationThreshold(Duration slowCallDurationThreshold) {
+			Assert.isTrue(slowCallDurationThreshold.isPositive(), "'slowCallDurationThreshold' must be positive");
+			this.slowCallDurationThreshold = slowCallDurationThreshold;
+			return this;
+		}
+
+		/**
+		 * Set the rate of slow invocations, between 0 and 1, at or above which
+		 * to open the circuit.
+		 * <p>By default, this is set to 1, i.e. all invocations must be slow.
+		 * @param slowCallRateThreshold the slow call rate threshold
+		 * @return this builder
+		 */
+		public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+			Assert.isTrue(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1,
+					"'slowCallRateThreshold' must be greater than 0, and at most 1");
+			this.slowCallRateThreshold = slowCallRateThreshold;
+			return this;
+		}
+
+		/**
+		 * Set the minimum number of invocations within the sliding window
+		 * before failure and slow call rates are evaluated.
+		 * <p>By default, this is set to 20.
+		 * @param minimumNumberOfCalls the minimum number of calls
+		 * @return this builder
+		 */
+		public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+			Assert.isTrue(minimumNumberOfCalls > 0, "'minimumNumberOfCalls' must be positive");
+			this.minimumNumberOfCalls = minimumNumberOfCalls;
+			return this;
+		}
+
+		/**
+		 * Set the size of the sliding time window over which to evaluate
+		 * failure and slow call rates.
+		 * <p>By default, this is set to 10 seconds.
+		 * @param slidingWindowSize the size of the sliding window
+		 * @return this builder
+		 */
+		public Builder slidingWindowSize(Duration slidingWindowSize) {
+			Assert.isTrue(slidingWindowSize.toMillis() >= WINDOW_BUCKET_COUNT,
+					"'slidingWindowSize' must be at least " + WINDOW_BUCKET_COUNT + " milliseconds");
+			this.slidingWindowSize = slidingWindowSize;
+			return this;
+		}
+
+		/**
+		 * Set how long the circuit remains open before a trial invocation is
+		 * permitted.
+		 * <p>By default, this is set to 30 seconds.
+		 * @param openStateDuration the duration of the open state
+		 * @return this builder
+		 */
+		public Builder openStateDuration(Duration openStateDuration) {
+			Assert.isTrue(openStateDuration.isPositive(), "'openStateDuration' must be positive");
+			this.openStateDuration = openStateDuration;
+			return this;
+		}
+
+		/**
+		 * Set a {@code DataFetcher} to invoke instead of the decorated one
+		 * while the circuit is open.
+		 * <p>By default, this is not set, and the field is resolved to
+		 * {@code null} with an {@link ErrorType#INTERNAL_ERROR} error.
+		 * @param fallback the fallback {@code DataFetcher}
+		 * @return this builder
+		 */
+		public Builder fallback(DataFetcher<?> fallback) {
+			this.fallback = fallback;
+			return this;
+		}
+
+		/**
+		 * Set a Micrometer {@code MeterRegistry} to register a
+		 * {@code "graphql.field.circuitbreaker.state"} gauge with for each
+		 * decorated field, tagged with {@code "graphql.field.coordinate"}. The
+		 * gauge value is 0 for {@link State#CLOSED}, 1 for {@link State#OPEN},
+		 * and 2 for {@link State#HALF_OPEN}.
+		 * <p>By default, this is not set, and no gauges are registered.
+		 * @param meterRegistry the registry to register gauges with
+		 * @return this builder
+		 */
+		public Builder meterRegistry(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+			return this;
+		}
+
+		/**
+		 * Build the {@link CircuitBreakerFieldTypeVisitor} instance.
+		 */
+		public CircuitBreakerFieldTypeVisitor build() {
+			return new CircuitBreakerFieldTypeVisitor(this);
+		}
+	}
+
+
+	/**
+	 * Circuit breaker for a single field.
+	 */
+	private final class CircuitBreaker {
+
+		private final FieldCoordinates coordinates;
+
+		private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+		private volatile long openedAt;
+
+		private volatile SlidingWindow window = new SlidingWindow();
+
+		CircuitBreaker(FieldCoordinates coordinates) {
+			this.coordinates = coordinates;
+		}
+
+		FieldCoordinates getCoordinates() {
+			return this.coordinates;
+		}
+
+		State getState() {
+			return this.state.get();
+		}
+
+		/**
+		 * Check if an invocation is permitted, and return the state it was
+		 * permitted in, {@link State#HALF_OPEN} for a trial invocation, or
+		 * {@link State#OPEN} if not permitted.
+		 */
+		State acquirePermission() {
+			State current = this.state.get();
+			long openDuration = CircuitBreakerFieldTypeVisitor.this.openStateDuration;
+			if (current == State.OPEN && System.nanoTime() - this.openedAt >= openDuration &&
+					this.state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+				return State.HALF_OPEN;
+			}
+			return ((current == State.CLOSED) ? State.CLOSED : State.OPEN);
+		}
+
+		void onResult(State permission, long startTime, boolean failure) {
+			long now = System.nanoTime();
+			boolean slow = (now - startTime >= CircuitBreakerFieldTypeVisitor.this.slowCallDurationThreshold);
+			if (permission == State.HALF_OPEN) {
+				if (failure || slow) {
+					open(now);
+				}
+				else {
+					this.window = new SlidingWindow();
+					this.state.set(State.CLOSED);
+				}
+			}
+			else if (this.state.get() == State.CLOSED) {
+				SlidingWindow window = this.window;
+				window.record(now, failure, slow);
+				if ((failure || slow) && window.isThresholdExceeded(now)) {
+					open(now);
+				}
+			}
+		}
+
+		void onCancel(State permission) {
+			if (permission == State.HALF_OPEN) {
+				open(System.nanoTime());
+			}
+		}
+
+		private void open(long now) {
+			this.openedAt = now;
+			this.state.set(State.OPEN);
+		}
+	}
+
+
+	/**
+	 * Lock-free sliding time window of invocation outcomes, divided into buckets
+	 * that are replaced as they expire.
+	 */
+	private final class SlidingWindow {
+
+		private final AtomicReferenceArray<@Nullable Bucket> buckets = new AtomicReferenceArray<>(WINDOW_BUCKET_COUNT);
+
+		private final long bucketSize =
+				CircuitBreakerFieldTypeVisitor.this.slidingWindowSize / WINDOW_BUCKET_COUNT;
+
+		void record(long now, boolean failure, boolean slow) {
+			long epoch = Math.floorDiv(now, this.bucketSize);
+			int index = (int) Math.floorMod(epoch, WINDOW_BUCKET_COUNT);
+			Bucket bucket = this.buckets.get(index);
+			while (bucket == null || bucket.epoch != epoch) {
+				if (bucket != null && bucket.epoch > epoch) {
+					return;
+				}
+				Bucket newBucket = new Bucket(epoch);
+				if (this.buckets.compareAndSet(index, bucket, newBucket)) {
+					bucket = newBucket;
+					break;
+				}
+				bucket = this.buckets.get(index);
+			}
+			bucket.calls.increment();
+			if (failure) {
+				bucket.failures.increment();
+			}
+			if (slow) {
+				bucket.slowCalls.increment();
+			}
+		}
+
+		boolean isThresholdExceeded(long now) {
+			long oldestEpoch = Math.floorDiv(now, this.bucketSize) - WINDOW_BUCKET_COUNT;
+			long calls = 0;
+			long failures = 0;
+			long slowCalls = 0;
+			for (int i = 0; i < WINDOW_BUCKET_COUNT; i++) {
+				Bucket bucket = this.buckets.get(i);
+				if (bucket != null && bucket.epoch > oldestEpoch) {
+					calls += bucket.calls.sum();
+					failures += bucket.failures.sum();
+					slowCalls += bucket.slowCalls.sum();
+				}
+			}
+			return (calls >= CircuitBreakerFieldTypeVisitor.this.minimumNumberOfCalls &&
+					(failures >= calls * CircuitBreakerFieldTypeVisitor.this.failureRateThreshold ||
+					slowCalls >= calls * CircuitBreakerFieldTypeVisitor.this.slowCallRateThreshold));
+		}
+	}
+
+
+	private static final class Bucket {
+
+		private final long epoch;
+
+		private final LongAdder calls = new LongAdder();
+
+		private final LongAdder failures = new LongAdder();
+
+		private final LongAdder slowCalls = new LongAdder();
+
+		Bucket(long epoch) {
+			this.epoch = epoch;
+		}
+	}
+
+
+	/**
+	 * {@code DataFetcher} decorator that records outcomes with the circuit
+	 * breaker, and short-circuits invocations while it is open.
+	 */
+	private class CircuitBreakerDataFetcher implements DataFetcher<Object> {
+
+		private final DataFetcher<?> delegate;
+
+		private final CircuitBreaker circuitBreaker;
+
+		CircuitBreakerDataFetcher(DataFetcher<?> delegate, CircuitBreaker circuitBreaker) {
+			this.delegate = delegate;
+			this.circuitBreaker = circuitBreaker;
+		}
+
+		@Override
+		public @Nullable Object get(DataFetchingEnvironment env) throws Exception {
+			State permission = this.circuitBreaker.acquirePermission();
+			if (permission == State.OPEN) {
+				return handleOpenCircuit(env);
+			}
+			long startTime = System.nanoTime();
+			Object value;
+			try {
+				value = this.delegate.get(env);
+			}
+			catch (Exception ex) {
+				this.circuitBreaker.onResult(permission, startTime, true);
+				throw ex;
+			}
+			if (value instanceof Mono<?> mono) {
+				return mono
+						.doOnSuccess((result) -> this.circuitBreaker.onResult(permission, startTime, false))
+						.doOnError((ex) -> this.circuitBreaker.onResult(permission, startTime, true))
+						.doOnCancel(() -> this.circuitBreaker.onCancel(permission));
+			}
+			if (value instanceof Flux<?> flux) {
+				return flux
+						.doOnComplete(() -> this.circuitBreaker.onResult(permission, startTime, false))
+						.doOnError((ex) -> this.circuitBreaker.onResult(permission, startTime, true))
+						.doOnCancel(() -> this.circuitBreaker.onCancel(permission));
+			}
+			if (value instanceof CompletionStage<?> completion) {
+				return completion.whenComplete((result, ex) ->
+						this.circuitBreaker.onResult(permission, startTime, (ex != null)));
+			}
+			this.circuitBreaker.onResult(permission, startTime, false);
+			return value;
+		}
+
+		private @Nullable Object handleOpenCircuit(DataFetchingEnvironment env) throws Exception {
+			DataFetcher<?> fallback = CircuitBreakerFieldTypeVisitor.this.fallback;
+			if (fallback != null) {
+				return fallback.get(env);
+			}
+			return DataFetcherResult.newResult()
+					.error(GraphqlErrorBuilder.newError(env)
+							.errorType(ErrorType.INTERNAL_ERROR)
+							.message("Circuit breaker open for " + this.circuitBreaker.getCoordinates())
+							.build())
+					.build();
+		}
+	}
+
+
+	/**
+	 * Variant of {@link CircuitBreakerDataFetcher} for a
+	 * {@link ContextFreeDataFetcher} delegate that keeps the marker, and
+	 * therefore is not decorated to propagate context.
+	 */
+	private final class ContextFreeCircuitBreakerDataFetcher
+			extends CircuitBreakerDataFetcher implements ContextFreeDataFetcher<Object> {
+
+		ContextFreeCircuitBreakerDataFetcher(DataFetcher<?> delegate, CircuitBreaker circuitBreaker) {
+			super(delegate, circuitBreaker);
+		}
+	}
+
+}
@@ -60,22 +60,28 @@ import org.springframework.util.Assert;
  */
 class ContextDataFetcherDecorator implements DataFetcher<Object> {
 
+	private static final String SNAPSHOT_CACHE_KEY = ContextDataFetcherDecorator.class.getName() + ".SNAPSHOT_CACHE";
+
+
 	private final DataFetcher<?> delegate;
 
 	private final boolean subscription;
 
 	private final SubscriptionExceptionResolver subscriptionExceptionResolver;
 
+	private final boolean reuseSnapshot;
+
 
 	private ContextDataFetcherDecorator(
 			DataFetcher<?> delegate, boolean subscription,
-			SubscriptionExceptionResolver subscriptionExceptionResolver) {
+			SubscriptionExceptionResolver subscriptionExceptionResolver, boolean reuseSnapshot) {
 
 		Assert.notNull(delegate, "'delegate' DataFetcher is required");
 		Assert.notNull(subscriptionExceptionResolver, "'subscriptionExceptionResolver' is required");
 		this.delegate = delegate;
 		this.subscription = subscription;
 		this.subscriptionExceptionResolver = subscriptionExceptionResolver;
+		this.reuseSnapshot = reuseSnapshot;
 	}
 
 
@@ -84,10 +90,9 @@ class ContextDataFetcherDecorator implements DataFetcher<Object> {
 	public @Nullable Object get(DataFetchingEnvironment env) throws Exception {
 
 		GraphQLContext graphQlContext = env.getGraphQlContext();
-		ContextSnapshotFactory snapshotFactory = ContextPropagationHelper.getInstance(graphQlContext);
-		ContextSnapshot snapshot = (env.getLocalContext() instanceof GraphQLContext localContext) ?
-				snapshotFactory.captureFrom(graphQlContext, localContext) :
-				snapshotFactory.captureFrom(graphQlContext);
+		ContextSnapshot snapshot = (this.reuseSnapshot) ?
+				SnapshotCache.getSnapshot(graphQlContext, env.getLocalContext()) :
+				captureSnapshot(graphQlContext, env.getLocalContext());
 
 		Object value = snapshot.wrap(() -> this.delegate.get(env)).call();
 
@@ -101,6 +106,13 @@ class ContextDataFetcherDecorator implements DataFetcher<Object> {
 		return value;
 	}
 
+	private static ContextSnapshot captureSnapshot(GraphQLContext graphQlContext, @Nullable Object localContext) {
+		ContextSnapshotFactory snapshotFactory = ContextPropagationHelper.getInstance(graphQlContext);
+		return (localContext instanceof GraphQLContext localGraphQlContext) ?
+				snapshotFactory.captureFrom(graphQlContext, localGraphQlContext) :
+				snapshotFactory.captureFrom(graphQlContext);
+	}
+
 	@SuppressWarnings("ReactiveStreamsUnusedPublisher")
 	private @Nullable Object updateValue(
 			@Nullable Object value, ContextSnapshot snapshot, GraphQLContext graphQlContext) {
@@ -132,12 +144,68 @@ class ContextDataFetcherDecorator implements DataFetcher<Object> {
 	}
 
 
+	/**
+	 * Per-request cache for the {@link ContextSnapshot} captured from the
+	 * {@link GraphQLContext}, and for the last one captured along with a local
+	 * {@link GraphQLContext}, in order to avoid a capture for every field.
+	 * Used only if enabled through
+	 * {@link GraphQlSource.Builder#reuseContextSnapshot(boolean)}, since values
+	 * added to the {@code GraphQLContext} during execution, after the first
+	 * data fetcher, are not reflected in the snapshot.
+	 */
+	private static final class SnapshotCache {
+
+		private final GraphQLContext graphQlContext;
+
+		private volatile @Nullable ContextSnapshot snapshot;
+
+		private volatile @Nullable LocalSnapshot localSnapshot;
+
+		private SnapshotCache(GraphQLContext graphQlContext) {
+			this.graphQlContext = graphQlContext;
+		}
+
+		static ContextSnapshot getSnapshot(GraphQLContext graphQlContext, @Nullable Object localContext) {
+			SnapshotCache cache = graphQlContext.get(SNAPSHOT_CACHE_KEY);
+			// The cache may have been propagated from an outer request via Reactor Context
+			if (cache == null || cache.graphQlContext != graphQlContext) {
+				cache = new SnapshotCache(graphQlContext);
+				graphQlContext.put(SNAPSHOT_CACHE_KEY, cache);
+			}
+			return cache.getSnapshot(localContext);
+		}
+
+		private ContextSnapshot getSnapshot(@Nullable Object localContext) {
+			ContextSnapshotFactory factory = ContextPropagationHelper.getInstance(this.graphQlContext);
+			if (localContext instanceof GraphQLContext localGraphQlContext) {
+				LocalSnapshot local = this.localSnapshot;
+				if (local == null || local.localContext() != localGraphQlContext) {
+					local = new LocalSnapshot(localGraphQlContext,
+							factory.captureFrom(this.graphQlContext, localGraphQlContext));
+					this.localSnapshot = local;
+				}
+				return local.snapshot();
+			}
+			ContextSnapshot snapshot = this.snapshot;
+			if (snapshot == null) {
+				snapshot = factory.captureFrom(this.graphQlContext);
+				this.snapshot = snapshot;
+			}
+			return snapshot;
+		}
+	}
+
+
+	private record LocalSnapshot(GraphQLContext localContext, ContextSnapshot snapshot) {
+	}
+
+
 	/**
 	 * Static factory method to create {@link GraphQLTypeVisitor} that wraps
 	 * data fetchers with the {@link ContextDataFetcherDecorator}.
 	 */
-	static GraphQLTypeVisitor createVisitor(List<SubscriptionExceptionResolver> resolvers) {
-		return new ContextTypeVisitor(resolvers);
+	static GraphQLTypeVisitor createVisitor(List<SubscriptionExceptionResolver> resolvers, boolean reuseSnapshot) {
+		return new ContextTypeVisitor(resolvers, reuseSnapshot);
 	}
 
 
@@ -148,8 +216,11 @@ class ContextDataFetcherDecorator implements DataFetcher<Object> {
 
 		private final SubscriptionExceptionResolver exceptionResolver;
 
-		private ContextTypeVisitor(List<SubscriptionExceptionResolver> resolvers) {
+		private final boolean reuseSnapshot;
+
+		private ContextTypeVisitor(List<SubscriptionExceptionResolver> resolvers, boolean reuseSnapshot) {
 			this.exceptionResolver = new CompositeSubscriptionExceptionResolver(resolvers);
+			this.reuseSnapshot = reuseSnapshot;
 		}
 
 		@Override
@@ -163,19 +234,22 @@ class ContextDataFetcherDecorator implements DataFetcher<Object> {
 			FieldCoordinates fieldCoordinates = FieldCoordinates.coordinates(parent, fieldDefinition);
 			DataFetcher<?> dataFetcher = codeRegistry.getDataFetcher(fieldCoordinates, fieldDefinition);
 
-			if (applyDecorator(dataFetcher)) {
-				boolean subscriptionType = visitorHelper.isSubscriptionType(parent);
-				dataFetcher = decorate(dataFetcher, subscriptionType, this.exceptionResolver);
+			boolean subscriptionType = visitorHelper.isSubscriptionType(parent);
+			if (applyDecorator(dataFetcher, subscriptionType)) {
+				dataFetcher = decorate(dataFetcher, subscriptionType, this.exceptionResolver, this.reuseSnapshot);
 				codeRegistry.dataFetcher(fieldCoordinates, dataFetcher);
 			}
 
 			return TraversalControl.CONTINUE;
 		}
 
-		private boolean applyDecorator(DataFetcher<?> dataFetcher) {
+		private boolean applyDecorator(DataFetcher<?> dataFetcher, boolean subscriptionType) {
 			if (dataFetcher instanceof TrivialDataFetcher) {
 				return false;
 			}
+			if (dataFetcher instanceof ContextFreeDataFetcher && !subscriptionType) {
+				return false;
+			}
 			Class<?> type = dataFetcher.getClass();
 			String packageName = type.getPackage().getName();
 			if (packageName.startsWith("graphql.")) {
@@ -186,11 +260,12 @@ class ContextDataFetcherDecorator implements DataFetcher<Object> {
 		}
 
 		private static ContextDataFetcherDecorator decorate(
-				DataFetcher<?> dataFetcher, boolean subscriptionType, SubscriptionExceptionResolver exceptionResolver) {
+				DataFetcher<?> dataFetcher, boolean subscriptionType,
+				SubscriptionExceptionResolver exceptionResolver, boolean reuseSnapshot) {
 
 			return ((dataFetcher instanceof SelfDescribingDataFetcher<?> sddf) ?
-					new SelfDescribingContextDataFetcherDecorator(sddf, subscriptionType, exceptionResolver) :
-					new ContextDataFetcherDecorator(dataFetcher, subscriptionType, exceptionResolver));
+					new SelfDescribingContextDataFetcherDecorator(sddf, subscriptionType, exceptionResolver, reuseSnapshot) :
+					new ContextDataFetcherDecorator(dataFetcher, subscriptionType, exceptionResolver, reuseSnapshot));
 		}
 	}
 
@@ -202,9 +277,9 @@ class ContextDataFetcherDecorator implements DataFetcher<Object> {
 
 		private SelfDescribingContextDataFetcherDecorator(
 				SelfDescribingDataFetcher<?> delegate, boolean subscriptionType,
-				SubscriptionExceptionResolver exceptionResolver) {
+				SubscriptionExceptionResolver exceptionResolver, boolean reuseSnapshot) {
 
-			super(delegate, subscriptionType, exceptionResolver);
+			super(delegate, subscriptionType, exceptionResolver, reuseSnapshot);
 			this.delegate = delegate;
 		}
 
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import graphql.schema.DataFetcher;
+
+/**
+ * Marker interface for a {@link DataFetcher} that returns its value
+ * synchronously, i.e. not as a {@link org.reactivestreams.Publisher}, and does
+ * not depend on context propagation such as ThreadLocal values or Reactor
+ * {@code Context} restored from the {@link graphql.GraphQLContext}.
+ *
+ * <p>Such data fetchers are not decorated for context propagation, which
+ * removes the overhead of capturing and restoring context for every
+ * invocation, and is useful for simple, frequently invoked fields such as
+ * {@code Map} lookups. This does not apply to subscription fields, which are
+ * always decorated.
+ *
+ * @param <T> the type of data returned by the {@code DataFetcher}
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public interface ContextFreeDataFetcher<T> extends DataFetcher<T> {
+
+}
@@ -91,7 +91,11 @@ public abstract class DataFetcherExceptionResolverAdapter implements DataFetcher
 		return Mono.defer(() -> Mono.justOrEmpty(resolveInternal(ex, env)));
 	}
 
-	private @Nullable List<GraphQLError> resolveInternal(Throwable exception, DataFetchingEnvironment env) {
+	/**
+	 * Resolve the exception synchronously, for use from
+	 * {@link ExceptionResolversExceptionHandler} without a Reactor pipeline.
+	 */
+	@Nullable List<GraphQLError> resolveInternal(Throwable exception, DataFetchingEnvironment env) {
 		try {
 			return (this.threadLocalContextAware) ?
 					ContextPropagationHelper.captureFrom(env.getGraphQlContext())
@@ -40,6 +40,10 @@ import org.springframework.util.Assert;
  * {@link DataFetcherExceptionHandler} that invokes {@link DataFetcherExceptionResolver}'s
  * in a sequence until one returns a list of {@link GraphQLError}'s.
  *
+ * <p>Leading resolvers that extend {@link DataFetcherExceptionResolverAdapter}
+ * are invoked synchronously, and a Reactor pipeline is used only once an
+ * asynchronous resolver is reached.
+ *
  * <p>Use {@link DataFetcherExceptionResolver#createExceptionHandler(List)} to
  * create an instance.
  *
@@ -50,6 +54,8 @@ class ExceptionResolversExceptionHandler implements DataFetcherExceptionHandler
 	private static final Log logger = LogFactory.getLog(ExceptionResolversExceptionHandler.class);
 
 
+	private final List<DataFetcherExceptionResolverAdapter> syncResolvers;
+
 	private final List<DataFetcherExceptionResolver> resolvers;
 
 
@@ -59,17 +65,53 @@ class ExceptionResolversExceptionHandler implements DataFetcherExceptionHandler
 	 */
 	ExceptionResolversExceptionHandler(List<DataFetcherExceptionResolver> resolvers) {
 		Assert.notNull(resolvers, "'resolvers' is required");
-		this.resolvers = new ArrayList<>(resolvers);
+		this.syncResolvers = initSyncResolvers(resolvers);
+		this.resolvers = new ArrayList<>(resolvers.subList(this.syncResolvers.size(), resolvers.size()));
+	}
+
+	/**
+	 * Return the leading resolvers that resolve synchronously, and can be
+	 * invoked without a Reactor pipeline.
+	 */
+	private static List<DataFetcherExceptionResolverAdapter> initSyncResolvers(
+			List<DataFetcherExceptionResolver> resolvers) {
+
+		List<DataFetcherExceptionResolverAdapter> syncResolvers = new ArrayList<>();
+		for (DataFetcherExceptionResolver resolver : resolvers) {
+			if (!(resolver instanceof DataFetcherExceptionResolverAdapter adapter)) {
+				break;
+			}
+			syncResolvers.add(adapter);
+		}
+		return syncResolvers;
 	}
 
 
 	@Override
-	@SuppressWarnings("NullAway")
 	public CompletableFuture<DataFetcherExceptionHandlerResult> handleException(
 			DataFetcherExceptionHandlerParameters handlerParameters) {
 
 		Throwable exception = unwrapException(handlerParameters);
 		DataFetchingEnvironment env = handlerParameters.getDataFetchingEnvironment();
+		for (DataFetcherExceptionResolverAdapter resolver : this.syncResolvers) {
+			List<GraphQLError> errors = resolver.resolveInternal(exception, env);
+			if (errors != null) {
+				DataFetcherExceptionHandlerResult result =
+						DataFetcherExceptionHandlerResult.newResult().errors(errors).build();
+				logResolvedException(exception, result);
+				return CompletableFuture.completedFuture(result);
+			}
+		}
+		if (this.resolvers.isEmpty()) {
+			return CompletableFuture.completedFuture(createInternalError(exception, env));
+		}
+		return handleExceptionAsync(exception, env);
+	}
+
+	@SuppressWarnings("NullAway")
+	private CompletableFuture<DataFetcherExceptionHandlerResult> handleExceptionAsync(
+			Throwable exception, DataFetchingEnvironment env) {
+
 		ContextSnapshot snapshot = ContextPropagationHelper.captureFrom(env.getGraphQlContext());
 		try {
 			return Flux.fromIterable(this.resolvers)
@@ -132,6 +132,21 @@ public interface GraphQlSource {
 		 */
 		B typeVisitorsToTransformSchema(List<GraphQLTypeVisitor> typeVisitors);
 
+		/**
+		 * Whether data fetchers should reuse the {@code ContextSnapshot} of
+		 * {@code ThreadLocal} and Reactor context values, captured from the
+		 * {@link graphql.GraphQLContext} for the first data fetcher in a request,
+		 * instead of capturing a new snapshot for each data fetcher.
+		 * <p>This reduces the overhead of context propagation for responses with
+		 * many fields, but values added to the {@code GraphQLContext} after the
+		 * first data fetcher are then not propagated to later data fetchers.
+		 * <p>By default, this is {@code false}.
+		 * @param reuse whether to reuse the snapshot within a request
+		 * @return the current builder
+		 * @since 2.1.0
+		 */
+		B reuseContextSnapshot(boolean reuse);
+
 		/**
 		 * Provide {@link Instrumentation} components to instrument the
 		 * execution of GraphQL queries.
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.schema.FieldCoordinates;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link graphql.execution.instrumentation.Instrumentation} that estimates the
+ * cost of an operation after it is parsed and validated, and before any
+ * {@code DataFetcher} is invoked, and rejects it if it exceeds configured
+ * limits.
+ *
+ * <p>The cost of each field is {@link #setDefaultFieldCost(int) 1 by default},
+ * and can be {@link #setFieldCost(FieldCoordinates, int) customized} per field.
+ * The cost of the sub-selection of a field with a {@code "first"} or
+ * {@code "last"} argument, as used for pagination, is multiplied by the value
+ * of that argument. The depth and the total cost of an operation can be
+ * limited, and cost can also be metered with a token bucket per client, as
+ * identified by a {@link #setClientKeyResolver(Function) key resolver}, that
+ * allows a sustained rate of cost per second along with a burst capacity.
+ *
+ * <p>Rejected operations are completed with an {@link AbortExecutionException}.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+	private static final Object GLOBAL_CLIENT_KEY = new Object();
+
+
+	private int defaultFieldCost = 1;
+
+	private final Map<FieldCoordinates, Integer> fieldCosts = new HashMap<>();
+
+	private int maxDepth = -1;
+
+	private long maxCost = -1;
+
+	private @Nullable Function<ExecutionInput, @Nullable Object> clientKeyResolver;
+
+	private int costPerSecond = -1;
+
+	private int burstCapacity;
+
+	private int maxClients = 10_000;
+
+	private final Map<Object, TokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Set the cost of fields that do not have a specific cost.
+	 * <p>By default, this is set to 1.
+	 * @param cost the default field cost
+	 */
+	public void setDefaultFieldCost(int cost) {
+		Assert.isTrue(cost >= 0, "'cost' must not be negative");
+		this.defaultFieldCost = cost;
+	}
+
+	/**
+	 * Set the cost of a specific field, e.g. a field that calls a remote service.
+	 * @param coordinates the coordinates of the field
+	 * @param cost the field cost
+	 */
+	public void setFieldCost(FieldCoordinates coordinates, int cost) {
+		Assert.isTrue(cost >= 0, "'cost' must not be negative");
+		this.fieldCosts.put(coordinates, cost);
+	}
+
+	/**
+	 * Set the maximum depth of field selections in an operation.
+	 * <p>By default, this is -1 in which case depth is not limited.
+	 * @param maxDepth the maximum depth
+	 */
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Set the maximum total cost of an operation.
+	 * <p>By default, this is -1 in which case cost is not limited.
+	 * @param maxCost the maximum cost
+	 */
+	public void setMaxCost(long maxCost) {
+		this.maxCost = maxCost;
+	}
+
+	/**
+	 * Meter the cost of operations with a token bucket per client, and reject
+	 * operations for which the client does not have enough tokens left.
+	 * <p>By default, cost is not metered.
+	 * @param costPerSecond the rate at which tokens are replenished
+	 * @param burstCapacity the maximum number of tokens a client can
+	 * accumulate, and therefore also the maximum cost of a single operation
+	 */
+	public void setCostRateLimit(int costPerSecond, int burstCapacity) {
+		Assert.isTrue(costPerSecond > 0, "'costPerSecond' must be positive");
+		Assert.isTrue(burstCapacity > 0, "'burstCapacity' must be positive");
+		this.costPerSecond = costPerSecond;
+		this.burstCapacity = burstCapacity;
+		this.tokenBuckets.clear();
+	}
+
+	/**
+	 * Set a function to determine the client, e.g. the authenticated user, or
+	 * an API key, for metering with a
+	 * {@link #setCostRateLimit(int, int) cost rate limit}. A
+	 * {@link org.springframework.graphql.server.WebGraphQlInterceptor} can add
+	 * such a key to the {@link graphql.GraphQLContext} for the function to
+	 * look up.
+	 * <p>By default, this is not set, and all operations share the same
+	 * token bucket.
+	 * @param clientKeyResolver the function that returns the client key,
+	 * or {@code null} for the shared token bucket
+	 */
+	public void setClientKeyResolver(Function<ExecutionInput, @Nullable Object> clientKeyResolver) {
+		this.clientKeyResolver = clientKeyResolver;
+	}
+
+	/**
+	 * Set the maximum number of client token buckets to keep. Once reached,
+	 * buckets of clients that have accumulated the full burst capacity are
+	 * removed, since they are equivalent to new buckets, and if there are no
+	 * such buckets, new clients share a token bucket.
+	 * <p>By default, this is set to 10,000.
+	 * @param maxClients the maximum number of token buckets
+	 */
+	public void setMaxClients(int maxClients) {
+		Assert.isTrue(maxClients > 0, "'maxClients' must be positive");
+		this.maxClients = maxClients;
+	}
+
+
+	@Override
+	public @Nullable InstrumentationContext<ExecutionResult> beginExecuteOperation(
+			InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+
+		if (this.maxDepth < 0 && this.maxCost < 0 && this.costPerSecond < 0) {
+			return null;
+		}
+
+		ExecutionContext executionContext = parameters.getExecutionContext();
+		OperationCost cost = calculateCost(executionContext);
+
+		if (this.maxDepth >= 0 && cost.depth() > this.maxDepth) {
+			throw new AbortExecutionException(
+					"Operation depth " + cost.depth() + " exceeds the maximum depth of " + this.maxDepth);
+		}
+		if (this.maxCost >= 0 && cost.cost() > this.maxCost) {
+			throw new AbortExecutionException(
+					"Operation cost " + cost.cost() + " exceeds the maximum cost of " + this.maxCost);
+		}
+		if (this.costPerSecond > 0) {
+			TokenBucket tokenBucket = getTokenBucket(executionContext.getExecutionInput());
+			if (!tokenBucket.tryConsume(cost.cost())) {
+				throw new AbortExecutionException(
+						"Operation cost " + cost.cost() + " exceeds the remaining cost rate limit");
+			}
+		}
+
+		return null;
+	}
+
+	private OperationCost calculateCost(ExecutionContext executionContext) {
+		QueryTraverser traverser = QueryTraverser.newQueryTraverser()
+				.schema(executionContext.getGraphQLSchema())
+				.document(executionContext.getDocument())
+				.operationName(executionContext.getOperationDefinition().getName())
+				.coercedVariables(executionContext.getCoercedVariables())
+				.build();
+
+		// Post-order traversal, so sub-selections are visited before their parent field
+		Map<@Nullable QueryVisitorFieldEnvironment, Long> costByParent = new HashMap<>();
+		int[] maxDepth = new int[1];
+
+		traverser.visitPostOrder(new QueryVisitorStub() {
+
+			@Override
+			public void visitField(QueryVisitorFieldEnvironment env) {
+				long childCost = costByParent.getOrDefault(env, 0L);
+				long fieldCost = add(getFieldCost(env), multiply(childCost, getMultiplier(env)));
+				costByParent.merge(env.getParentEnvironment(), fieldCost, QueryCostInstrumentation::add);
+				maxDepth[0] = Math.max(maxDepth[0], getDepth(env));
+			}
+		});
+
+		return new OperationCost(costByParent.getOrDefault(null, 0L), maxDepth[0]);
+	}
+
+	private int getFieldCost(QueryVisitorFieldEnvironment env) {
+		if (this.fieldCosts.isEmpty()) {
+			return this.defaultFieldCost;
+		}
+		FieldCoordinates coordinates = FieldCoordinates.coordinates(env.getFieldsContainer(), env.getFieldDefinition());
+		return this.fieldCosts.getOrDefault(coordinates, this.defaultFieldCost);
+	}
+
+	private static long getMultiplier(QueryVisitorFieldEnvironment env) {
+		Object count = env.getArguments().get("first");
+		if (count == null) {
+			count = env.getArguments().get("last");
+		}
+		return ((count instanceof Number number) ? Math.max(number.longValue(), 0) : 1);
+	}
+
+	private static int getDepth(QueryVisitorFieldEnvironment env) {
+		int depth = 1;
+		for (QueryVisitorFieldEnvironment parent = env.getParentEnvironment(); parent != null;
+				parent = parent.getParentEnvironment()) {
+			depth++;
+		}
+		return depth;
+	}
+
+	private static long add(long a, long b) {
+		long result = a + b;
+		return ((result < 0) ? Long.MAX_VALUE : result);
+	}
+
+	private static long multiply(long a, long b) {
+		long high = Math.multiplyHigh(a, b);
+		long result = a * b;
+		return ((high != 0 || result < 0) ? Long.MAX_VALUE : result);
+	}
+
+	private TokenBucket getTokenBucket(ExecutionInput executionInput) {
+		Object key = (this.clientKeyResolver != null) ? this.clientKeyResolver.apply(executionInput) : null;
+		if (key == null) {
+			key = GLOBAL_CLIENT_KEY;
+		}
+		TokenBucket tokenBucket = this.tokenBuckets.get(key);
+		if (tokenBucket == null) {
+			if (this.tokenBuckets.size() >= this.maxClients) {
+				long now = System.nanoTime();
+				this.tokenBuckets.values().removeIf((bucket) -> bucket.isFull(now));
+				if (this.tokenBuckets.size() >= this.maxClients) {
+					key = GLOBAL_CLIENT_KEY;
+				}
+			}
+			tokenBucket = this.tokenBuckets.computeIfAbsent(key, (k) -> new TokenBucket());
+		}
+		return tokenBucket;
+	}
+
+
+	private record OperationCost(long cost, int depth) {
+	}
+
+
+	/**
+	 * Token bucket that is replenished continuously at the configured rate.
+	 */
+	private final class TokenBucket {
+
+		private double tokens = QueryCostInstrumentation.this.burstCapacity;
+
+		private long lastRefillTime = System.nanoTime();
+
+		synchronized boolean tryConsume(long cost) {
+			refill(System.nanoTime());
+			if (this.tokens < cost) {
+				return false;
+			}
+			this.tokens -= cost;
+			return true;
+		}
+
+		synchronized boolean isFull(long now) {
+			refill(now);
+			return (this.tokens >= QueryCostInstrumentation.this.burstCapacity);
+		}
+
+		private void refill(long now) {
+			double elapsedSeconds = (now - this.lastRefillTime) / 1_000_000_000d;
+			if (elapsedSeconds > 0) {
+				double refill = elapsedSeconds * QueryCostInstrumentation.this.costPerSecond;
+				this.tokens = Math.min(QueryCostInstrumentation.this.burstCapacity, this.tokens + refill);
+				this.lastRefillTime = now;
+			}
+		}
+	}
+
+}
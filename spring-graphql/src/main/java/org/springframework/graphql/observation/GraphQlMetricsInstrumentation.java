@@ -0,0 +1,301 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.observation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import graphql.ExecutionInput;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.FieldCoordinates;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.instrumentation.DataLoaderInstrumentation;
+import org.dataloader.instrumentation.DataLoaderInstrumentationContext;
+import org.dataloader.instrumentation.DataLoaderInstrumentationHelper;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.graphql.execution.SelfDescribingDataFetcher;
+import org.springframework.util.Assert;
+
+/**
+ * {@link graphql.execution.instrumentation.Instrumentation} that records
+ * latency histograms per field coordinate, e.g. "Book.author", along with batch
+ * size and batch latency per {@link DataLoader}, as Micrometer meters. This is
+ * a lightweight alternative to {@link GraphQlObservationInstrumentation} for
+ * finding hot spots among data fetchers, without creating an
+ * {@link io.micrometer.observation.Observation} per invocation.
+ *
+ * <p>The following meters are registered:
+ * <ul>
+ * <li>{@code "graphql.field.fetch"} timer tagged with {@code "graphql.field.coordinate"}
+ * <li>{@code "graphql.dataloader.batch"} timer tagged with {@code "graphql.loader.name"}
+ * <li>{@code "graphql.dataloader.batch.size"} summary tagged with {@code "graphql.loader.name"}
+ * </ul>
+ *
+ * <p>Trivial data fetchers such as property access are not measured. Fields
+ * whose data fetchers remain under 1 microsecond for the first invocations are
+ * excluded automatically, and their meter is removed. The number of field
+ * coordinates and {@code DataLoader} names with meters is limited to bound the
+ * cardinality.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public class GraphQlMetricsInstrumentation extends SimplePerformantInstrumentation {
+
+	private static final String FIELD_FETCH_METER = "graphql.field.fetch";
+
+	private static final String BATCH_METER = "graphql.dataloader.batch";
+
+	private static final String BATCH_SIZE_METER = "graphql.dataloader.batch.size";
+
+	private static final int WARMUP_INVOCATIONS = 100;
+
+	private static final long TRIVIAL_THRESHOLD = TimeUnit.MICROSECONDS.toNanos(1);
+
+
+	private final MeterRegistry meterRegistry;
+
+	private final int maxMeters;
+
+	private final Map<FieldCoordinates, FieldMeter> fieldMeters = new ConcurrentHashMap<>();
+
+	private final Map<String, DataLoaderMeters> dataLoaderMeters = new ConcurrentHashMap<>();
+
+	private final AtomicInteger fieldMeterCount = new AtomicInteger();
+
+	private final AtomicInteger dataLoaderMeterCount = new AtomicInteger();
+
+
+	/**
+	 * Create an instance that records up to 500 field coordinates and
+	 * {@code DataLoader} names each.
+	 * @param meterRegistry the registry to register meters with
+	 */
+	public GraphQlMetricsInstrumentation(MeterRegistry meterRegistry) {
+		this(meterRegistry, 500);
+	}
+
+	/**
+	 * Create an instance with a limit on the number of field coordinates and
+	 * {@code DataLoader} names to record meters for.
+	 * @param meterRegistry the registry to register meters with
+	 * @param maxMeters the maximum number of field coordinates, and separately
+	 * of {@code DataLoader} names, to record
+	 */
+	public GraphQlMetricsInstrumentation(MeterRegistry meterRegistry, int maxMeters) {
+		Assert.notNull(meterRegistry, "MeterRegistry is required");
+		Assert.isTrue(maxMeters > 0, "'maxMeters' must be positive");
+		this.meterRegistry = meterRegistry;
+		this.maxMeters = maxMeters;
+	}
+
+
+	@Override
+	public @NonNull ExecutionInput instrumentExecutionInput(
+			ExecutionInput executionInput, InstrumentationExecutionParameters parameters, InstrumentationState state) {
+
+		return executionInput.transform((builder) -> {
+			DataLoaderRegistry dataLoaderRegistry = DataLoaderRegistry.newRegistry()
+					.registerAll(executionInput.getDataLoaderRegistry())
+					.instrumentation(new MetricsDataLoaderInstrumentation())
+					.build();
+			builder.dataLoaderRegistry(dataLoaderRegistry);
+		});
+	}
+
+	@Override
+	public DataFetcher<?> instrumentDataFetcher(
+			DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+
+		if (parameters.isTrivialDataFetcher()) {
+			return dataFetcher;
+		}
+		// batch loading is measured at the DataLoader level
+		if (dataFetcher instanceof SelfDescribingDataFetcher<?> selfDescribingDataFetcher &&
+				selfDescribingDataFetcher.usesDataLoader()) {
+			return dataFetcher;
+		}
+		FieldMeter fieldMeter = getFieldMeter(parameters.getEnvironment());
+		if (fieldMeter == null || fieldMeter.isExcluded()) {
+			return dataFetcher;
+		}
+		return (environment) -> {
+			long startTime = System.nanoTime();
+			Object value;
+			try {
+				value = dataFetcher.get(environment);
+			}
+			catch (Throwable ex) {
+				fieldMeter.record(System.nanoTime() - startTime);
+				throw ex;
+			}
+			if (value instanceof CompletionStage<?> completion) {
+				return completion.whenComplete((result, ex) -> fieldMeter.record(System.nanoTime() - startTime));
+			}
+			fieldMeter.record(System.nanoTime() - startTime);
+			return value;
+		};
+	}
+
+	private @Nullable FieldMeter getFieldMeter(DataFetchingEnvironment environment) {
+		FieldCoordinates coordinates = FieldCoordinates.coordinates(
+				environment.getExecutionStepInfo().getObjectType(), environment.getFieldDefinition());
+		FieldMeter fieldMeter = this.fieldMeters.get(coordinates);
+		if (fieldMeter == null) {
+			fieldMeter = this.fieldMeters.computeIfAbsent(coordinates, (key) ->
+					(reserveMeter(this.fieldMeterCount)) ? new FieldMeter(
+							Timer.builder(FIELD_FETCH_METER)
+									.description("Latency of data fetchers per field coordinate")
+									.tag("graphql.field.coordinate", key.toString())
+									.publishPercentileHistogram()
+									.register(this.meterRegistry)) : null);
+		}
+		return fieldMeter;
+	}
+
+	private @Nullable DataLoaderMeters getDataLoaderMeters(@Nullable String name) {
+		String loaderName = (name != null) ? name : "unnamed";
+		DataLoaderMeters meters = this.dataLoaderMeters.get(loaderName);
+		if (meters == null) {
+			meters = this.dataLoaderMeters.computeIfAbsent(loaderName, (key) ->
+					(reserveMeter(this.dataLoaderMeterCount)) ? new DataLoaderMeters(
+							Timer.builder(BATCH_METER)
+									.description("Latency of DataLoader batch loads")
+									.tag("graphql.loader.name", key)
+									.publishPercentileHistogram()
+									.register(this.meterRegistry),
+							DistributionSummary.builder(BATCH_SIZE_METER)
+									.description("Number of keys in DataLoader batch loads")
+									.tag("graphql.loader.name", key)
+									.publishPercentileHistogram()
+									.register(this.meterRegistry)) : null);
+		}
+		return meters;
+	}
+
+	/**
+	 * Reserve a slot for a new meter, if still under the limit. This is called
+	 * from within {@code computeIfAbsent}, so concurrent registrations for
+	 * different keys cannot exceed the limit together.
+	 */
+	private boolean reserveMeter(AtomicInteger meterCount) {
+		int count = meterCount.get();
+		while (count < this.maxMeters) {
+			if (meterCount.compareAndSet(count, count + 1)) {
+				return true;
+			}
+			count = meterCount.get();
+		}
+		return false;
+	}
+
+
+	/**
+	 * Timer for a field coordinate that excludes itself if the data fetcher
+	 * turns out to be trivial during the first invocations.
+	 */
+	private final class FieldMeter {
+
+		private final Timer timer;
+
+		private final LongAdder warmupCount = new LongAdder();
+
+		private final LongAccumulator warmupMaxTime = new LongAccumulator(Math::max, 0);
+
+		private volatile boolean warmedUp;
+
+		private volatile boolean excluded;
+
+		FieldMeter(Timer timer) {
+			this.timer = timer;
+		}
+
+		boolean isExcluded() {
+			return this.excluded;
+		}
+
+		void record(long nanos) {
+			if (!this.warmedUp) {
+				this.warmupMaxTime.accumulate(nanos);
+				this.warmupCount.increment();
+				if (this.warmupCount.sum() >= WARMUP_INVOCATIONS) {
+					this.warmedUp = true;
+					if (this.warmupMaxTime.get() < TRIVIAL_THRESHOLD) {
+						this.excluded = true;
+						GraphQlMetricsInstrumentation.this.meterRegistry.remove(this.timer);
+						return;
+					}
+				}
+			}
+			if (!this.excluded) {
+				this.timer.record(nanos, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+
+	private record DataLoaderMeters(Timer batchTimer, DistributionSummary batchSize) {
+	}
+
+
+	private class MetricsDataLoaderInstrumentation implements DataLoaderInstrumentation {
+
+		@Override
+		public DataLoaderInstrumentationContext<List<?>> beginBatchLoader(
+				DataLoader<?, ?> dataLoader, List<?> keys, BatchLoaderEnvironment environment) {
+
+			DataLoaderMeters meters = getDataLoaderMeters(dataLoader.getName());
+			if (meters == null) {
+				return DataLoaderInstrumentationHelper.noOpCtx();
+			}
+			meters.batchSize().record(keys.size());
+			return new DataLoaderInstrumentationContext<>() {
+
+				private long startTime = System.nanoTime();
+
+				@Override
+				public void onDispatched() {
+					this.startTime = System.nanoTime();
+				}
+
+				@Override
+				public void onCompleted(List<?> result, @Nullable Throwable ex) {
+					meters.batchTimer().record(System.nanoTime() - this.startTime, TimeUnit.NANOSECONDS);
+				}
+			};
+		}
+	}
+
+}
@@ -17,9 +17,15 @@
 package org.springframework.graphql.observation;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
@@ -35,6 +41,9 @@ import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchPar
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingEnvironmentImpl;
+import graphql.schema.FieldCoordinates;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
@@ -47,6 +56,7 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.graphql.execution.SelfDescribingDataFetcher;
+import org.springframework.util.Assert;
 
 /**
  * {@link graphql.execution.instrumentation.Instrumentation} that creates
@@ -61,6 +71,12 @@ import org.springframework.graphql.execution.SelfDescribingDataFetcher;
  * Information is collected from the {@link DataFetcherObservationContext}.
  * The configured {@link DataFetcherObservationConvention} will be used,
  * or the {@link DefaultDataFetcherObservationConvention} if none was provided.
+ * <p>Data fetcher observations can be limited to a
+ * {@link #setDataFetcherSampleRate(double) sample} of requests, and to a
+ * {@link #setDataFetcherObservationsPerSecond(int) rate} per field. Alternatively,
+ * they can be replaced with {@link #setAggregateDataFetcherObservations(MeterRegistry)
+ * aggregated} timers per field, which avoids the overhead of an
+ * {@code Observation} for every data fetcher invocation.
  *
  * @author Brian Clozel
  * @since 1.1.0
@@ -84,6 +100,14 @@ public class GraphQlObservationInstrumentation extends SimplePerformantInstrumen
 
 	private final @Nullable DataLoaderObservationConvention dataLoaderObservationConvention;
 
+	private double dataFetcherSampleRate = 1.0;
+
+	private int dataFetcherObservationsPerSecond;
+
+	private @Nullable DataFetcherTimers dataFetcherTimers;
+
+	private final Map<FieldCoordinates, ObservationRateLimit> rateLimits = new ConcurrentHashMap<>();
+
 	/**
 	 * Create an {@code GraphQlObservationInstrumentation} that records observations
 	 * against the given {@link ObservationRegistry}. The default observation
@@ -129,6 +153,52 @@ public class GraphQlObservationInstrumentation extends SimplePerformantInstrumen
 		this.dataLoaderObservationConvention = dataLoaderObservationConvention;
 	}
 
+
+	/**
+	 * Configure the fraction of requests for which to observe data fetchers,
+	 * decided once at the start of each request. Requests that are not sampled
+	 * are still observed, but their data fetchers are not.
+	 * <p>By default, this is 1.0, and data fetchers are observed for all requests.
+	 * @param sampleRate the sample rate, between 0.0 and 1.0
+	 * @since 2.1.0
+	 */
+	public void setDataFetcherSampleRate(double sampleRate) {
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "'sampleRate' must be between 0.0 and 1.0");
+		this.dataFetcherSampleRate = sampleRate;
+	}
+
+	/**
+	 * Configure the maximum number of data fetcher observations to create per
+	 * second for each field coordinate, e.g. "Book.author". Invocations beyond
+	 * that are not observed.
+	 * <p>By default, this is 0, and the number of observations is not limited.
+	 * @param observationsPerSecond the maximum number of observations per
+	 * second and field, or 0 for no limit
+	 * @since 2.1.0
+	 */
+	public void setDataFetcherObservationsPerSecond(int observationsPerSecond) {
+		Assert.isTrue(observationsPerSecond >= 0, "'observationsPerSecond' must not be negative");
+		this.dataFetcherObservationsPerSecond = observationsPerSecond;
+	}
+
+	/**
+	 * Record data fetcher invocations in a {@code "graphql.datafetcher.aggregated"}
+	 * timer per field coordinate in the given registry, instead of creating an
+	 * {@code Observation} for each. Timers are tagged with
+	 * {@code "graphql.field.coordinate"}, e.g. "Book.author", and
+	 * {@code "graphql.outcome"}, either "SUCCESS" or "ERROR".
+	 * <p>In this mode, the local context of data fetchers is not changed, and
+	 * the request observation remains the current observation for them.
+	 * <p>By default, this is not set, and data fetchers are observed.
+	 * @param meterRegistry the registry to register timers with, or
+	 * {@code null} to observe data fetchers
+	 * @since 2.1.0
+	 */
+	public void setAggregateDataFetcherObservations(@Nullable MeterRegistry meterRegistry) {
+		this.dataFetcherTimers = (meterRegistry != null) ? new DataFetcherTimers(meterRegistry) : null;
+	}
+
+
 	@Override
 	public @NonNull ExecutionInput instrumentExecutionInput(ExecutionInput executionInput, InstrumentationExecutionParameters parameters, InstrumentationState state) {
 		return executionInput.transform((builder) -> {
@@ -143,7 +213,9 @@ public class GraphQlObservationInstrumentation extends SimplePerformantInstrumen
 	@Override
 	public CompletableFuture<InstrumentationState> createStateAsync(InstrumentationCreateStateParameters parameters) {
 		ExecutionRequestObservationContext requestObservationContext = new ExecutionRequestObservationContext(parameters.getExecutionInput());
-		return CompletableFuture.completedFuture(new RequestObservationInstrumentationState(requestObservationContext));
+		boolean sampled = (this.dataFetcherSampleRate >= 1.0 ||
+				ThreadLocalRandom.current().nextDouble() < this.dataFetcherSampleRate);
+		return CompletableFuture.completedFuture(new RequestObservationInstrumentationState(requestObservationContext, sampled));
 	}
 
 	@Override
@@ -191,12 +263,26 @@ public class GraphQlObservationInstrumentation extends SimplePerformantInstrumen
 	public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
 			InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
 		if (!parameters.isTrivialDataFetcher()
-				&& state instanceof RequestObservationInstrumentationState) {
+				&& state instanceof RequestObservationInstrumentationState observationState) {
 			// skip batch loading operations, already instrumented at the dataloader level
 			if (dataFetcher instanceof SelfDescribingDataFetcher<?> selfDescribingDataFetcher
 					&& selfDescribingDataFetcher.usesDataLoader()) {
 				return dataFetcher;
 			}
+			if (!observationState.dataFetchersSampled) {
+				return dataFetcher;
+			}
+			if (this.dataFetcherTimers != null) {
+				FieldCoordinates coordinates = getFieldCoordinates(parameters.getEnvironment());
+				return this.dataFetcherTimers.timingDataFetcher(dataFetcher, coordinates);
+			}
+			if (this.dataFetcherObservationsPerSecond > 0) {
+				FieldCoordinates coordinates = getFieldCoordinates(parameters.getEnvironment());
+				ObservationRateLimit rateLimit = this.rateLimits.computeIfAbsent(coordinates, (key) -> new ObservationRateLimit());
+				if (!rateLimit.tryAcquire(this.dataFetcherObservationsPerSecond)) {
+					return dataFetcher;
+				}
+			}
 			return (environment) -> {
 				DataFetcherObservationContext observationContext = new DataFetcherObservationContext(environment);
 				Observation dataFetcherObservation = GraphQlObservationDocumentation.DATA_FETCHER.observation(this.dataFetcherObservationConvention,
@@ -242,6 +328,11 @@ public class GraphQlObservationInstrumentation extends SimplePerformantInstrumen
 		return dataFetcher;
 	}
 
+	private static FieldCoordinates getFieldCoordinates(DataFetchingEnvironment environment) {
+		return FieldCoordinates.coordinates(
+				environment.getExecutionStepInfo().getObjectType(), environment.getFieldDefinition());
+	}
+
 	private static @Nullable Observation getCurrentObservation(DataFetchingEnvironment environment) {
 		Observation currentObservation = null;
 		if (environment.getLocalContext() instanceof GraphQLContext localContext) {
@@ -274,8 +365,86 @@ public class GraphQlObservationInstrumentation extends SimplePerformantInstrumen
 
 		final ExecutionRequestObservationContext requestObservationContext;
 
-		RequestObservationInstrumentationState(ExecutionRequestObservationContext requestObservationContext) {
+		final boolean dataFetchersSampled;
+
+		RequestObservationInstrumentationState(
+				ExecutionRequestObservationContext requestObservationContext, boolean dataFetchersSampled) {
+
 			this.requestObservationContext = requestObservationContext;
+			this.dataFetchersSampled = dataFetchersSampled;
+		}
+
+	}
+
+
+	/**
+	 * Records data fetcher invocations in a timer per field coordinate and
+	 * outcome. Kept separate to load Micrometer meter types only if in use.
+	 */
+	private static final class DataFetcherTimers {
+
+		private static final String METER_NAME = "graphql.datafetcher.aggregated";
+
+		private final MeterRegistry meterRegistry;
+
+		private final Map<FieldCoordinates, Timer> successTimers = new ConcurrentHashMap<>();
+
+		private final Map<FieldCoordinates, Timer> errorTimers = new ConcurrentHashMap<>();
+
+		DataFetcherTimers(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+		}
+
+		DataFetcher<?> timingDataFetcher(DataFetcher<?> dataFetcher, FieldCoordinates coordinates) {
+			return (environment) -> {
+				long startTime = System.nanoTime();
+				try {
+					Object value = dataFetcher.get(environment);
+					if (value instanceof CompletionStage<?> completion) {
+						return completion.whenComplete((result, error) ->
+								record(coordinates, (error != null), System.nanoTime() - startTime));
+					}
+					record(coordinates, false, System.nanoTime() - startTime);
+					return value;
+				}
+				catch (Throwable ex) {
+					record(coordinates, true, System.nanoTime() - startTime);
+					throw ex;
+				}
+			};
+		}
+
+		private void record(FieldCoordinates coordinates, boolean error, long nanos) {
+			Map<FieldCoordinates, Timer> timers = (error) ? this.errorTimers : this.successTimers;
+			Timer timer = timers.computeIfAbsent(coordinates, (key) -> Timer.builder(METER_NAME)
+					.description("Latency of data fetchers per field coordinate")
+					.tag("graphql.field.coordinate", key.toString())
+					.tag("graphql.outcome", (error) ? "ERROR" : "SUCCESS")
+					.register(this.meterRegistry));
+			timer.record(nanos, TimeUnit.NANOSECONDS);
+		}
+
+	}
+
+
+	/**
+	 * Limits the number of observations per second for a field coordinate.
+	 */
+	private static final class ObservationRateLimit {
+
+		private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+		private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		boolean tryAcquire(int limit) {
+			long now = System.nanoTime();
+			long start = this.windowStart.get();
+			if (now - start >= ONE_SECOND && this.windowStart.compareAndSet(start, now)) {
+				this.count.set(0);
+			}
+			return (this.count.incrementAndGet() <= limit);
 		}
 
 	}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import graphql.ErrorClassification;
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import org.springframework.graphql.ExecutionGraphQlRequest;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.support.DefaultExecutionGraphQlResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+/**
+ * Interceptor that limits the number of GraphQL requests executed concurrently,
+ * and rejects requests above the limit immediately with a GraphQL error, and
+ * over HTTP, also with a 503 (Service Unavailable) status, and a
+ * {@code "Retry-After"} header, rather than letting latency degrade for all
+ * requests under overload. The GraphQL error is classified as
+ * {@code "SERVICE_UNAVAILABLE"}.
+ *
+ * <p>The limit adapts to the observed latency, in the manner of TCP Vegas. The
+ * lowest observed latency is taken to be the latency without queueing, and the
+ * limit is increased while latency remains close to it, and decreased as
+ * latency grows, which indicates requests are queueing for resources.
+ *
+ * <p>Requests can be given priority through a
+ * {@link #setPriorityRequestPredicate(Predicate) predicate}, e.g. for mutations
+ * or authenticated users, in which case a share of the limit is reserved for
+ * such requests.
+ *
+ * <p>This interceptor can be registered with both a {@link WebGraphQlHandler}
+ * and a {@link GraphQlRSocketHandler}. For subscriptions, the limit applies
+ * only until the response stream is established.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public class ConcurrencyLimitGraphQlInterceptor implements WebGraphQlInterceptor, RSocketGraphQlInterceptor {
+
+	private static final int ALPHA = 3;
+
+	private static final int BETA = 6;
+
+	private static final int MIN_LATENCY_RESET_SAMPLES = 1000;
+
+	private static final ErrorClassification SERVICE_UNAVAILABLE =
+			ErrorClassification.errorClassification("SERVICE_UNAVAILABLE");
+
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private volatile double limit;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private long minLatency = Long.MAX_VALUE;
+
+	private int sampleCount;
+
+	private @Nullable Predicate<ExecutionGraphQlRequest> priorityRequestPredicate;
+
+	private double reservedPriorityShare = 0.2;
+
+	private Duration retryAfter = Duration.ofSeconds(1);
+
+
+	/**
+	 * Create an instance with an initial limit of 20, adapting between 1 and 1000.
+	 */
+	public ConcurrencyLimitGraphQlInterceptor() {
+		this(20, 1, 1000);
+	}
+
+	/**
+	 * Create an instance with the given limits.
+	 * @param initialLimit the limit to start with
+	 * @param minLimit the lowest the limit can be adapted to
+	 * @param maxLimit the highest the limit can be adapted to
+	 */
+	public ConcurrencyLimitGraphQlInterceptor(int initialLimit, int minLimit, int maxLimit) {
+		Assert.isTrue(minLimit > 0, "'minLimit' must be positive");
+		Assert.isTrue(minLimit <= initialLimit && initialLimit <= maxLimit,
+				"'initialLimit' must be between 'minLimit' and 'maxLimit'");
+		this.limit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+	}
+
+
+	/**
+	 * Set a predicate to select requests with priority, for which a share of
+	 * the limit is {@link #setReservedPriorityShare(double) reserved}.
+	 * <p>By default, this is not set, and all requests are treated equally.
+	 * @param predicate the predicate to select priority requests
+	 */
+	public void setPriorityRequestPredicate(Predicate<ExecutionGraphQlRequest> predicate) {
+		this.priorityRequestPredicate = predicate;
+	}
+
+	/**
+	 * Set the share of the limit, between 0 and 1, to reserve for requests
+	 * that match the {@link #setPriorityRequestPredicate(Predicate) priority
+	 * predicate}, i.e. the share of the limit that other requests cannot use.
+	 * <p>By default, this is set to 0.2.
+	 * @param share the share of the limit to reserve
+	 */
+	public void setReservedPriorityShare(double share) {
+		Assert.isTrue(share >= 0 && share < 1, "'share' must be at least 0, and less than 1");
+		this.reservedPriorityShare = share;
+	}
+
+	/**
+	 * Set the value of the {@code "Retry-After"} header for rejected requests
+	 * over HTTP. The header is set in seconds, rounded up.
+	 * <p>By default, this is set to 1 second.
+	 * @param retryAfter the duration after which a client may retry
+	 */
+	public void setRetryAfter(Duration retryAfter) {
+		Assert.isTrue(!retryAfter.isNegative(), "'retryAfter' must not be negative");
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * Return the current concurrency limit.
+	 */
+	public int getLimit() {
+		return (int) this.limit;
+	}
+
+	/**
+	 * Return the number of requests currently executing.
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+
+	@Override
+	public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, WebGraphQlInterceptor.Chain chain) {
+		return Mono.defer(() -> {
+			if (!tryAcquire(request)) {
+				WebGraphQlResponse response = new WebGraphQlResponse(createRejectedResponse(request));
+				response.setResponseStatus(HttpStatus.SERVICE_UNAVAILABLE);
+				response.getResponseHeaders().set(HttpHeaders.RETRY_AFTER, getRetryAfterSeconds());
+				return Mono.just(response);
+			}
+			long startTime = System.nanoTime();
+			return chain.next(request).doFinally((signal) -> release(startTime, signal));
+		});
+	}
+
+	@Override
+	public Mono<RSocketGraphQlResponse> intercept(RSocketGraphQlRequest request, RSocketGraphQlInterceptor.Chain chain) {
+		return Mono.defer(() -> {
+			if (!tryAcquire(request)) {
+				return Mono.just(new RSocketGraphQlResponse(createRejectedResponse(request)));
+			}
+			long startTime = System.nanoTime();
+			return chain.next(request).doFinally((signal) -> release(startTime, signal));
+		});
+	}
+
+	private boolean tryAcquire(ExecutionGraphQlRequest request) {
+		double available = this.limit;
+		if (this.priorityRequestPredicate != null && !this.priorityRequestPredicate.test(request)) {
+			available = Math.max(available * (1 - this.reservedPriorityShare), this.minLimit);
+		}
+		while (true) {
+			int current = this.inFlight.get();
+			if (current >= available) {
+				return false;
+			}
+			if (this.inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	private void release(long startTime, SignalType signal) {
+		int inFlightCount = this.inFlight.getAndDecrement();
+		if (signal == SignalType.ON_COMPLETE) {
+			updateLimit(System.nanoTime() - startTime, inFlightCount);
+		}
+	}
+
+	private synchronized void updateLimit(long latency, int inFlightCount) {
+		if (++this.sampleCount >= MIN_LATENCY_RESET_SAMPLES) {
+			// Periodically re-establish the latency without queueing
+			this.sampleCount = 0;
+			this.minLatency = latency;
+		}
+		else if (latency < this.minLatency) {
+			this.minLatency = latency;
+		}
+		double currentLimit = this.limit;
+		double queueSize = currentLimit * (1 - (double) this.minLatency / Math.max(latency, 1));
+		if (queueSize < ALPHA) {
+			// Grow only if the current limit is being used
+			if (inFlightCount * 2 >= currentLimit) {
+				currentLimit++;
+			}
+		}
+		else if (queueSize > BETA) {
+			currentLimit--;
+		}
+		this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, currentLimit));
+	}
+
+	private String getRetryAfterSeconds() {
+		long seconds = this.retryAfter.toSeconds();
+		return String.valueOf((this.retryAfter.toNanosPart() > 0) ? seconds + 1 : seconds);
+	}
+
+	private ExecutionGraphQlResponse createRejectedResponse(ExecutionGraphQlRequest request) {
+		GraphQLError error = GraphqlErrorBuilder.newError()
+				.errorType(SERVICE_UNAVAILABLE)
+				.message("Request rejected due to server overload, retry later")
+				.build();
+		ExecutionResult result = ExecutionResult.newExecutionResult().addError(error).build();
+		return new DefaultExecutionGraphQlResponse(request.toExecutionInput(), result);
+	}
+
+}
@@ -19,10 +19,12 @@ package org.springframework.graphql.server;
 import java.util.function.Consumer;
 
 import graphql.ExecutionResult;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.graphql.ExecutionGraphQlResponse;
 import org.springframework.graphql.support.DefaultExecutionGraphQlResponse;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
 
 /**
@@ -36,6 +38,8 @@ public class WebGraphQlResponse extends DefaultExecutionGraphQlResponse {
 
 	private final HttpHeaders responseHeaders;
 
+	private @Nullable HttpStatus responseStatus;
+
 
 	/**
 	 * Create an instance that wraps the given {@link ExecutionGraphQlResponse}.
@@ -49,6 +53,7 @@ public class WebGraphQlResponse extends DefaultExecutionGraphQlResponse {
 	private WebGraphQlResponse(WebGraphQlResponse original, ExecutionResult executionResult) {
 		super(original.getExecutionInput(), executionResult);
 		this.responseHeaders = original.getResponseHeaders();
+		this.responseStatus = original.getResponseStatus();
 	}
 
 
@@ -63,6 +68,29 @@ public class WebGraphQlResponse extends DefaultExecutionGraphQlResponse {
 		return this.responseHeaders;
 	}
 
+	/**
+	 * Set the status to use for the HTTP response, overriding the status that
+	 * the HTTP handler would otherwise select, e.g. to reject a request with
+	 * 503 (Service Unavailable) or 429 (Too Many Requests).
+	 * <p>By default, this is not set.
+	 * <p><strong>Note:</strong> This is for use with GraphQL over HTTP requests
+	 * but not for GraphQL over WebSocket.
+	 * @param status the status to use
+	 * @since 2.1.0
+	 */
+	public void setResponseStatus(@Nullable HttpStatus status) {
+		this.responseStatus = status;
+	}
+
+	/**
+	 * Return the {@link #setResponseStatus(HttpStatus) configured} HTTP
+	 * response status, if any.
+	 * @since 2.1.0
+	 */
+	public @Nullable HttpStatus getResponseStatus() {
+		return this.responseStatus;
+	}
+
 	/**
 	 * Transform the underlying {@link ExecutionResult} through a {@link Builder}
 	 * and return a new instance with the modified values.
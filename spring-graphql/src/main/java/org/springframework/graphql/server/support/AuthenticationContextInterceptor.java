@@ -0,0 +1,127 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server.support;
+
+import java.util.function.Function;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import org.springframework.graphql.ExecutionGraphQlRequest;
+import org.springframework.graphql.server.RSocketGraphQlInterceptor;
+import org.springframework.graphql.server.RSocketGraphQlRequest;
+import org.springframework.graphql.server.RSocketGraphQlResponse;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+
+/**
+ * Interceptor that resolves the {@link Authentication} once per request, and
+ * saves it in the {@link graphql.GraphQLContext} under the key
+ * {@code Authentication.class}, from where
+ * {@link java.security.Principal} and
+ * {@link org.springframework.security.core.annotation.AuthenticationPrincipal @AuthenticationPrincipal}
+ * controller method arguments are resolved directly, without access to the
+ * security context.
+ *
+ * <p>The {@code Authentication} is obtained from the {@link SecurityContext}
+ * captured from the {@code SecurityContextHolder} ThreadLocal for Spring MVC
+ * applications, or otherwise from the {@link ReactiveSecurityContextHolder}
+ * for Spring WebFlux applications.
+ *
+ * <p>By default, the {@code SecurityContext} is also propagated to the
+ * {@code SecurityContextHolder} ThreadLocal for every data fetcher, batch
+ * loader, and executor task. If that is not needed, e.g. there is no method
+ * security, and controllers do not use {@code SecurityContextHolder}, you can
+ * turn that off via {@link #setSecurityContextPropagation(boolean)} to save
+ * the cost of setting and restoring the ThreadLocal for each field.
+ *
+ * @author Rossen Stoyanchev
+ * @since 2.1.0
+ */
+public class AuthenticationContextInterceptor implements WebGraphQlInterceptor, RSocketGraphQlInterceptor {
+
+	/**
+	 * The key under which
+	 * {@link org.springframework.graphql.execution.SecurityContextThreadLocalAccessor}
+	 * saves the {@link SecurityContext} for propagation.
+	 */
+	private static final String SECURITY_CONTEXT_KEY = SecurityContext.class.getName();
+
+
+	private boolean securityContextPropagation = true;
+
+
+	/**
+	 * Whether to propagate the {@code SecurityContext} to the
+	 * {@code SecurityContextHolder} ThreadLocal during request execution.
+	 * <p>By default, this is set to {@code true}.
+	 * @param securityContextPropagation whether to propagate the security context
+	 */
+	public void setSecurityContextPropagation(boolean securityContextPropagation) {
+		this.securityContextPropagation = securityContextPropagation;
+	}
+
+	/**
+	 * Whether the {@code SecurityContext} is propagated to the
+	 * {@code SecurityContextHolder} ThreadLocal during request execution.
+	 */
+	public boolean isSecurityContextPropagation() {
+		return this.securityContextPropagation;
+	}
+
+
+	@Override
+	public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, WebGraphQlInterceptor.Chain chain) {
+		return intercept(request, chain::next);
+	}
+
+	@Override
+	public Mono<RSocketGraphQlResponse> intercept(RSocketGraphQlRequest request, RSocketGraphQlInterceptor.Chain chain) {
+		return intercept(request, chain::next);
+	}
+
+	private <R extends ExecutionGraphQlRequest, T> Mono<T> intercept(R request, Function<R, Mono<T>> next) {
+		return Mono.deferContextual((contextView) -> getAuthentication(contextView)
+				.doOnNext((authentication) -> request.configureExecutionInput((executionInput, builder) ->
+						builder.graphQLContext((contextBuilder) -> contextBuilder.of(Authentication.class, authentication))
+								.build()))
+				.then(Mono.defer(() -> proceed(request, next))));
+	}
+
+	private <R extends ExecutionGraphQlRequest, T> Mono<T> proceed(R request, Function<R, Mono<T>> next) {
+		Mono<T> responseMono = next.apply(request);
+		// Remove the SecurityContext only downstream, after the Authentication is resolved
+		return (this.securityContextPropagation) ?
+				responseMono : responseMono.contextWrite((context) -> context.delete(SECURITY_CONTEXT_KEY));
+	}
+
+	private static Mono<Authentication> getAuthentication(ContextView contextView) {
+		Object securityContext = contextView.getOrDefault(SECURITY_CONTEXT_KEY, null);
+		if (securityContext instanceof SecurityContext context) {
+			Authentication authentication = context.getAuthentication();
+			if (authentication != null) {
+				return Mono.just(authentication);
+			}
+		}
+		return ReactiveSecurityContextHolder.getContext().mapNotNull(SecurityContext::getAuthentication);
+	}
+
+}
@@ -20,6 +20,7 @@ import java.net.InetSocketAddress;
 import java.net.URI;
 import java.security.Principal;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -83,6 +84,8 @@ public class GraphQlWebSocketHandler implements WebSocketHandler, CorsConfigurat
 
 	private final WebSocketCodecDelegate codecDelegate;
 
+	private final List<String> subProtocols;
+
 	private final Duration initTimeoutDuration;
 
 	private final @Nullable Duration keepAliveDuration;
@@ -142,15 +145,29 @@ public class GraphQlWebSocketHandler implements WebSocketHandler, CorsConfigurat
 		this.graphQlHandler = graphQlHandler;
 		this.webSocketInterceptor = this.graphQlHandler.getWebSocketInterceptor();
 		this.codecDelegate = new WebSocketCodecDelegate(codecConfigurer);
+		this.subProtocols = initSubProtocols(this.codecDelegate);
 		this.initTimeoutDuration = connectionInitTimeout;
 		this.keepAliveDuration = keepAliveDuration;
 		this.corsConfiguration = corsConfiguration;
 	}
 
 
+	private static List<String> initSubProtocols(WebSocketCodecDelegate codecDelegate) {
+		List<String> subProtocols = new ArrayList<>(SUB_PROTOCOL_LIST);
+		subProtocols.addAll(codecDelegate.getBinarySubProtocols());
+		return Collections.unmodifiableList(subProtocols);
+	}
+
+
+	/**
+	 * Return the supported subprotocols, which include "graphql-transport-ws+cbor"
+	 * and "graphql-transport-ws+smile" if the {@code CodecConfigurer} has CBOR
+	 * or Smile codecs respectively. Those are the same as "graphql-transport-ws",
+	 * but with messages encoded in binary frames.
+	 */
 	@Override
 	public List<String> getSubProtocols() {
-		return SUB_PROTOCOL_LIST;
+		return this.subProtocols;
 	}
 
 	@Override
@@ -194,7 +211,7 @@ public class GraphQlWebSocketHandler implements WebSocketHandler, CorsConfigurat
 				.subscribe();
 
 		return session.send(session.receive().flatMap((webSocketMessage) -> {
-			GraphQlWebSocketMessage message = this.codecDelegate.decode(webSocketMessage);
+			GraphQlWebSocketMessage message = this.codecDelegate.decode(session, webSocketMessage);
 			if (message == null) {
 				return GraphQlStatus.close(session, GraphQlStatus.INVALID_MESSAGE_STATUS);
 			}
@@ -16,6 +16,8 @@
 
 package org.springframework.graphql.server.webflux;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +35,7 @@ import org.springframework.http.codec.CodecConfigurer;
 import org.springframework.http.codec.DecoderHttpMessageReader;
 import org.springframework.http.codec.EncoderHttpMessageWriter;
 import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
@@ -40,22 +43,39 @@ import org.springframework.web.reactive.socket.WebSocketSession;
 /**
  * Helper class for encoding and decoding GraphQL messages in WebSocket transport.
  *
+ * <p>Messages are encoded as JSON in text frames by default. If CBOR or Smile
+ * codecs are configured, binary variants of the "graphql-transport-ws"
+ * subprotocol are supported as well, and messages for sessions that negotiate
+ * one of those are encoded in binary frames.
+ *
  * @author Rossen Stoyanchev
  */
 final class WebSocketCodecDelegate {
 
 	private static final ResolvableType MESSAGE_TYPE = ResolvableType.forClass(GraphQlWebSocketMessage.class);
 
+	private static final Map<String, MimeType> BINARY_SUB_PROTOCOLS = initBinarySubProtocols();
+
 
 	private final Decoder<?> decoder;
 
 	private final Encoder<?> encoder;
 
+	private final Map<String, BinaryCodec> binaryCodecs;
+
 
 	WebSocketCodecDelegate(CodecConfigurer codecConfigurer) {
 		Assert.notNull(codecConfigurer, "CodecConfigurer is required");
 		this.decoder = findJsonDecoder(codecConfigurer);
 		this.encoder = findJsonEncoder(codecConfigurer);
+		this.binaryCodecs = initBinaryCodecs(codecConfigurer);
+	}
+
+	private static Map<String, MimeType> initBinarySubProtocols() {
+		Map<String, MimeType> map = new LinkedHashMap<>(2);
+		map.put("graphql-transport-ws+cbor", MediaType.APPLICATION_CBOR);
+		map.put("graphql-transport-ws+smile", new MediaType("application", "x-jackson-smile"));
+		return map;
 	}
 
 	private static Decoder<?> findJsonDecoder(CodecConfigurer configurer) {
@@ -74,9 +94,51 @@ final class WebSocketCodecDelegate {
 				.orElseThrow(() -> new IllegalArgumentException("No JSON Encoder"));
 	}
 
+	private static Map<String, BinaryCodec> initBinaryCodecs(CodecConfigurer configurer) {
+		Map<String, BinaryCodec> codecs = new LinkedHashMap<>(BINARY_SUB_PROTOCOLS.size());
+		BINARY_SUB_PROTOCOLS.forEach((subProtocol, mimeType) -> {
+			Decoder<?> decoder = configurer.getReaders().stream()
+					.filter((reader) -> reader instanceof DecoderHttpMessageReader)
+					.filter((reader) -> reader.canRead(MESSAGE_TYPE, mimeType))
+					.map((reader) -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+					.findFirst()
+					.orElse(null);
+			Encoder<?> encoder = configurer.getWriters().stream()
+					.filter((writer) -> writer instanceof EncoderHttpMessageWriter)
+					.filter((writer) -> writer.canWrite(MESSAGE_TYPE, mimeType))
+					.map((writer) -> ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+					.findFirst()
+					.orElse(null);
+			if (decoder != null && encoder != null) {
+				codecs.put(subProtocol, new BinaryCodec(mimeType, encoder, decoder));
+			}
+		});
+		return codecs;
+	}
+
+
+	/**
+	 * Return the binary subprotocols for which codecs are configured.
+	 */
+	List<String> getBinarySubProtocols() {
+		return new ArrayList<>(this.binaryCodecs.keySet());
+	}
+
+	private @Nullable BinaryCodec getBinaryCodec(WebSocketSession session) {
+		String subProtocol = session.getHandshakeInfo().getSubProtocol();
+		return (subProtocol != null) ? this.binaryCodecs.get(subProtocol) : null;
+	}
+
 
 	@SuppressWarnings("unchecked")
 	<T> WebSocketMessage encode(WebSocketSession session, GraphQlWebSocketMessage message) {
+		BinaryCodec codec = getBinaryCodec(session);
+		if (codec != null) {
+			DataBuffer buffer = ((Encoder<T>) codec.encoder()).encodeValue(
+					(T) message, session.bufferFactory(), MESSAGE_TYPE, codec.mimeType(), null);
+
+			return new WebSocketMessage(WebSocketMessage.Type.BINARY, buffer);
+		}
 
 		DataBuffer buffer = ((Encoder<T>) this.encoder).encodeValue(
 				(T) message, session.bufferFactory(), MESSAGE_TYPE, MimeTypeUtils.APPLICATION_JSON, null);
@@ -85,8 +147,12 @@ final class WebSocketCodecDelegate {
 	}
 
 	@SuppressWarnings("ConstantConditions")
-	@Nullable GraphQlWebSocketMessage decode(WebSocketMessage webSocketMessage) {
+	@Nullable GraphQlWebSocketMessage decode(WebSocketSession session, WebSocketMessage webSocketMessage) {
 		DataBuffer buffer = DataBufferUtils.retain(webSocketMessage.getPayload());
+		BinaryCodec codec = (webSocketMessage.getType() == WebSocketMessage.Type.BINARY) ? getBinaryCodec(session) : null;
+		if (codec != null) {
+			return (GraphQlWebSocketMessage) codec.decoder().decode(buffer, MESSAGE_TYPE, codec.mimeType(), null);
+		}
 		return (GraphQlWebSocketMessage) this.decoder.decode(buffer, MESSAGE_TYPE, null, null);
 	}
 
@@ -106,4 +172,11 @@ final class WebSocketCodecDelegate {
 		return encode(session, GraphQlWebSocketMessage.complete(id));
 	}
 
+
+	/**
+	 * Encoder and Decoder for a binary subprotocol.
+	 */
+	private record BinaryCodec(MimeType mimeType, Encoder<?> encoder, Decoder<?> decoder) {
+	}
+
 }
@@ -120,6 +120,10 @@ public class GraphQlHttpHandler extends AbstractGraphQlHttpHandler {
 	}
 
 	protected HttpStatus selectResponseStatus(WebGraphQlResponse response, MediaType responseMediaType) {
+		HttpStatus status = response.getResponseStatus();
+		if (status != null) {
+			return status;
+		}
 		if (!isHttpOkOnValidationErrors()
 				&& !response.getExecutionResult().isDataPresent()
 				&& MediaTypes.APPLICATION_GRAPHQL_RESPONSE.equals(responseMediaType)) {
@@ -17,11 +17,13 @@
 package org.springframework.graphql.client;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
 import mockwebserver3.MockResponse;
 import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -30,6 +32,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import org.springframework.graphql.Book;
 import org.springframework.graphql.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -83,10 +86,132 @@ class HttpGraphQlClientTests {
 		assertThat(favoriteBooks).extracting("id").contains(42L, 53L);
 	}
 
+	@ParameterizedTest
+	@MethodSource("graphQlClientTypes")
+	void queryOverHttpGet(ClientType clientType) throws Exception {
+		prepareResponse(new MockResponse.Builder().code(200)
+				.setHeader("Content-Type", MediaTypes.APPLICATION_GRAPHQL_RESPONSE.toString())
+				.setHeader("Cache-Control", "max-age=60")
+				.body("{\"data\":{\"greeting\":\"hello\"}}")
+				.build());
+
+		GraphQlClient client = createClient(clientType, HttpGetMode.QUERIES);
+		String document = "query Greeting($name: String) { greeting(name: $name) }";
+
+		assertThat(execute(clientType, client, document).isValid()).isTrue();
+		assertThat(execute(clientType, client, document).isValid()).isTrue();
+
+		// Second response from the client cache
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+
+		RecordedRequest request = this.server.takeRequest();
+		assertThat(request.getMethod()).isEqualTo("GET");
+		assertThat(request.getUrl().queryParameter("query")).isEqualTo(document);
+		assertThat(request.getUrl().queryParameter("variables")).isEqualTo("{\"name\":\"Joe\"}");
+	}
+
+	@ParameterizedTest
+	@MethodSource("graphQlClientTypes")
+	void queryOverHttpGetWithETag(ClientType clientType) throws Exception {
+		prepareResponse(new MockResponse.Builder().code(200)
+				.setHeader("Content-Type", MediaTypes.APPLICATION_GRAPHQL_RESPONSE.toString())
+				.setHeader("ETag", "\"v1\"")
+				.body("{\"data\":{\"greeting\":\"hello\"}}")
+				.build());
+		prepareResponse(new MockResponse.Builder().code(304).setHeader("ETag", "\"v1\"").build());
+
+		GraphQlClient client = createClient(clientType, HttpGetMode.QUERIES);
+		String document = "{ greeting }";
+
+		execute(clientType, client, document);
+		ClientGraphQlResponse response = execute(clientType, client, document);
+
+		assertThat(response.field("greeting").getValue()).isEqualTo("hello");
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+		assertThat(this.server.takeRequest().getHeaders().get("If-None-Match")).isNull();
+		assertThat(this.server.takeRequest().getHeaders().get("If-None-Match")).isEqualTo("\"v1\"");
+	}
+
+	@ParameterizedTest
+	@MethodSource("graphQlClientTypes")
+	void queryOverHttpGetWithCredentialsNotCached(ClientType clientType) {
+		for (int i = 0; i < 2; i++) {
+			prepareResponse(new MockResponse.Builder().code(200)
+					.setHeader("Content-Type", MediaTypes.APPLICATION_GRAPHQL_RESPONSE.toString())
+					.setHeader("Cache-Control", "max-age=60")
+					.body("{\"data\":{\"greeting\":\"hello\"}}")
+					.build());
+		}
+
+		GraphQlClient client = switch (clientType) {
+			case ASYNC -> HttpGraphQlClient.builder().url(server.url("/").toString())
+					.header(HttpHeaders.AUTHORIZATION, "Bearer token").httpGetMode(HttpGetMode.QUERIES).build();
+			case SYNC -> HttpSyncGraphQlClient.builder().url(server.url("/").toString())
+					.header(HttpHeaders.AUTHORIZATION, "Bearer token").httpGetMode(HttpGetMode.QUERIES).build();
+		};
+
+		execute(clientType, client, "{ greeting }");
+		execute(clientType, client, "{ greeting }");
+
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+	}
+
+	@ParameterizedTest
+	@MethodSource("graphQlClientTypes")
+	void queryOverHttpGetWithPrivateResponseNotCached(ClientType clientType) {
+		for (int i = 0; i < 2; i++) {
+			prepareResponse(new MockResponse.Builder().code(200)
+					.setHeader("Content-Type", MediaTypes.APPLICATION_GRAPHQL_RESPONSE.toString())
+					.setHeader("Cache-Control", "private, max-age=60")
+					.body("{\"data\":{\"greeting\":\"hello\"}}")
+					.build());
+		}
+
+		GraphQlClient client = createClient(clientType, HttpGetMode.QUERIES);
+		execute(clientType, client, "{ greeting }");
+		execute(clientType, client, "{ greeting }");
+
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+	}
+
+	@ParameterizedTest
+	@MethodSource("graphQlClientTypes")
+	void mutationOverHttpPost(ClientType clientType) throws Exception {
+		prepareOkResponse("{\"data\":{\"greeting\":\"hello\"}}");
+
+		GraphQlClient client = createClient(clientType, HttpGetMode.QUERIES);
+		execute(clientType, client, "mutation { greeting }");
+
+		assertThat(this.server.takeRequest().getMethod()).isEqualTo("POST");
+	}
+
+	@ParameterizedTest
+	@MethodSource("graphQlClientTypes")
+	void fullDocumentOverHttpPostWithPersistedQueriesMode(ClientType clientType) throws Exception {
+		prepareOkResponse("{\"data\":{\"greeting\":\"hello\"}}");
+
+		GraphQlClient client = createClient(clientType, HttpGetMode.PERSISTED_QUERIES);
+		execute(clientType, client, "{ greeting }");
+
+		assertThat(this.server.takeRequest().getMethod()).isEqualTo("POST");
+	}
+
+	private ClientGraphQlResponse execute(ClientType clientType, GraphQlClient client, String document) {
+		GraphQlClient.RequestSpec spec = client.document(document).variable("name", "Joe");
+		return switch (clientType) {
+			case ASYNC -> spec.execute().block(Duration.ofSeconds(5));
+			case SYNC -> spec.executeSync();
+		};
+	}
+
 	private GraphQlClient createClient(ClientType clientType) {
+		return createClient(clientType, HttpGetMode.NONE);
+	}
+
+	private GraphQlClient createClient(ClientType clientType, HttpGetMode httpGetMode) {
 		return switch (clientType) {
-			case ASYNC -> HttpGraphQlClient.builder().url(server.url("/").toString()).build();
-			case SYNC -> HttpSyncGraphQlClient.builder().url(server.url("/").toString()).build();
+			case ASYNC -> HttpGraphQlClient.builder().url(server.url("/").toString()).httpGetMode(httpGetMode).build();
+			case SYNC -> HttpSyncGraphQlClient.builder().url(server.url("/").toString()).httpGetMode(httpGetMode).build();
 		};
 	}
 
@@ -99,6 +224,10 @@ class HttpGraphQlClientTests {
 				.setHeader("Content-Type", contentType.toString())
 				.body(body)
 				.build();
+		prepareResponse(mockResponse);
+	}
+
+	private void prepareResponse(MockResponse mockResponse) {
 		this.server.enqueue(mockResponse);
 	}
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.codec.json.JacksonJsonDecoder;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link NormalizedCacheClientInterceptor}.
+ *
+ * @author Rossen Stoyanchev
+ */
+class NormalizedCacheClientInterceptorTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private static final Map<String, Object> BOOK_DATA =
+			Map.of("book", Map.of("__typename", "Book", "id", "1", "name", "Spring", "author", Map.of("name", "Joe")));
+
+
+	private final NormalizedCacheClientInterceptor interceptor = new NormalizedCacheClientInterceptor();
+
+	private final List<ClientGraphQlRequest> sentRequests = new ArrayList<>();
+
+
+	@Test
+	void queryFromCache() {
+		String document = "{ book(id: 1) { __typename id name author { name } } }";
+		execute(document, BOOK_DATA);
+		ClientGraphQlResponse response = execute(document, BOOK_DATA);
+
+		assertThat(this.sentRequests).hasSize(1);
+		assertThat(response.field("book.name").getValue()).isEqualTo("Spring");
+		assertThat(response.field("book.author.name").getValue()).isEqualTo("Joe");
+	}
+
+	@Test
+	void queryWithSubsetOfFieldsFromCache() {
+		execute("{ book(id: 1) { __typename id name author { name } } }", BOOK_DATA);
+		ClientGraphQlResponse response = execute("{ b: book(id: \"1\") { title: name } }", BOOK_DATA);
+
+		assertThat(this.sentRequests).hasSize(1);
+		assertThat(response.<Map<String, Object>>getData()).isEqualTo(Map.of("b", Map.of("title", "Spring")));
+	}
+
+	@Test
+	void queryWithVariablesFromCache() {
+		execute("{ book(id: 1) { __typename id name } }", BOOK_DATA);
+
+		String document = "query Book($id: ID) { book(id: $id) { name } }";
+		ClientGraphQlRequest request = new DefaultClientGraphQlRequest(
+				document, null, Map.of("id", 1), Collections.emptyMap(), Collections.emptyMap());
+
+		ClientGraphQlResponse response = this.interceptor.intercept(request, chain(BOOK_DATA)).block(TIMEOUT);
+
+		assertThat(this.sentRequests).hasSize(1);
+		assertThat(response.field("book.name").getValue()).isEqualTo("Spring");
+	}
+
+	@Test
+	void queryWithMissingFieldSentToServer() {
+		execute("{ book(id: 1) { __typename id name } }", BOOK_DATA);
+		execute("{ book(id: 1) { name author { name } } }", BOOK_DATA);
+		execute("{ book(id: 2) { name } }", BOOK_DATA);
+
+		assertThat(this.sentRequests).hasSize(3);
+	}
+
+	@Test
+	void queryWithDirectiveSentToServer() {
+		execute("{ book(id: 1) { __typename id name } }", BOOK_DATA);
+		execute("{ book(id: 1) { name @include(if: true) } }", BOOK_DATA);
+
+		assertThat(this.sentRequests).hasSize(2);
+	}
+
+	@Test
+	void queryWithFragmentDirectiveSentToServer() {
+		execute("{ book(id: 1) { __typename id name } }", BOOK_DATA);
+		execute("{ book(id: 1) { ... @include(if: true) { name } } }", BOOK_DATA);
+		execute("{ book(id: 1) { ...bookName @skip(if: false) } } fragment bookName on Book { name }", BOOK_DATA);
+
+		assertThat(this.sentRequests).hasSize(3);
+	}
+
+	@Test
+	void mutationEvictsEntities() {
+		String document = "{ book(id: 1) { __typename id name } }";
+		execute(document, BOOK_DATA);
+		execute("mutation { rename(id: 1) { __typename id } }",
+				Map.of("rename", Map.of("__typename", "Book", "id", "1")));
+		execute(document, BOOK_DATA);
+
+		assertThat(this.sentRequests).hasSize(3);
+	}
+
+	@Test
+	void queryFromCacheSync() {
+		String document = "{ book(id: 1) { __typename id name } }";
+		GraphQlClientInterceptor.Chain chain = chain(BOOK_DATA);
+		SyncGraphQlClientInterceptor.Chain syncChain = (request) -> chain.next(request).block(TIMEOUT);
+
+		this.interceptor.intercept(request(document), syncChain);
+		ClientGraphQlResponse response = this.interceptor.intercept(request(document), syncChain);
+
+		assertThat(this.sentRequests).hasSize(1);
+		assertThat(response.field("book.name").getValue()).isEqualTo("Spring");
+	}
+
+	@Test
+	void expiredEntitiesSentToServer() throws InterruptedException {
+		NormalizedCacheClientInterceptor interceptor = new NormalizedCacheClientInterceptor(100, Duration.ofMillis(1));
+		String document = "{ book(id: 1) { __typename id name } }";
+
+		interceptor.intercept(request(document), chain(BOOK_DATA)).block(TIMEOUT);
+		Thread.sleep(10);
+		interceptor.intercept(request(document), chain(BOOK_DATA)).block(TIMEOUT);
+
+		assertThat(this.sentRequests).hasSize(2);
+	}
+
+	@Test
+	void expiredRootFieldSentToServer() throws InterruptedException {
+		NormalizedCacheClientInterceptor interceptor = new NormalizedCacheClientInterceptor(100, Duration.ofMillis(200));
+		Map<String, Object> greetingData = Map.of("greeting", "Hello");
+
+		interceptor.intercept(request("{ greeting }"), chain(greetingData)).block(TIMEOUT);
+		Thread.sleep(120);
+		interceptor.intercept(request("{ book(id: 1) { __typename id name } }"), chain(BOOK_DATA)).block(TIMEOUT);
+		Thread.sleep(120);
+		interceptor.intercept(request("{ greeting }"), chain(greetingData)).block(TIMEOUT);
+
+		assertThat(this.sentRequests).hasSize(3);
+	}
+
+
+	private ClientGraphQlResponse execute(String document, Map<String, Object> data) {
+		return this.interceptor.intercept(request(document), chain(data)).block(TIMEOUT);
+	}
+
+	private GraphQlClientInterceptor.Chain chain(Map<String, Object> data) {
+		return (request) -> {
+			this.sentRequests.add(request);
+			return Mono.just(new DefaultClientGraphQlResponse(
+					request, new ResponseMapGraphQlResponse(Collections.singletonMap("data", data)),
+					new JacksonJsonEncoder(), new JacksonJsonDecoder()));
+		};
+	}
+
+	private static ClientGraphQlRequest request(String document) {
+		return new DefaultClientGraphQlRequest(
+				document, null, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+	}
+
+}
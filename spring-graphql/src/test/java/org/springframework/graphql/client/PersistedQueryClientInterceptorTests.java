@@ -0,0 +1,165 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import graphql.GraphqlErrorBuilder;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.graphql.ResponseError;
+import org.springframework.http.codec.json.JacksonJsonDecoder;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistedQueryClientInterceptor}.
+ *
+ * @author Rossen Stoyanchev
+ */
+class PersistedQueryClientInterceptorTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	// SHA-256 of "{greeting}"
+	private static final String HASH = "e1ba88623a516a5d3abd5bb12e223fd044b254cc95b92926f661eebd98fe8115";
+
+	private static final ClientGraphQlRequest REQUEST = new DefaultClientGraphQlRequest(
+			"{greeting}", null, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
+
+	private final PersistedQueryClientInterceptor interceptor = new PersistedQueryClientInterceptor();
+
+	private final List<Map<String, Object>> sentRequests = new ArrayList<>();
+
+
+	@Test
+	void sendHashOnly() {
+		ClientGraphQlResponse response = this.interceptor.intercept(REQUEST, chain(dataResponse())).block(TIMEOUT);
+
+		assertThat(response.isValid()).isTrue();
+		assertThat(this.sentRequests).hasSize(1);
+		assertThat(this.sentRequests.get(0)).doesNotContainKey("query");
+		assertThat(persistedQueryExtension(this.sentRequests.get(0)))
+				.containsEntry("version", 1)
+				.containsEntry("sha256Hash", HASH);
+	}
+
+	@Test
+	void hashIsStable() {
+		this.interceptor.intercept(REQUEST, chain(dataResponse())).block(TIMEOUT);
+		this.interceptor.intercept(REQUEST, chain(dataResponse())).block(TIMEOUT);
+
+		assertThat(this.sentRequests).hasSize(2);
+		assertThat(persistedQueryExtension(this.sentRequests.get(0))).containsEntry("sha256Hash", HASH);
+		assertThat(persistedQueryExtension(this.sentRequests.get(1))).containsEntry("sha256Hash", HASH);
+	}
+
+	@Test
+	void retryWithDocumentWhenNotFound() {
+		ClientGraphQlResponse response = this.interceptor
+				.intercept(REQUEST, chain(errorResponse("PersistedQueryNotFound"), dataResponse()))
+				.block(TIMEOUT);
+
+		assertThat(response.isValid()).isTrue();
+		assertThat(this.sentRequests).hasSize(2);
+		assertThat(this.sentRequests.get(0)).doesNotContainKey("query");
+		assertThat(this.sentRequests.get(1)).containsEntry("query", "{greeting}");
+		assertThat(persistedQueryExtension(this.sentRequests.get(1))).containsKey("sha256Hash");
+	}
+
+	@Test
+	void retryWithDocumentWhenNotFoundSync() {
+		GraphQlClientInterceptor.Chain chain = chain(errorResponse("PersistedQueryNotFound"), dataResponse());
+
+		ClientGraphQlResponse response = this.interceptor.intercept(REQUEST,
+				(SyncGraphQlClientInterceptor.Chain) (request) -> chain.next(request).block(TIMEOUT));
+
+		assertThat(response.isValid()).isTrue();
+		assertThat(this.sentRequests).hasSize(2);
+		assertThat(this.sentRequests.get(0)).doesNotContainKey("query");
+		assertThat(this.sentRequests.get(1)).containsEntry("query", "{greeting}");
+	}
+
+	@Test
+	void retryWithDocumentOnSubscriptionError() {
+		List<ResponseError> errors = errorResponse("PersistedQueryNotFound").getErrors();
+		int[] count = new int[1];
+
+		Flux<ClientGraphQlResponse> responses = this.interceptor.interceptSubscription(REQUEST, (request) -> {
+			this.sentRequests.add(request.toMap());
+			return (count[0]++ == 0) ?
+					Flux.error(new SubscriptionErrorException(request, errors)) :
+					Flux.just(dataResponse(), dataResponse());
+		});
+
+		StepVerifier.create(responses).expectNextCount(2).expectComplete().verify(TIMEOUT);
+
+		assertThat(this.sentRequests).hasSize(2);
+		assertThat(this.sentRequests.get(1)).containsEntry("query", "{greeting}");
+	}
+
+	@Test
+	void fallbackToDocumentWhenNotSupported() {
+		this.interceptor.intercept(REQUEST, chain(errorResponse("PersistedQueryNotSupported"), dataResponse()))
+				.block(TIMEOUT);
+
+		this.sentRequests.clear();
+		this.interceptor.intercept(REQUEST, chain(dataResponse())).block(TIMEOUT);
+
+		assertThat(this.sentRequests).hasSize(1);
+		assertThat(this.sentRequests.get(0)).containsEntry("query", "{greeting}").doesNotContainKey("extensions");
+	}
+
+
+	private GraphQlClientInterceptor.Chain chain(ClientGraphQlResponse... responses) {
+		int[] index = new int[1];
+		return (request) -> {
+			this.sentRequests.add(request.toMap());
+			return Mono.just(responses[index[0]++]);
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> persistedQueryExtension(Map<String, Object> requestMap) {
+		Map<String, Object> extensions = (Map<String, Object>) requestMap.get("extensions");
+		return (Map<String, Object>) extensions.get("persistedQuery");
+	}
+
+	private static ClientGraphQlResponse dataResponse() {
+		return createResponse(Collections.singletonMap("data", Collections.singletonMap("greeting", "hello")));
+	}
+
+	private static ClientGraphQlResponse errorResponse(String message) {
+		Map<String, Object> error = GraphqlErrorBuilder.newError().message(message).build().toSpecification();
+		return createResponse(Collections.singletonMap("errors", Collections.singletonList(error)));
+	}
+
+	private static ClientGraphQlResponse createResponse(Map<String, Object> responseMap) {
+		return new DefaultClientGraphQlResponse(REQUEST, new ResponseMapGraphQlResponse(responseMap),
+				new JacksonJsonEncoder(), new JacksonJsonDecoder());
+	}
+
+}
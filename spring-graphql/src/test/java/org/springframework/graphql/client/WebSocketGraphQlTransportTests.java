@@ -363,6 +363,80 @@ class WebSocketGraphQlTransportTests {
 				.verify(TIMEOUT);
 	}
 
+	@Test
+	void subscriptionErrorOnDisconnectWithoutReconnectPolicy() {
+		GraphQlRequest request = this.mockServer.expectOperation("{Sub1}")
+				.andStream(Flux.just(this.response1).concatWith(Flux.never()));
+
+		StepVerifier.create(this.transport.executeSubscription(request))
+				.expectNext(this.response1)
+				.then(() -> this.webSocketClient.getConnection(0).closeServerSession(CloseStatus.GOING_AWAY).block(TIMEOUT))
+				.expectError(WebSocketDisconnectedException.class)
+				.verify(TIMEOUT);
+
+		assertThat(this.webSocketClient.getConnectionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void subscriptionResumedAfterReconnect() {
+		GraphQlRequest request = this.mockServer.expectOperation("{Sub1}")
+				.andStream(Flux.just(this.response1).concatWith(Flux.never()));
+
+		WebSocketGraphQlTransport transport = new WebSocketGraphQlTransport(
+				URI.create("/"), HttpHeaders.EMPTY, this.webSocketClient, ClientCodecConfigurer.create(),
+				new WebSocketGraphQlClientInterceptor() { }, null,
+				WebSocketReconnectPolicy.backoff(Duration.ofMillis(10), Duration.ofMillis(50)).resubscribeRate(10));
+
+		StepVerifier.create(transport.executeSubscription(request))
+				.expectNext(this.response1)
+				.then(() -> this.webSocketClient.getConnection(0).closeServerSession(CloseStatus.GOING_AWAY).block(TIMEOUT))
+				.expectNext(this.response1)
+				.thenCancel()
+				.verify(TIMEOUT);
+
+		assertThat(this.webSocketClient.getConnectionCount()).isEqualTo(2);
+
+		List<GraphQlWebSocketMessage> messages =
+				this.webSocketClient.getConnection(1).getClientMessages().stream()
+						.map(CODEC_DELEGATE::decode).toList().subList(0, 2);
+
+		assertThat(messages).containsExactly(
+				GraphQlWebSocketMessage.connectionInit(null),
+				GraphQlWebSocketMessage.subscribe("1", request));
+	}
+
+	@Test
+	void subscriptionNotResumedAfterStop() {
+		GraphQlRequest request = this.mockServer.expectOperation("{Sub1}")
+				.andStream(Flux.just(this.response1).concatWith(Flux.never()));
+
+		WebSocketGraphQlTransport transport = new WebSocketGraphQlTransport(
+				URI.create("/"), HttpHeaders.EMPTY, this.webSocketClient, ClientCodecConfigurer.create(),
+				new WebSocketGraphQlClientInterceptor() { }, null,
+				WebSocketReconnectPolicy.backoff(Duration.ofMillis(10), Duration.ofMillis(50)));
+
+		StepVerifier.create(transport.executeSubscription(request))
+				.expectNext(this.response1)
+				.then(() -> transport.stop().block(TIMEOUT))
+				.expectError(WebSocketDisconnectedException.class)
+				.verify(TIMEOUT);
+
+		assertThat(this.webSocketClient.getConnectionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void resumeRequestWithCursor() {
+		WebSocketReconnectPolicy policy = WebSocketReconnectPolicy.backoff(Duration.ofMillis(10), Duration.ofMillis(50))
+				.resumeCursor("resumeFrom", (response) -> response.field("key1").getValue());
+
+		GraphQlRequest request = new DefaultGraphQlRequest("{Sub1}");
+		Object cursor = policy.extractCursor(this.response1);
+
+		assertThat(policy.initResumeRequest(request, null)).isSameAs(request);
+		assertThat(policy.initResumeRequest(request, cursor).getExtensions())
+				.isEqualTo(Collections.singletonMap("resumeFrom", "value1"));
+	}
+
 	private static WebSocketGraphQlTransport createTransport(WebSocketClient client) {
 		return new WebSocketGraphQlTransport(
 				URI.create("/"), HttpHeaders.EMPTY, client, ClientCodecConfigurer.create(),
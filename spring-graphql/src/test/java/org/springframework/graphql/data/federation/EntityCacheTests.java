@@ -0,0 +1,117 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.federation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link EntityCache}.
+ *
+ * @author Rossen Stoyanchev
+ */
+class EntityCacheTests {
+
+	@Test
+	void evictLeastRecentlyUsed() {
+		EntityCache cache = new EntityCache(Duration.ofMinutes(1), 2);
+		EntityCache.Key key1 = key("1");
+		EntityCache.Key key2 = key("2");
+		EntityCache.Key key3 = key("3");
+
+		cache.put(key1, "book1");
+		cache.put(key2, "book2");
+		assertThat(cache.get(key1)).isEqualTo("book1");
+
+		cache.put(key3, "book3");
+
+		assertThat(cache.getSize()).isEqualTo(2);
+		assertThat(cache.get(key1)).isEqualTo("book1");
+		assertThat(cache.get(key2)).isNull();
+		assertThat(cache.get(key3)).isEqualTo("book3");
+	}
+
+	@Test
+	void expiredEntry() throws Exception {
+		EntityCache cache = new EntityCache(Duration.ofMillis(1), 2);
+		EntityCache.Key key = key("1");
+		cache.put(key, "book1");
+
+		Thread.sleep(5);
+
+		assertThat(cache.get(key)).isNull();
+		assertThat(cache.getSize()).isZero();
+		assertThat(cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void selectionWithArguments() {
+		List<EntityCache.SelectedFieldKey> small = EntityCache.getSelection(environment(Map.of("size", "SMALL")));
+		List<EntityCache.SelectedFieldKey> large = EntityCache.getSelection(environment(Map.of("size", "LARGE")));
+
+		EntityCache cache = new EntityCache(Duration.ofMinutes(1), 2);
+		cache.put(EntityCache.createKey(Map.of("__typename", "Book", "id", "1"), small), "small cover");
+
+		assertThat(cache.get(EntityCache.createKey(Map.of("__typename", "Book", "id", "1"), large))).isNull();
+		assertThat(cache.get(EntityCache.createKey(Map.of("__typename", "Book", "id", "1"), small)))
+				.isEqualTo("small cover");
+	}
+
+	@Test
+	void meters() {
+		EntityCache cache = new EntityCache(Duration.ofMinutes(1), 2);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		cache.bindTo(registry);
+
+		EntityCache.Key key = key("1");
+		cache.get(key);
+		cache.put(key, "book1");
+		cache.get(key);
+		cache.get(key);
+
+		assertThat(registry.get("graphql.federation.entity.cache.hits").functionCounter().count()).isEqualTo(2);
+		assertThat(registry.get("graphql.federation.entity.cache.misses").functionCounter().count()).isEqualTo(1);
+		assertThat(registry.get("graphql.federation.entity.cache.size").gauge().value()).isEqualTo(1);
+	}
+
+	private static EntityCache.Key key(String id) {
+		return EntityCache.createKey(
+				Map.of("__typename", "Book", "id", id), List.of(new EntityCache.SelectedFieldKey("id", Map.of())));
+	}
+
+	private static DataFetchingEnvironment environment(Map<String, Object> arguments) {
+		SelectedField field = mock();
+		given(field.getFullyQualifiedName()).willReturn("cover");
+		given(field.getArguments()).willReturn(arguments);
+		DataFetchingFieldSelectionSet selectionSet = mock();
+		given(selectionSet.getFields()).willReturn(List.of(field));
+		return DataFetchingEnvironmentImpl.newDataFetchingEnvironment().selectionSet(selectionSet).build();
+	}
+
+}
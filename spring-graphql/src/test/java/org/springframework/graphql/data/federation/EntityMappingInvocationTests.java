@@ -16,6 +16,7 @@
 
 package org.springframework.graphql.data.federation;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -97,6 +98,24 @@ class EntityMappingInvocationTests {
 		assertAuthor(2, "Douglas", "Adams", helper);
 	}
 
+	@Test
+	void fetchEntitiesWithInterleavedTypes() {
+		Map<String, Object> variables =
+				Map.of("representations", List.of(
+						Map.of("__typename", "Book", "id", "3"),
+						Map.of("__typename", "PrintedMedia", "id", "42"),
+						Map.of("__typename", "Book", "id", "-97"),
+						Map.of("__typename", "PrintedMedia", "id", "5")));
+
+		ResponseHelper helper = executeWith(BookController.class, variables);
+
+		assertAuthor(0, "Joseph", "Heller", helper);
+		assertAuthor(1, "Douglas", "Adams", helper);
+		assertAuthor(3, "George", "Orwell", helper);
+		assertThat(helper.error(0).message()).isEqualTo("handled");
+		assertThat(helper.error(0).path()).isEqualTo("/_entities[2]");
+	}
+
 	@Test
 	void fetchEntitiesWithExceptions() {
 		Map<String, Object> variables =
@@ -194,6 +213,31 @@ class EntityMappingInvocationTests {
 		assertAuthor(1, "George", "Orwell", helper);
 	}
 
+	@Test
+	void entityCache() {
+		Map<String, Object> variables =
+				Map.of("representations", List.of(
+						Map.of("__typename", "Book", "id", "3"),
+						Map.of("__typename", "Book", "id", "-97"),
+						Map.of("__typename", "Book", "id", "5")));
+
+		EntityCache cache = new EntityCache(Duration.ofMinutes(1), 10);
+		TestExecutionGraphQlService service = graphQlService(BookController.class, cache);
+		ExecutionGraphQlRequest request = TestExecutionRequest.forDocumentAndVars(document, variables);
+
+		ResponseHelper.forResponse(service.execute(request));
+		assertThat(cache.getMissCount()).isEqualTo(3);
+		assertThat(cache.getSize()).isEqualTo(2);
+
+		ResponseHelper helper = ResponseHelper.forResponse(service.execute(request));
+		assertThat(cache.getHitCount()).isEqualTo(2);
+		assertThat(cache.getMissCount()).isEqualTo(4);
+
+		assertAuthor(0, "Joseph", "Heller", helper);
+		assertError(helper, 0, "BAD_REQUEST", "handled");
+		assertAuthor(2, "George", "Orwell", helper);
+	}
+
 	@Test
 	void unmappedEntity() {
 		assertThatIllegalStateException().isThrownBy(() -> executeWith(EmptyController.class, Map.of()))
@@ -221,6 +265,12 @@ class EntityMappingInvocationTests {
 	}
 
 	private static TestExecutionGraphQlService graphQlService(Class<?> controllerClass) {
+		return graphQlService(controllerClass, null);
+	}
+
+	private static TestExecutionGraphQlService graphQlService(
+			Class<?> controllerClass, @Nullable EntityCache entityCache) {
+
 		BatchLoaderRegistry registry = new DefaultBatchLoaderRegistry();
 
 		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
@@ -234,6 +284,7 @@ class EntityMappingInvocationTests {
 
 		FederationSchemaFactory schemaFactory = new FederationSchemaFactory();
 		schemaFactory.setApplicationContext(context);
+		schemaFactory.setEntityCache(entityCache);
 		schemaFactory.afterPropertiesSet();
 
 		return GraphQlSetup.schemaResource(federationSchema)
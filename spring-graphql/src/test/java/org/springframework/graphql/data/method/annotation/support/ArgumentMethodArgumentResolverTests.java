@@ -20,6 +20,9 @@ package org.springframework.graphql.data.method.annotation.support;
 import java.util.List;
 import java.util.Map;
 
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.MethodParameter;
@@ -129,6 +132,40 @@ class ArgumentMethodArgumentResolverTests extends ArgumentResolverTestSupport {
 				.containsEntry("authorId", 42);
 	}
 
+	@Test
+	void shouldMemoizeImmutableArgumentWithinRequest() throws Exception {
+		GraphQLContext graphQlContext = GraphQLContext.getDefault();
+		MethodParameter param = methodParam(BookController.class, "booksByFilter", BookFilter.class);
+
+		Object result1 = this.resolver.resolveArgument(param, environment(graphQlContext, "{\"filter\": { \"name\": \"test\"} }"));
+		Object result2 = this.resolver.resolveArgument(param, environment(graphQlContext, "{\"filter\": { \"name\": \"test\"} }"));
+		Object result3 = this.resolver.resolveArgument(param, environment(graphQlContext, "{\"filter\": { \"name\": \"other\"} }"));
+
+		assertThat(result1).isEqualTo(new BookFilter("test"));
+		assertThat(result2).isSameAs(result1);
+		assertThat(result3).isEqualTo(new BookFilter("other"));
+
+		Object result4 = this.resolver.resolveArgument(param, environment(GraphQLContext.getDefault(), "{\"filter\": { \"name\": \"test\"} }"));
+		assertThat(result4).isNotSameAs(result1);
+	}
+
+	@Test
+	void shouldNotMemoizeMutableArgument() throws Exception {
+		GraphQLContext graphQlContext = GraphQLContext.getDefault();
+		MethodParameter param = methodParam(BookController.class, "addBook", BookInput.class);
+		String json = "{\"bookInput\": { \"name\": \"test name\", \"authorId\": 42} }";
+
+		Object result1 = this.resolver.resolveArgument(param, environment(graphQlContext, json));
+		Object result2 = this.resolver.resolveArgument(param, environment(graphQlContext, json));
+
+		assertThat(result2).isNotSameAs(result1);
+	}
+
+	private DataFetchingEnvironment environment(GraphQLContext graphQlContext, String argumentsJson) {
+		DataFetchingEnvironment environment = environment(argumentsJson);
+		return DataFetchingEnvironmentImpl.newDataFetchingEnvironment(environment).graphQLContext(graphQlContext).build();
+	}
+
 
 	@SuppressWarnings({"ConstantConditions", "unused"})
 	@Controller
@@ -163,6 +200,11 @@ class ArgumentMethodArgumentResolverTests extends ArgumentResolverTestSupport {
 			return null;
 		}
 
+		@QueryMapping
+		public List<Book> booksByFilter(@Argument BookFilter filter) {
+			return null;
+		}
+
 		@MutationMapping
 		public Book rawArgumentValue(@Argument Map<?, ?> bookInput) {
 			return null;
@@ -195,6 +237,10 @@ class ArgumentMethodArgumentResolverTests extends ArgumentResolverTestSupport {
 	}
 
 
+	record BookFilter(String name) {
+	}
+
+
 	@SuppressWarnings("unused")
 	static class Keyword {
 
@@ -16,6 +16,7 @@
 
 package org.springframework.graphql.data.method.annotation.support;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -259,6 +260,23 @@ class SchemaMappingInvocationTests {
 		assertThat(responseHelper.error(0).message()).isEqualTo("Rejected: Fetch failure");
 	}
 
+	@Test
+	void queryWithTimeout() {
+		String document = "{ " +
+				"  booksById(id: [1]) { id } " +
+				"  bookById(id: 1) { id } " +
+				"}";
+
+		Mono<ExecutionGraphQlResponse> responseMono = graphQlService().execute(document);
+
+		ResponseHelper responseHelper = ResponseHelper.forResponse(responseMono);
+		assertThat(responseHelper.errorCount()).isEqualTo(1);
+		assertThat(responseHelper.error(0).errorType()).isEqualTo("INTERNAL_ERROR");
+		assertThat(responseHelper.error(0).path()).isEqualTo("/booksById");
+		assertThat((Object) responseHelper.rawValue("booksById")).isNull();
+		assertThat(responseHelper.toEntity("bookById", Book.class).getId()).isEqualTo(1L);
+	}
+
 	@Test
 	void handleExceptionFromSubscription() {
 		String document = "subscription { " +
@@ -323,6 +341,11 @@ class SchemaMappingInvocationTests {
 			return BookSource.getBookWithoutAuthor(id);
 		}
 
+		@QueryMapping(timeout = "100ms")
+		public Mono<List<Book>> booksById(@Argument List<Long> id) {
+			return Mono.delay(Duration.ofSeconds(5)).map((aLong) -> id.stream().map(BookSource::getBook).toList());
+		}
+
 		@QueryMapping
 		public List<Book> booksByCriteria(@Argument BookCriteria criteria) {
 			switch (criteria.getAuthor()) {
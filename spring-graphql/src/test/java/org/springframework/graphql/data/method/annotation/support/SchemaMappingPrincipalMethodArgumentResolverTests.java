@@ -21,7 +21,10 @@ import java.security.Principal;
 import java.time.Duration;
 import java.util.function.Function;
 
+import graphql.GraphQLContext;
 import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
 import io.micrometer.context.ContextSnapshot;
 import io.micrometer.context.ContextSnapshotFactory;
 import org.jspecify.annotations.Nullable;
@@ -90,6 +93,17 @@ class SchemaMappingPrincipalMethodArgumentResolverTests {
 		assertThat(this.resolver.supportsParameter(new MethodParameter(method, 2))).isFalse();
 	}
 
+	@Test
+	void resolveFromGraphQlContext() {
+		Method method = ClassUtils.getMethod(getClass(), "handle", (Class<?>[]) null);
+		GraphQLContext graphQlContext = GraphQLContext.newContext().of(Authentication.class, this.authentication).build();
+		DataFetchingEnvironment environment =
+				DataFetchingEnvironmentImpl.newDataFetchingEnvironment().graphQLContext(graphQlContext).build();
+
+		Object result = this.resolver.resolveArgument(new MethodParameter(method, 0), environment);
+		assertThat(result).isSameAs(this.authentication);
+	}
+
 
 	@Nested
 	class Query {
@@ -126,6 +126,18 @@ class ValidationHelperTests {
 		assertThat(validator4).isNull();
 	}
 
+	@Test
+	void shouldSkipMethodsWithoutConstrainedParameters() {
+		BiConsumer<Object, Object[]> validator1 = validateFunction(RequiresValidationBean.class, "processValidUnconstrainedInput");
+		assertThat(validator1).isNull();
+
+		BiConsumer<Object, Object[]> validator2 = validateFunction(RequiresValidationBean.class, "processValidatedUnconstrainedInput");
+		assertThat(validator2).isNull();
+
+		BiConsumer<Object, Object[]> validator3 = validateFunction(ValidatedBean.class, "processValue");
+		assertThat(validator3).isNull();
+	}
+
 	private BiConsumer<Object, Object[]> validateFunction(Class<?> handlerType, String methodName) {
 		Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 		ValidationHelper helper = ValidationHelper.create(validator);
@@ -242,10 +254,33 @@ class ValidationHelperTests {
 
 		public void processValue(int i) {
 		}
+
+		public void processValidUnconstrainedInput(@Valid UnconstrainedInput input) {
+		}
+
+		public void processValidatedUnconstrainedInput(@Validated UnconstrainedInput input) {
+		}
 	}
 
 
+	@Validated
+	@SuppressWarnings("unused")
+	private static class ValidatedBean {
+
+		public void processValue(int i) {
+		}
+	}
+
+
+	@SuppressWarnings("unused")
 	private static class MyInput {
+
+		@NotNull
+		private String name;
+	}
+
+
+	private static class UnconstrainedInput {
 	}
 
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.graphql.data.pagination;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -104,6 +105,55 @@ class ConnectionFieldTypeVisitorTests {
 		testConsumer.accept(env -> DataFetcherResult.newResult().data(BookSource.books()).build());
 	}
 
+	@Test
+	void cursorsCreatedOnlyWhenSelected() {
+		ListConnectionAdapter adapter = new ListConnectionAdapter();
+
+		Mono<ExecutionGraphQlResponse> response = GraphQlSetup.schemaResource(BookSource.paginationSchema)
+				.dataFetcher("Query", "books", env -> BookSource.books())
+				.connectionSupport(adapter)
+				.toGraphQlService()
+				.execute("{ books { edges { node { id } } pageInfo { startCursor endCursor } } }");
+
+		ResponseHelper.forResponse(response).assertData(
+				"{\"books\":{" +
+						"\"edges\":[" +
+						"{\"node\":{\"id\":\"1\"}},{\"node\":{\"id\":\"2\"}},{\"node\":{\"id\":\"3\"}}," +
+						"{\"node\":{\"id\":\"4\"}},{\"node\":{\"id\":\"5\"}},{\"node\":{\"id\":\"53\"}}," +
+						"{\"node\":{\"id\":\"42\"}}" +
+						"]," +
+						"\"pageInfo\":{\"startCursor\":\"O_0\",\"endCursor\":\"O_6\"}" +
+						"}}"
+		);
+
+		assertThat(adapter.cursorIndexes).containsExactly(0, 6);
+	}
+
+	@Test
+	void pageInfoFlagsCheckedOnlyWhenSelected() {
+		ListConnectionAdapter adapter = new ListConnectionAdapter();
+		adapter.setInitialOffset(30);
+
+		Mono<ExecutionGraphQlResponse> response = GraphQlSetup.schemaResource(BookSource.paginationSchema)
+				.dataFetcher("Query", "books", env -> BookSource.books())
+				.connectionSupport(adapter)
+				.toGraphQlService()
+				.execute("{ books { edges { node { id } } pageInfo { hasPreviousPage } } }");
+
+		ResponseHelper.forResponse(response).assertData(
+				"{\"books\":{" +
+						"\"edges\":[" +
+						"{\"node\":{\"id\":\"1\"}},{\"node\":{\"id\":\"2\"}},{\"node\":{\"id\":\"3\"}}," +
+						"{\"node\":{\"id\":\"4\"}},{\"node\":{\"id\":\"5\"}},{\"node\":{\"id\":\"53\"}}," +
+						"{\"node\":{\"id\":\"42\"}}" +
+						"]," +
+						"\"pageInfo\":{\"hasPreviousPage\":true}" +
+						"}}"
+		);
+
+		assertThat(adapter.hasNextChecked).isFalse();
+	}
+
 	@Test // gh-709
 	void customConnectionTypeIsPassedThrough() {
 
@@ -355,6 +405,10 @@ class ConnectionFieldTypeVisitorTests {
 
 		private boolean hasNext = false;
 
+		private final List<Integer> cursorIndexes = new ArrayList<>();
+
+		private boolean hasNextChecked;
+
 		public void setInitialOffset(int initialOffset) {
 			this.initialOffset = initialOffset;
 		}
@@ -381,11 +435,13 @@ class ConnectionFieldTypeVisitorTests {
 
 		@Override
 		public boolean hasNext(Object container) {
+			this.hasNextChecked = true;
 			return this.hasNext;
 		}
 
 		@Override
 		public String cursorAt(Object container, int index) {
+			this.cursorIndexes.add(index);
 			return "O_" + (this.initialOffset + index);
 		}
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.data.query;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link BinaryKeysetCursorStrategy}.
+ *
+ * @author Rossen Stoyanchev
+ */
+class BinaryKeysetCursorStrategyTests {
+
+	private final BinaryKeysetCursorStrategy cursorStrategy = new BinaryKeysetCursorStrategy();
+
+
+	@Test
+	void toAndFromCursor() {
+		Map<String, Object> keys = Map.of("id", 103);
+		String cursor = "AQECaWQCzgE";
+
+		assertThat(this.cursorStrategy.toCursor(keys)).isEqualTo(cursor);
+		assertThat(this.cursorStrategy.fromCursor(cursor)).isEqualTo(keys);
+	}
+
+	@Test
+	void toAndFromCursorWithSupportedTypes() {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("lastName", "Heller");
+		keys.put("intValue", -3);
+		keys.put("longValue", Long.MAX_VALUE);
+		keys.put("uuid", UUID.randomUUID());
+		keys.put("instant", Instant.parse("2023-05-05T10:15:30.123456789Z"));
+		keys.put("bigDecimal", new BigDecimal("-10000000000000000000.002"));
+
+		String cursor = this.cursorStrategy.toCursor(keys);
+
+		assertThat(cursor).matches("[A-Za-z0-9_-]+");
+		assertThat(this.cursorStrategy.fromCursor(cursor)).containsExactlyEntriesOf(keys);
+	}
+
+	@Test
+	void withScrollPositionCursorStrategy() {
+		ScrollPositionCursorStrategy strategy = new ScrollPositionCursorStrategy(this.cursorStrategy);
+		KeysetScrollPosition position = ScrollPosition.forward(Map.of("id", 103L));
+
+		String cursor = strategy.toCursor(position);
+
+		assertThat(cursor).startsWith("K_");
+		assertThat(strategy.fromCursor(cursor)).isEqualTo(position);
+	}
+
+	@Test
+	void unsupportedType() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> this.cursorStrategy.toCursor(Map.of("date", new Date())));
+	}
+
+	@Test
+	void invalidCursor() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.cursorStrategy.fromCursor("AgECaWQCzgE"));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.cursorStrategy.fromCursor("AQECaWQC"));
+	}
+
+}
@@ -17,10 +17,18 @@
 package org.springframework.graphql.data.query;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingFieldSelectionSet;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -31,7 +39,10 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.graphql.BookSource;
+import org.springframework.graphql.ExecutionGraphQlRequest;
+import org.springframework.graphql.ExecutionGraphQlService;
 import org.springframework.graphql.GraphQlSetup;
+import org.springframework.graphql.TestExecutionRequest;
 import org.springframework.graphql.execution.ConnectionTypeDefinitionConfigurer;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -67,6 +78,67 @@ class PropertySelectionTests {
 		assertThat(list).containsExactly("id", "name");
 	}
 
+	@ParameterizedTest
+	@MethodSource("schemaResource")
+	void propertyPathsFromCache(Resource schemaResource) {
+		TypeInformation<Book> typeInfo = TypeInformation.of(Book.class);
+		PropertySelection.Cache cache = new PropertySelection.Cache(typeInfo);
+		List<List<String>> paths = new ArrayList<>();
+
+		ExecutionGraphQlService service = graphQlService(schemaResource, (environment) -> {
+			paths.add(cache.getPropertyPaths(environment));
+			return null;
+		});
+
+		ExecutionGraphQlRequest request = TestExecutionRequest.forDocument(BookSource.booksConnectionQuery(""));
+		service.execute(request).block();
+		service.execute(request).block();
+
+		assertThat(paths).hasSize(2);
+		assertThat(paths.get(0)).containsExactly("id", "name");
+		assertThat(paths.get(1)).isSameAs(paths.get(0));
+	}
+
+	@ParameterizedTest
+	@MethodSource("schemaResource")
+	void propertyPathsNotCachedWithDirectives(Resource schemaResource) {
+		TypeInformation<Book> typeInfo = TypeInformation.of(Book.class);
+		PropertySelection.Cache cache = new PropertySelection.Cache(typeInfo);
+		List<List<String>> paths = new ArrayList<>();
+
+		ExecutionGraphQlService service = graphQlService(schemaResource, (environment) -> {
+			paths.add(cache.getPropertyPaths(environment));
+			return null;
+		});
+
+		String document = "query Books($name: Boolean!) { books { edges { node { id name @include(if: $name) } } } }";
+		service.execute(TestExecutionRequest.forDocumentAndVars(document, Map.of("name", true))).block();
+		service.execute(TestExecutionRequest.forDocumentAndVars(document, Map.of("name", false))).block();
+
+		assertThat(paths).hasSize(2);
+		assertThat(paths.get(0)).containsExactly("id", "name");
+		assertThat(paths.get(1)).containsExactly("id");
+	}
+
+	private static ExecutionGraphQlService graphQlService(Resource schemaResource, DataFetcher<?> dataFetcher) {
+		Map<String, PreparsedDocumentEntry> documents = new ConcurrentHashMap<>();
+		PreparsedDocumentProvider documentProvider = new PreparsedDocumentProvider() {
+
+			@Override
+			public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+					ExecutionInput input, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+
+				return CompletableFuture.completedFuture(
+						documents.computeIfAbsent(input.getQuery(), (query) -> parseAndValidate.apply(input)));
+			}
+		};
+		return GraphQlSetup.schemaResource(schemaResource)
+				.typeDefinitionConfigurer(new ConnectionTypeDefinitionConfigurer())
+				.configureGraphQl((builder) -> builder.preparsedDocumentProvider(documentProvider))
+				.dataFetcher("Query", "books", dataFetcher)
+				.toGraphQlService();
+	}
+
 	static Stream<Arguments> schemaResource() {
 		return Stream.of(
 				Arguments.of(BookSource.paginationSchema),
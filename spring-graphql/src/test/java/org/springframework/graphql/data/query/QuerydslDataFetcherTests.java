@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -52,6 +53,8 @@ import org.springframework.graphql.ResponseHelper;
 import org.springframework.graphql.data.GraphQlRepository;
 import org.springframework.graphql.data.query.QuerydslDataFetcher.Builder;
 import org.springframework.graphql.data.query.QuerydslDataFetcher.QuerydslBuilderCustomizer;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 import org.springframework.graphql.server.WebGraphQlHandler;
 import org.springframework.graphql.server.WebGraphQlRequest;
@@ -63,6 +66,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -365,6 +370,66 @@ class QuerydslDataFetcherTests {
 		assertThat(books.get(0).getName()).isEqualTo(book1.getName());
 	}
 
+	@Test
+	void shouldBatchLoadNestedItems() {
+		MockRepository mockRepository = mock(MockRepository.class);
+		Book book1 = new Book(1L, "Hitchhiker's Guide to the Galaxy", null);
+		Book book2 = new Book(2L, "Breaking Bad", null);
+		given(mockRepository.findAll(any(Predicate.class))).willReturn(Arrays.asList(book1, book2));
+
+		BatchLoaderRegistry registry = new DefaultBatchLoaderRegistry();
+		RuntimeWiringConfigurer configurer = QuerydslDataFetcher.autoRegistrationConfigurer(
+				Collections.singletonList(mockRepository), Collections.emptyList(), null, null, registry);
+
+		List<Map<String, Object>> reviews =
+				Arrays.asList(Map.of("bookId", 1L), Map.of("bookId", 2L), Map.of("bookId", 1L));
+
+		Mono<ExecutionGraphQlResponse> responseMono = GraphQlSetup.schemaContent("""
+						type Query { reviews: [Review] }
+						type Review { bookId: ID, book: Book }
+						type Book { id: ID, name: String }
+						""")
+				.queryFetcher("reviews", (env) -> reviews)
+				.runtimeWiring(configurer)
+				.dataLoaders(registry)
+				.toGraphQlService()
+				.execute("{ reviews { book { name } } }");
+
+		List<String> names = ResponseHelper.forResponse(responseMono).toList("reviews", Map.class).stream()
+				.map((review) -> (String) ((Map<?, ?>) review.get("book")).get("name"))
+				.collect(Collectors.toList());
+
+		assertThat(names).containsExactly(book1.getName(), book2.getName(), book1.getName());
+		verify(mockRepository, times(1)).findAll(any(Predicate.class));
+	}
+
+	@Test
+	void shouldNotBatchLoadNestedItemsWithoutIdField() {
+		MockRepository mockRepository = mock(MockRepository.class);
+
+		BatchLoaderRegistry registry = new DefaultBatchLoaderRegistry();
+		RuntimeWiringConfigurer configurer = QuerydslDataFetcher.autoRegistrationConfigurer(
+				Collections.singletonList(mockRepository), Collections.emptyList(), null, null, registry);
+
+		List<Map<String, Object>> reviews = List.of(Map.of("book", Map.of("name", "Breaking Bad")));
+
+		Mono<ExecutionGraphQlResponse> responseMono = GraphQlSetup.schemaContent("""
+						type Query { reviews: [Review] }
+						type Review { book: Book }
+						type Book { id: ID, name: String }
+						""")
+				.queryFetcher("reviews", (env) -> reviews)
+				.runtimeWiring(configurer)
+				.dataLoaders(registry)
+				.toGraphQlService()
+				.execute("{ reviews { book { name } } }");
+
+		String name = ResponseHelper.forResponse(responseMono).toEntity("reviews[0].book.name", String.class);
+
+		assertThat(name).isEqualTo("Breaking Bad");
+		verify(mockRepository, never()).findAll(any(Predicate.class));
+	}
+
 	private static GraphQlSetup graphQlSetup(String fieldName, DataFetcher<?> fetcher) {
 		return GraphQlSetup.schemaResource(BookSource.schema).queryFetcher(fieldName, fetcher);
 	}
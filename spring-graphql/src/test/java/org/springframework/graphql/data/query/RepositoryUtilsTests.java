@@ -17,18 +17,30 @@
 package org.springframework.graphql.data.query;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingEnvironmentImpl;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.data.repository.query.FluentQuery.ReactiveFluentQuery;
 import org.springframework.graphql.data.pagination.CursorStrategy;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 /**
  * Unit tests for {@link RepositoryUtils}.
@@ -103,12 +115,149 @@ class RepositoryUtilsTests {
 		assertSubrange(true, null, null, range);
 	}
 
+	@Test
+	void streamWindow() {
+		FetchableFluentQuery<String> query = mock();
+		given(query.limit(anyInt())).willReturn(query);
+		given(query.stream()).willReturn(Stream.of("a", "b", "c", "d"));
+
+		Window<String> window = RepositoryUtils.streamWindow(query, ScrollPosition.offset(), 3, true);
+
+		verify(query).limit(4);
+		assertThat(window.getContent()).containsExactly("a", "b", "c");
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.positionAt(2)).isEqualTo(ScrollPosition.offset(2));
+	}
+
+	@Test
+	void streamWindowLastPage() {
+		FetchableFluentQuery<String> query = mock();
+		given(query.limit(anyInt())).willReturn(query);
+		given(query.stream()).willReturn(Stream.of("a", "b"));
+
+		Window<String> window = RepositoryUtils.streamWindow(query, ScrollPosition.offset(), 3, true);
+
+		assertThat(window.getContent()).containsExactly("a", "b");
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	void streamWindowAfterOffset() {
+		FetchableFluentQuery<String> query = mock();
+		given(query.limit(anyInt())).willReturn(query);
+		OffsetScrollPosition position = ScrollPosition.offset(1);
+		given(query.scroll(position)).willReturn(window(2, List.of("c", "d", "e"), true));
+
+		Window<String> window = RepositoryUtils.streamWindow(query, position, 3, true);
+
+		verify(query).limit(3);
+		assertThat(window.getContent()).containsExactly("c", "d", "e");
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.positionAt(0)).isEqualTo(ScrollPosition.offset(2));
+	}
+
+	@Test
+	void streamWindowAfterOffsetInPages() {
+		List<String> firstPage = Stream.generate(() -> "a").limit(1000).toList();
+		FetchableFluentQuery<String> query = mock();
+		given(query.limit(anyInt())).willReturn(query);
+		OffsetScrollPosition position = ScrollPosition.offset(1);
+		given(query.scroll(position)).willReturn(window(2, firstPage, true));
+		given(query.scroll(ScrollPosition.offset(1001))).willReturn(window(1002, List.of("b", "c"), false));
+
+		Window<String> window = RepositoryUtils.streamWindow(query, position, 1500, true);
+
+		verify(query).limit(1000);
+		verify(query).limit(500);
+		assertThat(window.size()).isEqualTo(1002);
+		assertThat(window.getContent().get(1001)).isEqualTo("c");
+		assertThat(window.positionAt(1001)).isEqualTo(ScrollPosition.offset(1003));
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	void streamWindowWithoutLookahead() {
+		FetchableFluentQuery<String> query = mock();
+		given(query.limit(anyInt())).willReturn(query);
+		given(query.stream()).willReturn(Stream.of("a", "b", "c"));
+
+		Window<String> window = RepositoryUtils.streamWindow(query, ScrollPosition.offset(), 3, false);
+
+		verify(query).limit(3);
+		assertThat(window.getContent()).containsExactly("a", "b", "c");
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	void streamWindowReactive() {
+		ReactiveFluentQuery<String> query = mock();
+		given(query.limit(anyInt())).willReturn(query);
+		given(query.all()).willReturn(Flux.just("a", "b", "c", "d"));
+
+		Window<String> window = RepositoryUtils.streamWindow(query, ScrollPosition.offset(), 3, true).block();
+
+		verify(query).limit(4);
+		assertThat(window).isNotNull();
+		assertThat(window.getContent()).containsExactly("a", "b", "c");
+		assertThat(window.hasNext()).isTrue();
+	}
+
+	@Test
+	void streamWindowReactiveAfterOffset() {
+		ReactiveFluentQuery<String> query = mock();
+		given(query.limit(anyInt())).willReturn(query);
+		OffsetScrollPosition position = ScrollPosition.offset(1);
+		given(query.scroll(position)).willReturn(Mono.just(window(2, List.of("c", "d"), false)));
+
+		Window<String> window = RepositoryUtils.streamWindow(query, position, 3, true).block();
+
+		assertThat(window).isNotNull();
+		assertThat(window.getContent()).containsExactly("c", "d");
+		assertThat(window.positionAt(0)).isEqualTo(ScrollPosition.offset(2));
+		assertThat(window.hasNext()).isFalse();
+	}
+
+	@Test
+	void nextPageRequested() {
+		DataFetchingFieldSelectionSet selectionSet = mock();
+		given(selectionSet.contains("pageInfo")).willReturn(true);
+		given(selectionSet.contains("pageInfo/hasNextPage")).willReturn(true);
+
+		assertThat(RepositoryUtils.isNextPageRequested(environment(selectionSet))).isTrue();
+	}
+
+	@Test
+	void nextPageNotRequestedWithoutHasNextPage() {
+		DataFetchingFieldSelectionSet selectionSet = mock();
+		given(selectionSet.contains("pageInfo")).willReturn(true);
+
+		assertThat(RepositoryUtils.isNextPageRequested(environment(selectionSet))).isFalse();
+	}
+
+	@Test
+	void nextPageNotRequestedWithoutPageInfo() {
+		DataFetchingFieldSelectionSet selectionSet = mock();
+		given(selectionSet.contains("edges")).willReturn(true);
+
+		assertThat(RepositoryUtils.isNextPageRequested(environment(selectionSet))).isFalse();
+	}
+
+	private static Window<String> window(long offset, List<String> content, boolean hasNext) {
+		return Window.from(content, (index) -> ScrollPosition.offset(offset + index), hasNext);
+	}
+
 	private static DataFetchingEnvironment environment(Map<String, Object> arguments) {
 		return DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
 				.arguments(arguments)
 				.build();
 	}
 
+	private static DataFetchingEnvironment environment(DataFetchingFieldSelectionSet selectionSet) {
+		return DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+				.selectionSet(selectionSet)
+				.build();
+	}
+
 	private static void assertSubrange(
 			boolean forward, @Nullable Integer count, @Nullable ScrollPosition pos, ScrollSubrange subrange) {
 
@@ -47,6 +47,8 @@ import org.springframework.graphql.data.query.QueryByExampleDataFetcher;
 import org.springframework.graphql.data.query.ScrollPositionCursorStrategy;
 import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.graphql.data.query.WindowConnectionAdapter;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
 import org.springframework.graphql.execution.RuntimeWiringConfigurer;
 import org.springframework.graphql.server.WebGraphQlHandler;
 import org.springframework.graphql.server.WebGraphQlRequest;
@@ -64,6 +66,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Integration tests for {@link QueryByExampleDataFetcher} with JPA repository.
@@ -238,6 +242,39 @@ class QueryByExampleDataFetcherJpaTests {
 		assertThat(books.get(0).getName()).isEqualTo(book1.getName());
 	}
 
+	@Test
+	void shouldBatchLoadNestedItems() {
+		BookJpaRepository mockRepository = mock(BookJpaRepository.class);
+		Book book1 = new Book(42L, "Hitchhiker's Guide to the Galaxy", null);
+		Book book2 = new Book(53L, "Breaking Bad", null);
+		given(mockRepository.findAllById(any())).willReturn(Arrays.asList(book1, book2));
+
+		BatchLoaderRegistry registry = new DefaultBatchLoaderRegistry();
+		RuntimeWiringConfigurer configurer = QueryByExampleDataFetcher.autoRegistrationConfigurer(
+				Collections.singletonList(mockRepository), Collections.emptyList(), null, null, registry);
+
+		List<Map<String, Object>> reviews =
+				Arrays.asList(Map.of("bookId", 42L), Map.of("bookId", 53L), Map.of("bookId", 42L));
+
+		Mono<ExecutionGraphQlResponse> responseMono = GraphQlSetup.schemaContent("""
+						type Query { reviews: [Review] }
+						type Review { bookId: ID, book: Book }
+						type Book { id: ID, name: String }
+						""")
+				.queryFetcher("reviews", (env) -> reviews)
+				.runtimeWiring(configurer)
+				.dataLoaders(registry)
+				.toGraphQlService()
+				.execute("{ reviews { book { name } } }");
+
+		List<String> names = ResponseHelper.forResponse(responseMono).toList("reviews", Map.class).stream()
+				.map((review) -> (String) ((Map<?, ?>) review.get("book")).get("name"))
+				.collect(Collectors.toList());
+
+		assertThat(names).containsExactly(book1.getName(), book2.getName(), book1.getName());
+		verify(mockRepository, times(1)).findAllById(any());
+	}
+
 	private static GraphQlSetup graphQlSetup(String fieldName, DataFetcher<?> fetcher) {
 		return GraphQlSetup.schemaResource(BookSource.schema).queryFetcher(fieldName, fetcher);
 	}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.graphql.GraphQlSetup;
+import org.springframework.graphql.ResponseHelper;
+import org.springframework.graphql.execution.CircuitBreakerFieldTypeVisitor.State;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link CircuitBreakerFieldTypeVisitor}.
+ *
+ * @author Rossen Stoyanchev
+ */
+class CircuitBreakerFieldTypeVisitorTests {
+
+	private static final FieldCoordinates GREETING = FieldCoordinates.coordinates("Query", "greeting");
+
+
+	private final AtomicBoolean failing = new AtomicBoolean(true);
+
+	private final AtomicInteger invocationCount = new AtomicInteger();
+
+	private final DataFetcher<String> dataFetcher = (env) -> {
+		this.invocationCount.incrementAndGet();
+		if (this.failing.get()) {
+			throw new IllegalStateException("Backend unavailable");
+		}
+		return "hello";
+	};
+
+
+	@Test
+	void openAfterFailuresAndCloseAfterTrial() {
+		CircuitBreakerFieldTypeVisitor visitor = CircuitBreakerFieldTypeVisitor.builder()
+				.minimumNumberOfCalls(2)
+				.openStateDuration(Duration.ofMillis(50))
+				.build();
+
+		GraphQL graphQl = initGraphQl(visitor);
+
+		executeGreeting(graphQl);
+		executeGreeting(graphQl);
+		assertThat(visitor.getStates()).containsEntry(GREETING, State.OPEN);
+
+		ResponseHelper response = executeGreeting(graphQl);
+		assertThat(this.invocationCount.get()).isEqualTo(2);
+		assertThat(response.errorCount()).isEqualTo(1);
+		assertThat(response.error(0).message()).isEqualTo("Circuit breaker open for Query.greeting");
+		assertThat(response.error(0).errorType()).isEqualTo("INTERNAL_ERROR");
+
+		this.failing.set(false);
+		await().atMost(Duration.ofSeconds(1))
+				.until(() -> "hello".equals(executeGreeting(graphQl).rawValue("greeting")));
+
+		assertThat(visitor.getStates()).containsEntry(GREETING, State.CLOSED);
+	}
+
+	@Test
+	void stateGauge() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		CircuitBreakerFieldTypeVisitor visitor = CircuitBreakerFieldTypeVisitor.builder()
+				.minimumNumberOfCalls(1)
+				.meterRegistry(meterRegistry)
+				.build();
+
+		GraphQL graphQl = initGraphQl(visitor);
+		Gauge gauge = meterRegistry.get("graphql.field.circuitbreaker.state")
+				.tag("graphql.field.coordinate", "Query.greeting").gauge();
+		assertThat(gauge.value()).isEqualTo(0);
+
+		executeGreeting(graphQl);
+		assertThat(gauge.value()).isEqualTo(1);
+	}
+
+	@Test
+	void fallback() {
+		CircuitBreakerFieldTypeVisitor visitor = CircuitBreakerFieldTypeVisitor.builder()
+				.minimumNumberOfCalls(1)
+				.fallback((env) -> "fallback")
+				.build();
+
+		GraphQL graphQl = initGraphQl(visitor);
+
+		executeGreeting(graphQl);
+		String greeting = executeGreeting(graphQl).rawValue("greeting");
+
+		assertThat(greeting).isEqualTo("fallback");
+		assertThat(this.invocationCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	void fieldFilter() {
+		CircuitBreakerFieldTypeVisitor visitor = CircuitBreakerFieldTypeVisitor.builder()
+				.fieldFilter((coordinates) -> !coordinates.equals(GREETING))
+				.build();
+
+		initGraphQl(visitor);
+
+		assertThat(visitor.getStates()).isEmpty();
+	}
+
+	@Test
+	void contextFreeDataFetcherIsNotDecorated() {
+		CircuitBreakerFieldTypeVisitor visitor = CircuitBreakerFieldTypeVisitor.builder().build();
+
+		GraphQL graphQl = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (ContextFreeDataFetcher<?>) (env) -> "hello")
+				.typeVisitor(visitor)
+				.toGraphQl();
+
+		GraphQLSchema schema = graphQl.getGraphQLSchema();
+		DataFetcher<?> dataFetcher = schema.getCodeRegistry().getDataFetcher(GREETING, schema.getFieldDefinition(GREETING));
+
+		assertThat(dataFetcher).isInstanceOf(ContextFreeDataFetcher.class);
+		assertThat(visitor.getStates()).containsEntry(GREETING, State.CLOSED);
+		assertThat(executeGreeting(graphQl).<String>rawValue("greeting")).isEqualTo("hello");
+	}
+
+	@Test
+	void contextFreeDataFetcherWithFallbackIsDecorated() {
+		CircuitBreakerFieldTypeVisitor visitor = CircuitBreakerFieldTypeVisitor.builder()
+				.fallback((env) -> "fallback")
+				.build();
+
+		GraphQL graphQl = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (ContextFreeDataFetcher<?>) (env) -> "hello")
+				.typeVisitor(visitor)
+				.toGraphQl();
+
+		GraphQLSchema schema = graphQl.getGraphQLSchema();
+		DataFetcher<?> dataFetcher = schema.getCodeRegistry().getDataFetcher(GREETING, schema.getFieldDefinition(GREETING));
+
+		assertThat(dataFetcher).isNotInstanceOf(ContextFreeDataFetcher.class);
+	}
+
+	private GraphQL initGraphQl(CircuitBreakerFieldTypeVisitor visitor) {
+		return GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", this.dataFetcher)
+				.typeVisitor(visitor)
+				.toGraphQl();
+	}
+
+	private ResponseHelper executeGreeting(GraphQL graphQl) {
+		return ResponseHelper.forResult(graphQl.execute("{ greeting }"));
+	}
+
+}
@@ -27,6 +27,7 @@ import java.util.function.BiConsumer;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.GraphQLContext;
 import graphql.GraphQLError;
 import graphql.GraphqlErrorBuilder;
 import graphql.TrivialDataFetcher;
@@ -53,6 +54,10 @@ import org.springframework.graphql.TestThreadLocalAccessor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link ContextDataFetcherDecorator}.
@@ -229,6 +234,43 @@ class ContextDataFetcherDecoratorTests {
 		}
 	}
 
+	@Test
+	void contextSnapshotCapturedPerDataFetcher() {
+		ContextSnapshotFactory snapshotFactory = spy(ContextSnapshotFactory.builder().build());
+
+		GraphQL graphQl = GraphQlSetup.schemaContent(SCHEMA_CONTENT)
+				.queryFetcher("greeting", (env) -> "Hello")
+				.queryFetcher("greetings", (env) -> List.of("Hi", "Bonjour"))
+				.toGraphQl();
+
+		ExecutionInput input = ExecutionInput.newExecutionInput().query("{ greeting greetings }").build();
+		ContextPropagationHelper.saveInstance(snapshotFactory, input.getGraphQLContext());
+
+		ExecutionResult result = graphQl.execute(input);
+		assertThat(ResponseHelper.forResult(result).toEntity("greeting", String.class)).isEqualTo("Hello");
+
+		verify(snapshotFactory, times(2)).captureFrom(any(GraphQLContext.class));
+	}
+
+	@Test
+	void contextSnapshotCapturedOncePerRequest() {
+		ContextSnapshotFactory snapshotFactory = spy(ContextSnapshotFactory.builder().build());
+
+		GraphQL graphQl = GraphQlSetup.schemaContent(SCHEMA_CONTENT)
+				.queryFetcher("greeting", (env) -> "Hello")
+				.queryFetcher("greetings", (env) -> List.of("Hi", "Bonjour"))
+				.reuseContextSnapshot(true)
+				.toGraphQl();
+
+		ExecutionInput input = ExecutionInput.newExecutionInput().query("{ greeting greetings }").build();
+		ContextPropagationHelper.saveInstance(snapshotFactory, input.getGraphQLContext());
+
+		ExecutionResult result = graphQl.execute(input);
+		assertThat(ResponseHelper.forResult(result).toEntity("greeting", String.class)).isEqualTo("Hello");
+
+		verify(snapshotFactory, times(1)).captureFrom(any(GraphQLContext.class));
+	}
+
 	@Test // gh-440
 	void dataFetcherDecoratedWithDataFetcherFactories() {
 
@@ -290,6 +332,20 @@ class ContextDataFetcherDecoratorTests {
 		assertThat(dataFetcher).isInstanceOf(TrivialDataFetcher.class);
 	}
 
+	@Test
+	void contextFreeDataFetcherIsNotDecorated() {
+		GraphQL graphQl = GraphQlSetup.schemaContent(SCHEMA_CONTENT)
+				.queryFetcher("greeting", (ContextFreeDataFetcher<?>) (env) -> "hello")
+				.toGraphQl();
+
+		GraphQLSchema schema = graphQl.getGraphQLSchema();
+		FieldCoordinates coordinates = FieldCoordinates.coordinates("Query", "greeting");
+		GraphQLFieldDefinition fieldDefinition = schema.getFieldDefinition(coordinates);
+		DataFetcher<?> dataFetcher = schema.getCodeRegistry().getDataFetcher(coordinates, fieldDefinition);
+
+		assertThat(dataFetcher).isInstanceOf(ContextFreeDataFetcher.class);
+	}
+
 	@Test
 	void returnAbortExecutionForBlockingDataFetcherWhenRequestCancelled() throws Exception {
 		GraphQL graphQl = GraphQlSetup.schemaContent(SCHEMA_CONTENT)
@@ -18,10 +18,16 @@ package org.springframework.graphql.execution;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.GraphQLError;
 import graphql.GraphqlErrorBuilder;
+import graphql.execution.DataFetcherExceptionHandlerParameters;
+import graphql.execution.DataFetcherExceptionHandlerResult;
+import graphql.schema.DataFetchingEnvironmentImpl;
 import io.micrometer.context.ContextRegistry;
 import io.micrometer.context.ContextSnapshot;
 import io.micrometer.context.ContextSnapshotFactory;
@@ -70,6 +76,25 @@ class ExceptionResolversExceptionHandlerTests {
 		assertThat(greeting).isNull();
 	}
 
+	@Test
+	void resolveExceptionSynchronously() {
+		DataFetcherExceptionResolver resolver =
+				DataFetcherExceptionResolver.forSingleError((ex, env) ->
+						GraphqlErrorBuilder.newError().message("Resolved error: " + ex.getMessage()).build());
+
+		DataFetcherExceptionHandlerParameters parameters = DataFetcherExceptionHandlerParameters.newExceptionParameters()
+				.dataFetchingEnvironment(DataFetchingEnvironmentImpl.newDataFetchingEnvironment().build())
+				.exception(new IllegalArgumentException("Invalid greeting"))
+				.build();
+
+		CompletableFuture<DataFetcherExceptionHandlerResult> future =
+				DataFetcherExceptionResolver.createExceptionHandler(List.of(resolver)).handleException(parameters);
+
+		assertThat(future).isCompleted();
+		assertThat(future.join().getErrors()).extracting(GraphQLError::getMessage)
+				.containsExactly("Resolved error: Invalid greeting");
+	}
+
 	@Test
 	void resolveExceptionWithReactorContext() throws Exception {
 		DataFetcherExceptionResolver resolver =
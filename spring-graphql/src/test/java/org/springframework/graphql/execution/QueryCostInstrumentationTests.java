@@ -0,0 +1,112 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.execution;
+
+import java.util.List;
+import java.util.Map;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.GraphQLError;
+import graphql.schema.FieldCoordinates;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.graphql.GraphQlSetup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QueryCostInstrumentation}.
+ *
+ * @author Rossen Stoyanchev
+ */
+class QueryCostInstrumentationTests {
+
+	private static final String SCHEMA = """
+			type Query { books(first: Int): [Book] }
+			type Book { title: String, authors(first: Int): [Author] }
+			type Author { name: String }
+			""";
+
+	// books: 1 + 10 * (title: 1 + authors: (1 + 5 * name: 1)) = 71, depth 3
+	private static final String QUERY = "{ books(first: 10) { title authors(first: 5) { name } } }";
+
+
+	private final QueryCostInstrumentation instrumentation = new QueryCostInstrumentation();
+
+
+	@Test
+	void maxCost() {
+		this.instrumentation.setMaxCost(71);
+		assertThat(execute(QUERY).getErrors()).isEmpty();
+
+		this.instrumentation.setMaxCost(70);
+		assertThat(execute(QUERY).getErrors()).extracting(GraphQLError::getMessage)
+				.containsExactly("Operation cost 71 exceeds the maximum cost of 70");
+	}
+
+	@Test
+	void maxDepth() {
+		this.instrumentation.setMaxDepth(3);
+		assertThat(execute(QUERY).getErrors()).isEmpty();
+
+		this.instrumentation.setMaxDepth(2);
+		assertThat(execute(QUERY).getErrors()).extracting(GraphQLError::getMessage)
+				.containsExactly("Operation depth 3 exceeds the maximum depth of 2");
+	}
+
+	@Test
+	void fieldCost() {
+		this.instrumentation.setFieldCost(FieldCoordinates.coordinates("Book", "authors"), 10);
+		this.instrumentation.setMaxCost(160);
+
+		assertThat(execute(QUERY).getErrors()).extracting(GraphQLError::getMessage)
+				.containsExactly("Operation cost 161 exceeds the maximum cost of 160");
+	}
+
+	@Test
+	void costRateLimit() {
+		this.instrumentation.setCostRateLimit(1, 100);
+		this.instrumentation.setClientKeyResolver((input) -> input.getGraphQLContext().get("client"));
+
+		assertThat(execute(QUERY, "client1").getErrors()).isEmpty();
+		assertThat(execute(QUERY, "client1").getErrors()).extracting(GraphQLError::getMessage)
+				.containsExactly("Operation cost 71 exceeds the remaining cost rate limit");
+
+		assertThat(execute(QUERY, "client2").getErrors()).isEmpty();
+	}
+
+	private ExecutionResult execute(String query) {
+		return execute(query, null);
+	}
+
+	private ExecutionResult execute(String query, @Nullable String client) {
+		GraphQL graphQl = GraphQlSetup.schemaContent(SCHEMA)
+				.queryFetcher("books", (env) -> List.of(Map.of("title", "Nineteen Eighty-Four")))
+				.instrumentation(this.instrumentation)
+				.toGraphQl();
+
+		ExecutionInput.Builder builder = ExecutionInput.newExecutionInput().query(query);
+		if (client != null) {
+			builder.graphQLContext(Map.of("client", client));
+		}
+		return graphQl.execute(builder.build());
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.observation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.dataloader.DataLoader;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.graphql.Author;
+import org.springframework.graphql.Book;
+import org.springframework.graphql.BookSource;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.GraphQlSetup;
+import org.springframework.graphql.ResponseHelper;
+import org.springframework.graphql.TestExecutionGraphQlService;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link GraphQlMetricsInstrumentation}.
+ *
+ * @author Rossen Stoyanchev
+ */
+class GraphQlMetricsInstrumentationTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+
+	@Test
+	void fieldFetchTimers() {
+		Mono<ExecutionGraphQlResponse> responseMono = GraphQlSetup.schemaResource(BookSource.schema)
+				.instrumentation(new GraphQlMetricsInstrumentation(this.meterRegistry))
+				.queryFetcher("books", (env) -> BookSource.books())
+				.dataFetcher("Book", "author", (env) -> BookSource.getAuthor(101L))
+				.toGraphQlService()
+				.execute("{ books { name author { firstName } } }");
+
+		ResponseHelper.forResponse(responseMono);
+
+		assertThat(this.meterRegistry.get("graphql.field.fetch")
+				.tag("graphql.field.coordinate", "Query.books").timer().count()).isEqualTo(1);
+		assertThat(this.meterRegistry.get("graphql.field.fetch")
+				.tag("graphql.field.coordinate", "Book.author").timer().count()).isEqualTo(BookSource.books().size());
+		assertThat(this.meterRegistry.find("graphql.field.fetch")
+				.tag("graphql.field.coordinate", "Book.name").timer()).isNull();
+	}
+
+	@Test
+	void maxFieldCoordinates() {
+		Mono<ExecutionGraphQlResponse> responseMono = GraphQlSetup.schemaResource(BookSource.schema)
+				.instrumentation(new GraphQlMetricsInstrumentation(this.meterRegistry, 1))
+				.queryFetcher("books", (env) -> BookSource.books())
+				.dataFetcher("Book", "author", (env) -> BookSource.getAuthor(101L))
+				.toGraphQlService()
+				.execute("{ books { author { firstName } } }");
+
+		ResponseHelper.forResponse(responseMono);
+
+		assertThat(this.meterRegistry.find("graphql.field.fetch").timers()).hasSize(1);
+	}
+
+	@Test
+	void maxFieldCoordinatesWithConcurrentRequests() throws Exception {
+		TestExecutionGraphQlService service = GraphQlSetup.schemaResource(BookSource.schema)
+				.instrumentation(new GraphQlMetricsInstrumentation(this.meterRegistry, 1))
+				.queryFetcher("books", (env) -> BookSource.books())
+				.queryFetcher("bookById", (env) -> BookSource.getBook(1L))
+				.dataFetcher("Book", "author", (env) -> BookSource.getAuthor(101L))
+				.toGraphQlService();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<ExecutionGraphQlResponse>> tasks = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				String document = (i % 2 == 0) ?
+						"{ books { author { firstName } } }" : "{ bookById(id: 1) { author { firstName } } }";
+				tasks.add(() -> service.execute(document).block());
+			}
+			for (Future<ExecutionGraphQlResponse> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertThat(this.meterRegistry.find("graphql.field.fetch").timers()).hasSize(1);
+	}
+
+	@Test
+	void dataLoaderMeters() {
+		BatchLoaderRegistry batchLoaderRegistry = new DefaultBatchLoaderRegistry();
+		batchLoaderRegistry.forTypePair(Long.class, Author.class)
+				.registerBatchLoader((ids, env) -> Flux.fromIterable(ids).map(BookSource::getAuthor));
+
+		Mono<ExecutionGraphQlResponse> responseMono = GraphQlSetup.schemaResource(BookSource.schema)
+				.instrumentation(new GraphQlMetricsInstrumentation(this.meterRegistry))
+				.queryFetcher("books", (env) -> BookSource.books())
+				.dataFetcher("Book", "author", (env) -> {
+					DataLoader<Long, Author> dataLoader = env.getDataLoader(Author.class.getName());
+					return dataLoader.load(env.<Book>getSource().getAuthorId());
+				})
+				.dataLoaders(batchLoaderRegistry)
+				.toGraphQlService()
+				.execute("{ books { author { firstName } } }");
+
+		List<Book> books = ResponseHelper.forResponse(responseMono).toList("books", Book.class);
+		assertThat(books).hasSize(BookSource.books().size());
+
+		String loaderName = Author.class.getName();
+		assertThat(this.meterRegistry.get("graphql.dataloader.batch")
+				.tag("graphql.loader.name", loaderName).timer().count()).isEqualTo(1);
+		assertThat(this.meterRegistry.get("graphql.dataloader.batch.size")
+				.tag("graphql.loader.name", loaderName).summary().totalAmount())
+				.isEqualTo(BookSource.books().stream().map(Book::getAuthorId).distinct().count());
+	}
+
+}
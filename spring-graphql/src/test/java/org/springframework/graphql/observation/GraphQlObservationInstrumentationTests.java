@@ -29,6 +29,7 @@ import graphql.schema.AsyncDataFetcher;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationHandler;
 import io.micrometer.observation.ObservationRegistry;
@@ -170,6 +171,67 @@ class GraphQlObservationInstrumentationTests {
 				.hasAnObservationWithAKeyValue("graphql.field.path", "/bookById/author");
 	}
 
+	@Test
+	void aggregateDataFetcherObservations() {
+		String document = """
+				{
+					bookById(id: 1) {
+						author {
+							firstName,
+							lastName
+						}
+					}
+				}
+				""";
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		this.instrumentation.setAggregateDataFetcherObservations(meterRegistry);
+		Mono<ExecutionGraphQlResponse> responseMono = graphQlSetup
+				.queryFetcher("bookById", env -> BookSource.getBookWithoutAuthor(1L))
+				.dataFetcher("Book", "author", env -> BookSource.getAuthor(101L))
+				.toGraphQlService()
+				.execute(document);
+		ResponseHelper.forResponse(responseMono);
+
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+				.hasNumberOfObservationsWithNameEqualTo("graphql.datafetcher", 0)
+				.hasNumberOfObservationsWithNameEqualTo("graphql.request", 1);
+
+		assertThat(meterRegistry.get("graphql.datafetcher.aggregated")
+				.tags("graphql.field.coordinate", "Query.bookById", "graphql.outcome", "SUCCESS")
+				.timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("graphql.datafetcher.aggregated")
+				.tags("graphql.field.coordinate", "Book.author", "graphql.outcome", "SUCCESS")
+				.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void dataFetcherObservationsNotSampled() {
+		this.instrumentation.setDataFetcherSampleRate(0);
+		Mono<ExecutionGraphQlResponse> responseMono = graphQlSetup
+				.queryFetcher("bookById", env -> BookSource.getBookWithoutAuthor(1L))
+				.toGraphQlService()
+				.execute("{ bookById(id: 1) { name } }");
+		ResponseHelper.forResponse(responseMono);
+
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+				.hasNumberOfObservationsWithNameEqualTo("graphql.request", 1)
+				.hasNumberOfObservationsWithNameEqualTo("graphql.datafetcher", 0);
+	}
+
+	@Test
+	void dataFetcherObservationsRateLimited() {
+		this.instrumentation.setDataFetcherObservationsPerSecond(1);
+		Mono<ExecutionGraphQlResponse> responseMono = graphQlSetup
+				.queryFetcher("books", env -> BookSource.books())
+				.dataFetcher("Book", "author", env -> BookSource.getAuthor(101L))
+				.toGraphQlService()
+				.execute("{ books { author { firstName } } }");
+		ResponseHelper.forResponse(responseMono);
+
+		TestObservationRegistryAssert.assertThat(this.observationRegistry)
+				.hasNumberOfObservationsWithNameEqualTo("graphql.datafetcher", 2);
+	}
+
 	@ParameterizedTest
 	@MethodSource("failureDataFetchers")
 	void instrumentGraphQlRequestWhenDataFetchingFailure(DataFetcher<?> dataFetcher) {
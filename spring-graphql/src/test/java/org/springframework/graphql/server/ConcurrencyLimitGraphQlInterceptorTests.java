@@ -0,0 +1,132 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server;
+
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.support.DefaultExecutionGraphQlResponse;
+import org.springframework.graphql.support.DefaultGraphQlRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConcurrencyLimitGraphQlInterceptor}.
+ *
+ * @author Rossen Stoyanchev
+ */
+class ConcurrencyLimitGraphQlInterceptorTests {
+
+	@Test
+	void rejectWhenLimitReached() {
+		ConcurrencyLimitGraphQlInterceptor interceptor = new ConcurrencyLimitGraphQlInterceptor(1, 1, 1);
+		TestChain chain = new TestChain();
+
+		StepVerifier.create(interceptor.intercept(createRequest(), chain))
+				.then(() -> {
+					assertThat(interceptor.getInFlight()).isEqualTo(1);
+
+					WebGraphQlResponse rejected = interceptor.intercept(createRequest(), new TestChain()).block();
+					assertThat(rejected).isNotNull();
+					assertThat(rejected.getErrors()).hasSize(1);
+					assertThat(rejected.getErrors().get(0).getMessage())
+							.isEqualTo("Request rejected due to server overload, retry later");
+					assertThat(rejected.getErrors().get(0).getErrorType()).hasToString("SERVICE_UNAVAILABLE");
+					assertThat(rejected.getResponseStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+					assertThat(rejected.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+					chain.complete();
+				})
+				.assertNext((response) -> assertThat(response.getErrors()).isEmpty())
+				.verifyComplete();
+
+		assertThat(interceptor.getInFlight()).isEqualTo(0);
+	}
+
+	@Test
+	void reservePriorityShare() {
+		ConcurrencyLimitGraphQlInterceptor interceptor = new ConcurrencyLimitGraphQlInterceptor(2, 1, 2);
+		interceptor.setPriorityRequestPredicate((request) -> request.getDocument().startsWith("mutation"));
+		interceptor.setReservedPriorityShare(0.5);
+
+		TestChain chain = new TestChain();
+		interceptor.intercept(createRequest(), chain).subscribe();
+
+		WebGraphQlResponse response = interceptor.intercept(createRequest(), new TestChain()).block();
+		assertThat(response).isNotNull();
+		assertThat(response.getErrors()).hasSize(1);
+
+		TestChain priorityChain = new TestChain();
+		interceptor.intercept(createRequest("mutation { greeting }"), priorityChain).subscribe();
+		assertThat(interceptor.getInFlight()).isEqualTo(2);
+
+		chain.complete();
+		priorityChain.complete();
+		assertThat(interceptor.getInFlight()).isEqualTo(0);
+	}
+
+	@Test
+	void retryAfterRoundedUp() {
+		ConcurrencyLimitGraphQlInterceptor interceptor = new ConcurrencyLimitGraphQlInterceptor(1, 1, 1);
+		interceptor.setRetryAfter(Duration.ofMillis(1500));
+		interceptor.intercept(createRequest(), new TestChain()).subscribe();
+
+		WebGraphQlResponse response = interceptor.intercept(createRequest(), new TestChain()).block();
+		assertThat(response).isNotNull();
+		assertThat(response.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+	}
+
+	private WebGraphQlRequest createRequest() {
+		return createRequest("{ greeting }");
+	}
+
+	private WebGraphQlRequest createRequest(String document) {
+		return new WebGraphQlRequest(URI.create("https://localhost/graphql"), new HttpHeaders(),
+				null, null, Map.of(), new DefaultGraphQlRequest(document), "id", null);
+	}
+
+
+	private static class TestChain implements WebGraphQlInterceptor.Chain {
+
+		private final Sinks.Empty<Void> completion = Sinks.empty();
+
+		void complete() {
+			this.completion.tryEmitEmpty();
+		}
+
+		@Override
+		public Mono<WebGraphQlResponse> next(WebGraphQlRequest request) {
+			ExecutionInput executionInput = ExecutionInput.newExecutionInput().query(request.getDocument()).build();
+			ExecutionResult executionResult = ExecutionResult.newExecutionResult().data("Hello World").build();
+			ExecutionGraphQlResponse response = new DefaultExecutionGraphQlResponse(executionInput, executionResult);
+			return this.completion.asMono().then(Mono.just(new WebGraphQlResponse(response)));
+		}
+	}
+
+}
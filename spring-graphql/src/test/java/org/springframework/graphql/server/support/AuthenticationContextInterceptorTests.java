@@ -0,0 +1,117 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.graphql.server.support;
+
+import java.net.URI;
+import java.util.Collections;
+
+import graphql.GraphQLContext;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.support.DefaultGraphQlRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AuthenticationContextInterceptor}.
+ * @author Rossen Stoyanchev
+ */
+class AuthenticationContextInterceptorTests {
+
+	private final Authentication authentication = new TestingAuthenticationToken("user", "password");
+
+	private final WebGraphQlRequest request = new WebGraphQlRequest(
+			URI.create("/"), new HttpHeaders(), null, null, Collections.emptyMap(),
+			new DefaultGraphQlRequest("{ q }"), "id", null);
+
+
+	@Test
+	void authenticationFromThreadLocalContext() {
+		AuthenticationContextInterceptor interceptor = new AuthenticationContextInterceptor();
+		TestChain chain = new TestChain();
+
+		interceptor.intercept(this.request, chain)
+				.contextWrite(Context.of(SecurityContext.class.getName(), new SecurityContextImpl(this.authentication)))
+				.block();
+
+		GraphQLContext context = this.request.toExecutionInput().getGraphQLContext();
+		assertThat(context.<Authentication>get(Authentication.class)).isSameAs(this.authentication);
+		assertThat(chain.securityContext).isNotNull();
+	}
+
+	@Test
+	void authenticationFromReactiveContext() {
+		AuthenticationContextInterceptor interceptor = new AuthenticationContextInterceptor();
+
+		interceptor.intercept(this.request, new TestChain())
+				.contextWrite(ReactiveSecurityContextHolder.withAuthentication(this.authentication))
+				.block();
+
+		GraphQLContext context = this.request.toExecutionInput().getGraphQLContext();
+		assertThat(context.<Authentication>get(Authentication.class)).isSameAs(this.authentication);
+	}
+
+	@Test
+	void securityContextPropagationDisabled() {
+		AuthenticationContextInterceptor interceptor = new AuthenticationContextInterceptor();
+		interceptor.setSecurityContextPropagation(false);
+		TestChain chain = new TestChain();
+
+		interceptor.intercept(this.request, chain)
+				.contextWrite(Context.of(SecurityContext.class.getName(), new SecurityContextImpl(this.authentication)))
+				.block();
+
+		GraphQLContext context = this.request.toExecutionInput().getGraphQLContext();
+		assertThat(context.<Authentication>get(Authentication.class)).isSameAs(this.authentication);
+		assertThat(chain.securityContext).isNull();
+	}
+
+	@Test
+	void noAuthentication() {
+		new AuthenticationContextInterceptor().intercept(this.request, new TestChain()).block();
+
+		GraphQLContext context = this.request.toExecutionInput().getGraphQLContext();
+		assertThat(context.hasKey(Authentication.class)).isFalse();
+	}
+
+
+	private static final class TestChain implements WebGraphQlInterceptor.Chain {
+
+		private @Nullable Object securityContext;
+
+		@Override
+		public Mono<WebGraphQlResponse> next(WebGraphQlRequest request) {
+			return Mono.deferContextual((contextView) -> {
+				this.securityContext = contextView.getOrDefault(SecurityContext.class.getName(), null);
+				return Mono.empty();
+			});
+		}
+	}
+
+}
@@ -51,7 +51,11 @@ import org.springframework.graphql.server.WebSocketHandlerTestSupport;
 import org.springframework.graphql.server.WebSocketSessionInfo;
 import org.springframework.graphql.server.support.GraphQlWebSocketMessage;
 import org.springframework.graphql.server.support.GraphQlWebSocketMessageType;
+import org.springframework.graphql.support.DefaultGraphQlRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.JacksonCborDecoder;
+import org.springframework.http.codec.cbor.JacksonCborEncoder;
 import org.springframework.http.codec.json.JacksonJsonDecoder;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -73,6 +77,10 @@ class GraphQlWebSocketHandlerTests extends WebSocketHandlerTestSupport {
 
 	private static final JacksonJsonDecoder decoder = new JacksonJsonDecoder();
 
+	private static final JacksonCborEncoder cborEncoder = new JacksonCborEncoder();
+
+	private static final JacksonCborDecoder cborDecoder = new JacksonCborDecoder();
+
 	private static final Duration TIMEOUT = Duration.ofSeconds(5);
 
 
@@ -455,6 +463,38 @@ class GraphQlWebSocketHandlerTests extends WebSocketHandlerTestSupport {
 		assertThat(reflection.onMethodInvocation(GraphQlWebSocketMessage.class, "setPayload")).accepts(runtimeHints);
 	}
 
+	@Test
+	void queryWithCbor() {
+		ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+		configurer.customCodecs().register(new JacksonCborEncoder());
+		configurer.customCodecs().register(new JacksonCborDecoder());
+
+		GraphQlWebSocketHandler handler = new GraphQlWebSocketHandler(initHandler(), configurer, Duration.ofSeconds(60));
+		assertThat(handler.getSubProtocols()).contains("graphql-transport-ws+cbor");
+
+		TestWebSocketSession session = new TestWebSocketSession(Flux.just(
+				toCborMessage(GraphQlWebSocketMessage.connectionInit(null)),
+				toCborMessage(GraphQlWebSocketMessage.subscribe(SUBSCRIPTION_ID,
+						new DefaultGraphQlRequest("{ bookById(id: \"1\") { name } }")))),
+				"graphql-transport-ws+cbor");
+
+		handler.handle(session).block(TIMEOUT);
+
+		StepVerifier.create(session.getOutput().map(this::decodeCbor))
+				.consumeNextWith((message) -> assertThat(message.resolvedType()).isEqualTo(CONNECTION_ACK))
+				.consumeNextWith((message) -> {
+					assertThat(message.resolvedType()).isEqualTo(GraphQlWebSocketMessageType.NEXT);
+					assertThat(message.<Map<String, Object>>getPayload())
+							.extractingByKey("data", as(InstanceOfAssertFactories.map(String.class, Object.class)))
+							.extractingByKey("bookById", as(InstanceOfAssertFactories.map(String.class, Object.class)))
+							.containsEntry("name", "Nineteen Eighty-Four");
+				})
+				.consumeNextWith((message) -> assertThat(message.resolvedType())
+						.isEqualTo(GraphQlWebSocketMessageType.COMPLETE))
+				.expectComplete()
+				.verify(TIMEOUT);
+	}
+
 	private TestWebSocketSession handle(Flux<WebSocketMessage> input, WebGraphQlInterceptor... interceptors) {
 		GraphQlWebSocketHandler handler = new GraphQlWebSocketHandler(
 				initHandler(interceptors),
@@ -471,6 +511,19 @@ class GraphQlWebSocketHandlerTests extends WebSocketHandlerTestSupport {
 		return new WebSocketMessage(WebSocketMessage.Type.TEXT, buffer);
 	}
 
+	private static WebSocketMessage toCborMessage(GraphQlWebSocketMessage message) {
+		DataBuffer buffer = cborEncoder.encodeValue(message, DefaultDataBufferFactory.sharedInstance,
+				ResolvableType.forClass(GraphQlWebSocketMessage.class), MediaType.APPLICATION_CBOR, null);
+		return new WebSocketMessage(WebSocketMessage.Type.BINARY, buffer);
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	private GraphQlWebSocketMessage decodeCbor(WebSocketMessage message) {
+		assertThat(message.getType()).isEqualTo(WebSocketMessage.Type.BINARY);
+		return (GraphQlWebSocketMessage) cborDecoder.decode(DataBufferUtils.retain(message.getPayload()),
+				ResolvableType.forClass(GraphQlWebSocketMessage.class), MediaType.APPLICATION_CBOR, null);
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	private GraphQlWebSocketMessage decode(WebSocketMessage message) {
 		return (GraphQlWebSocketMessage) decoder.decode(DataBufferUtils.retain(message.getPayload()),
@@ -18,6 +18,7 @@ package org.springframework.graphql.server.webflux;
 
 import java.net.URI;
 
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -46,8 +47,16 @@ class TestWebSocketSession extends AbstractWebSocketSession<Object> {
 		this("1", URI.create("https://example.org/graphql"), input);
 	}
 
+	TestWebSocketSession(Flux<WebSocketMessage> input, @Nullable String subProtocol) {
+		this("1", URI.create("https://example.org/graphql"), subProtocol, input);
+	}
+
 	TestWebSocketSession(String id, URI uri, Flux<WebSocketMessage> input) {
-		super(new Object(), id, new HandshakeInfo(uri, new HttpHeaders(), Mono.empty(), null),
+		this(id, uri, null, input);
+	}
+
+	private TestWebSocketSession(String id, URI uri, @Nullable String subProtocol, Flux<WebSocketMessage> input) {
+		super(new Object(), id, new HandshakeInfo(uri, new HttpHeaders(), Mono.empty(), subProtocol),
 				DefaultDataBufferFactory.sharedInstance);
 		this.input = input;
 	}
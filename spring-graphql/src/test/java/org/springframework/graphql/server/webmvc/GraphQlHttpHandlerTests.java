@@ -37,6 +37,7 @@ import org.springframework.graphql.GraphQlSetup;
 import org.springframework.graphql.MediaTypes;
 import org.springframework.graphql.server.WebGraphQlHandler;
 import org.springframework.graphql.server.support.SerializableGraphQlRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -104,6 +105,19 @@ class GraphQlHttpHandlerTests {
 		assertThat(servletResponse.getContentType()).isEqualTo("application/json");
 	}
 
+	@Test
+	void shouldUseResponseStatusFromInterceptor() throws Exception {
+		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
+				.queryFetcher("greeting", (env) -> "Hello")
+				.interceptor((request, chain) -> chain.next(request).doOnNext((response) ->
+						response.setResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)))
+				.toHttpHandler();
+
+		MockHttpServletRequest request = createServletRequest("{ greeting }", "application/json");
+		MockHttpServletResponse response = handleRequest(request, handler);
+		assertThat(response.getStatus()).isEqualTo(503);
+	}
+
 	@Test
 	void locale() throws Exception {
 		GraphQlHttpHandler handler = GraphQlSetup.schemaContent("type Query { greeting: String }")
@@ -128,6 +128,11 @@ public final class GraphQlSetup implements GraphQlServiceSetup {
 		return this;
 	}
 
+	public GraphQlSetup reuseContextSnapshot(boolean reuse) {
+		this.graphQlSourceBuilder.reuseContextSnapshot(reuse);
+		return this;
+	}
+
 	public GraphQlSetup typeResolver(TypeResolver typeResolver) {
 		this.graphQlSourceBuilder.defaultTypeResolver(typeResolver);
 		return this;